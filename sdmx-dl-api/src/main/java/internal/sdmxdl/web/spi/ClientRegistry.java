@@ -0,0 +1,135 @@
+package internal.sdmxdl.web.spi;
+
+import lombok.NonNull;
+import nbbrd.design.ThreadSafe;
+import sdmxdl.web.WebSource;
+import sdmxdl.web.spi.ClientStats;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Registry of long-lived clients by source and type.
+ * The clients of a source are kept while it is leased, typically by an open connection.
+ * Clients that are not used during the idle timeout afterward are released and closed if they are {@link AutoCloseable}.
+ * Note that releasing a client that is not closeable, such as the default HTTP client of the RI, only drops its reference.
+ */
+@ThreadSafe
+@lombok.extern.java.Log
+@lombok.RequiredArgsConstructor
+public final class ClientRegistry {
+
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private final @NonNull Duration idleTimeout;
+
+    private final @NonNull Clock clock;
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Map<WebSource, Integer> leases = new HashMap<>();
+
+    private final AtomicLong createdCount = new AtomicLong();
+
+    private final AtomicLong reusedCount = new AtomicLong();
+
+    private final AtomicLong closedCount = new AtomicLong();
+
+    public <T> @NonNull T get(@NonNull WebSource source, @NonNull Class<T> type, @NonNull Function<? super WebSource, ? extends T> factory) {
+        long now = clock.millis();
+        releaseIdleEntries(now);
+        Entry created = null;
+        Entry entry = entries.get(new Key(source, type));
+        if (entry == null) {
+            created = new Entry(factory.apply(source), new AtomicLong(now));
+            entry = entries.putIfAbsent(new Key(source, type), created);
+        }
+        if (entry == null) {
+            createdCount.incrementAndGet();
+            entry = created;
+        } else {
+            reusedCount.incrementAndGet();
+            entry.getLastAccess().set(now);
+            if (created != null) close(created.getValue());
+        }
+        return type.cast(entry.getValue());
+    }
+
+    /**
+     * Leases the clients of a source so that they are not released until the lease is closed.
+     *
+     * @param source a non-null source
+     * @return a non-null lease that can be closed several times
+     */
+    public synchronized @NonNull Closeable lease(@NonNull WebSource source) {
+        leases.merge(source, 1, Integer::sum);
+        AtomicBoolean closed = new AtomicBoolean();
+        return () -> {
+            if (closed.compareAndSet(false, true)) {
+                unlease(source);
+            }
+        };
+    }
+
+    public @NonNull ClientStats getStats() {
+        releaseIdleEntries(clock.millis());
+        return new ClientStats(createdCount.get(), reusedCount.get(), closedCount.get(), entries.size());
+    }
+
+    private synchronized void unlease(WebSource source) {
+        long now = clock.millis();
+        leases.computeIfPresent(source, (key, count) -> count == 1 ? null : count - 1);
+        // the idle timeout of a client starts when it is no longer leased
+        entries.forEach((key, entry) -> {
+            if (key.getSource().equals(source)) {
+                entry.getLastAccess().set(now);
+            }
+        });
+        releaseIdleEntries(now);
+    }
+
+    private synchronized void releaseIdleEntries(long now) {
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> item = iterator.next();
+            Entry entry = item.getValue();
+            if (!leases.containsKey(item.getKey().getSource()) && now - entry.getLastAccess().get() >= idleTimeout.toMillis()) {
+                iterator.remove();
+                close(entry.getValue());
+            }
+        }
+    }
+
+    private void close(Object value) {
+        closedCount.incrementAndGet();
+        if (value instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) value).close();
+            } catch (Exception ex) {
+                log.log(Level.WARNING, "While closing idle client", ex);
+            }
+        }
+    }
+
+    @lombok.Value
+    private static class Key {
+        WebSource source;
+        Class<?> type;
+    }
+
+    @lombok.Value
+    private static class Entry {
+        Object value;
+        AtomicLong lastAccess;
+    }
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package sdmxdl;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import nbbrd.design.NonNegative;
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Columnar alternative to {@link Series} intended for large datasets.
+ * <p>
+ * Observations share a single duration and are stored as primitive columns:
+ * period starts as seconds since epoch (UTC), values as doubles
+ * and attributes as dictionary-encoded columns.
+ * Observations are sorted chronologically like in {@link Series}
+ * and are only converted to {@link Obs} when requested.
+ */
+@lombok.EqualsAndHashCode
+@lombok.ToString(onlyExplicitlyIncluded = true)
+@lombok.AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompactSeries {
+
+    @lombok.ToString.Include
+    @lombok.Getter
+    private final @NonNull Key key;
+
+    @lombok.ToString.Include
+    @lombok.Getter
+    private final @NonNull Map<String, String> meta;
+
+    /**
+     * Duration shared by all the periods of this series.
+     */
+    @lombok.ToString.Include
+    @lombok.Getter
+    private final @NonNull Duration duration;
+
+    private final long[] startEpochSeconds;
+
+    private final double[] values;
+
+    private final String[] attributeKeys;
+
+    private final String[][] attributeDictionaries;
+
+    private final int[][] attributeCodes;
+
+    @lombok.ToString.Include
+    public @NonNegative int size() {
+        return values.length;
+    }
+
+    public long getStartEpochSecond(@NonNegative int index) throws IndexOutOfBoundsException {
+        return startEpochSeconds[index];
+    }
+
+    public @NonNull LocalDateTime getStart(@NonNegative int index) throws IndexOutOfBoundsException {
+        return LocalDateTime.ofEpochSecond(startEpochSeconds[index], 0, ZoneOffset.UTC);
+    }
+
+    public @NonNull TimeInterval getPeriod(@NonNegative int index) throws IndexOutOfBoundsException {
+        return TimeInterval.of(getStart(index), duration);
+    }
+
+    public double getValue(@NonNegative int index) throws IndexOutOfBoundsException {
+        return values[index];
+    }
+
+    /**
+     * Gets the keys of the attributes used by at least one observation.
+     *
+     * @return a non-null sorted set
+     */
+    public @NonNull SortedSet<String> getObsAttributeKeys() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(Arrays.asList(attributeKeys)));
+    }
+
+    public @Nullable String getObsAttribute(@NonNegative int index, @NonNull String key) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        int column = Arrays.binarySearch(attributeKeys, key);
+        return column >= 0 ? decode(column, index) : null;
+    }
+
+    public @NonNull Map<String, String> getObsAttributes(@NonNegative int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        Map<String, String> result = null;
+        for (int column = 0; column < attributeKeys.length; column++) {
+            String value = decode(column, index);
+            if (value != null) {
+                if (result == null) {
+                    result = new LinkedHashMap<>();
+                }
+                result.put(attributeKeys[column], value);
+            }
+        }
+        return result != null ? Collections.unmodifiableMap(result) : Collections.emptyMap();
+    }
+
+    public @NonNull Obs getObs(@NonNegative int index) throws IndexOutOfBoundsException {
+        return Obs
+                .builder()
+                .period(getPeriod(index))
+                .value(getValue(index))
+                .meta(getObsAttributes(index))
+                .build();
+    }
+
+    /**
+     * Gets a read-only view of the observations that creates them on access.
+     *
+     * @return a non-null list
+     */
+    public @NonNull List<Obs> getObsList() {
+        return new ObsList();
+    }
+
+    public @NonNull Series toSeries() {
+        Series.Builder result = Series.builder().key(key).meta(meta);
+        for (int i = 0; i < size(); i++) {
+            result.obs(getObs(i));
+        }
+        return result.build();
+    }
+
+    /**
+     * Creates a compact copy of a series.
+     *
+     * @param series a non-null series
+     * @return a non-null compact series
+     * @throws IllegalArgumentException if the observations have different durations
+     *                                  or if a period starts with a fraction of second
+     */
+    public static @NonNull CompactSeries of(@NonNull Series series) throws IllegalArgumentException {
+        Builder result = builder().key(series.getKey()).meta(series.getMeta());
+        if (!series.getObs().isEmpty()) {
+            result.duration(series.getObs().first().getPeriod().getDuration());
+        }
+        series.getObs().forEach(result::obs);
+        return result.build();
+    }
+
+    /**
+     * Creates a read-only list that keeps series in a compact form and only converts them back to {@link Series} on access.
+     * Series that cannot be compacted are kept as is.
+     *
+     * @param series a non-null collection of series
+     * @return a non-null list
+     */
+    public static @NonNull List<Series> listOf(@NonNull Collection<Series> series) {
+        if (series instanceof SeriesList) {
+            return (SeriesList) series;
+        }
+        Object[] items = new Object[series.size()];
+        int index = 0;
+        for (Series item : series) {
+            items[index++] = compactOrSelf(item);
+        }
+        return new SeriesList(items);
+    }
+
+    /**
+     * Visits some series without converting the compact ones back to {@link Series}.
+     * Series of a list created by {@link #listOf(Collection)} are passed as compact series if they were compacted.
+     * Other series are passed as is.
+     *
+     * @param series    a non-null collection of series
+     * @param onCompact a non-null consumer of compact series
+     * @param onSeries  a non-null consumer of regular series
+     */
+    public static void forEach(@NonNull Collection<Series> series, @NonNull Consumer<? super CompactSeries> onCompact, @NonNull Consumer<? super Series> onSeries) {
+        if (series instanceof SeriesList) {
+            for (Object item : ((SeriesList) series).items) {
+                if (item instanceof CompactSeries) {
+                    onCompact.accept((CompactSeries) item);
+                } else {
+                    onSeries.accept((Series) item);
+                }
+            }
+        } else {
+            series.forEach(onSeries);
+        }
+    }
+
+    static boolean isCompactList(@NonNull Collection<Series> series) {
+        return series instanceof SeriesList;
+    }
+
+    public static @NonNull Builder builder() {
+        return new Builder();
+    }
+
+    private static Object compactOrSelf(Series series) {
+        try {
+            return of(series);
+        } catch (IllegalArgumentException ex) {
+            return series;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.length);
+        }
+    }
+
+    private @Nullable String decode(int column, int index) {
+        int code = attributeCodes[column][index];
+        return code != NO_CODE ? attributeDictionaries[column][code] : null;
+    }
+
+    private static final int NO_CODE = -1;
+
+    private final class ObsList extends AbstractList<Obs> implements RandomAccess {
+
+        @Override
+        public Obs get(int index) {
+            return getObs(index);
+        }
+
+        @Override
+        public int size() {
+            return CompactSeries.this.size();
+        }
+    }
+
+    @lombok.AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class SeriesList extends AbstractList<Series> implements RandomAccess {
+
+        // either compact series or series that cannot be compacted
+        private final Object[] items;
+
+        @Override
+        public Series get(int index) {
+            Object item = items[index];
+            return item instanceof CompactSeries ? ((CompactSeries) item).toSeries() : (Series) item;
+        }
+
+        @Override
+        public int size() {
+            return items.length;
+        }
+    }
+
+    public static final class Builder {
+
+        private Key key;
+        private final Map<String, String> meta = new LinkedHashMap<>();
+        private Duration duration = Duration.ZERO;
+        private long[] starts = new long[16];
+        private double[] values = new double[16];
+        private int size = 0;
+        private final Map<String, ColumnBuilder> columns = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public @NonNull Builder key(@NonNull Key key) {
+            this.key = key;
+            return this;
+        }
+
+        public @NonNull Builder meta(@NonNull String key, @NonNull String value) {
+            meta.put(key, value);
+            return this;
+        }
+
+        public @NonNull Builder meta(@NonNull Map<String, String> meta) {
+            meta.forEach(this::meta);
+            return this;
+        }
+
+        public @NonNull Builder duration(@NonNull Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public @NonNull Builder obs(@NonNull LocalDateTime start, double value) throws IllegalArgumentException {
+            return obs(start, value, Collections.emptyMap());
+        }
+
+        public @NonNull Builder obs(@NonNull LocalDateTime start, double value, @NonNull Map<String, String> attributes) throws IllegalArgumentException {
+            if (start.getNano() != 0) {
+                throw new IllegalArgumentException("Fraction of second not supported: " + start);
+            }
+            if (size == values.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            starts[size] = start.toEpochSecond(ZoneOffset.UTC);
+            values[size] = value;
+            attributes.forEach((k, v) -> columns.computeIfAbsent(k, ignore -> new ColumnBuilder()).put(size, v));
+            size++;
+            return this;
+        }
+
+        public @NonNull Builder obs(@NonNull Obs obs) throws IllegalArgumentException {
+            if (!duration.equals(obs.getPeriod().getDuration())) {
+                throw new IllegalArgumentException("Expected duration " + duration + " but was " + obs.getPeriod().getDuration());
+            }
+            return obs(obs.getPeriod().getStart(), obs.getValue(), obs.getMeta());
+        }
+
+        public @NonNull CompactSeries build() {
+            if (key == null) {
+                throw new NullPointerException("key");
+            }
+            int[] order = sortAndDeduplicate();
+            List<String> attributeKeys = new ArrayList<>();
+            List<String[]> attributeDictionaries = new ArrayList<>();
+            List<int[]> attributeCodes = new ArrayList<>();
+            columns.keySet().stream().sorted().forEach(attributeKey -> {
+                List<String> dictionary = new ArrayList<>();
+                int[] codes = columns.get(attributeKey).encode(order, dictionary);
+                if (!dictionary.isEmpty()) {
+                    attributeKeys.add(attributeKey);
+                    attributeDictionaries.add(dictionary.toArray(new String[0]));
+                    attributeCodes.add(codes);
+                }
+            });
+            long[] sortedStarts = new long[order.length];
+            double[] sortedValues = new double[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedStarts[i] = starts[order[i]];
+                sortedValues[i] = values[order[i]];
+            }
+            return new CompactSeries(
+                    key,
+                    Collections.unmodifiableMap(new LinkedHashMap<>(meta)),
+                    duration,
+                    sortedStarts,
+                    sortedValues,
+                    attributeKeys.toArray(new String[0]),
+                    attributeDictionaries.toArray(new String[0][]),
+                    attributeCodes.toArray(new int[0][]));
+        }
+
+        // same ordering and unicity as the sorted set of observations in Series
+        private int[] sortAndDeduplicate() {
+            Integer[] indexes = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                indexes[i] = i;
+            }
+            Arrays.sort(indexes, Comparator.<Integer>comparingLong(i -> starts[i]).thenComparingDouble(i -> values[i]));
+            int[] result = new int[size];
+            int count = 0;
+            for (Integer index : indexes) {
+                if (count == 0 || !isSameObs(result[count - 1], index)) {
+                    result[count++] = index;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        private boolean isSameObs(int i, int j) {
+            return starts[i] == starts[j] && Double.compare(values[i], values[j]) == 0;
+        }
+    }
+
+    private static final class ColumnBuilder {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private int[] rows = emptyRows(16);
+
+        void put(int row, String value) {
+            if (row >= rows.length) {
+                rows = newRows(rows, Math.max(row + 1, rows.length * 2));
+            }
+            rows[row] = codes.computeIfAbsent(value, ignore -> {
+                dictionary.add(value);
+                return dictionary.size() - 1;
+            });
+        }
+
+        // codes are renumbered by order of first appearance to get a canonical representation
+        int[] encode(int[] order, List<String> usedDictionary) {
+            int[] renumbering = emptyRows(dictionary.size());
+            int[] result = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                int code = order[i] < rows.length ? rows[order[i]] : NO_CODE;
+                if (code != NO_CODE && renumbering[code] == NO_CODE) {
+                    renumbering[code] = usedDictionary.size();
+                    usedDictionary.add(dictionary.get(code));
+                }
+                result[i] = code != NO_CODE ? renumbering[code] : NO_CODE;
+            }
+            return result;
+        }
+
+        private static int[] newRows(int[] rows, int length) {
+            int[] result = Arrays.copyOf(rows, length);
+            Arrays.fill(result, rows.length, length, NO_CODE);
+            return result;
+        }
+
+        private static int[] emptyRows(int length) {
+            int[] result = new int[length];
+            Arrays.fill(result, NO_CODE);
+            return result;
+        }
+    }
+}
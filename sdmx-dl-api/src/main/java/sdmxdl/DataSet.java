@@ -65,6 +65,22 @@ public class DataSet extends Resource<FlowRef> implements Iterable<Series> {
         return query.equals(Query.ALL) ? data.stream() : query.execute(data.stream());
     }
 
+    /**
+     * Creates a copy of this data set that keeps its series in a compact form.
+     * Series are created on access, which trades some CPU for a smaller footprint
+     * when the data set stays in memory.
+     *
+     * @return a non-null data set
+     * @see CompactSeries#listOf(Collection)
+     */
+    public @NonNull DataSet toCompact() {
+        return isCompact() ? this : new DataSet(ref, query, CompactSeries.listOf(data));
+    }
+
+    public boolean isCompact() {
+        return CompactSeries.isCompactList(data);
+    }
+
     public static @NonNull Collector<Series, ?, DataSet> toDataSet(@NonNull FlowRef flowRef, @NonNull Query query) {
         return collectingAndThen(toList(), newDataSet(flowRef, query));
     }
@@ -29,6 +29,21 @@ public enum Feature {
     /**
      * Describe the ability to query data with a specified detail
      */
-    DATA_QUERY_DETAIL
+    DATA_QUERY_DETAIL,
+
+    /**
+     * Describe the ability to query data within a time range of observation periods
+     */
+    DATA_QUERY_PERIOD_RANGE,
+
+    /**
+     * Describe the ability to query data with a limited number of first or last observations
+     */
+    DATA_QUERY_OBS_COUNT,
+
+    /**
+     * Describe the ability to query data that has been updated after a specified instant
+     */
+    DATA_QUERY_UPDATED_AFTER
 
 }
@@ -1,7 +1,12 @@
 package sdmxdl;
 
 import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 @lombok.Value
@@ -18,12 +23,64 @@ public class Query {
     @lombok.Builder.Default
     Detail detail = Detail.FULL;
 
+    /**
+     * Optional inclusive lower bound of the observation periods.
+     * An observation is kept if its period overlaps this bound.
+     */
+    @Nullable
+    LocalDateTime startPeriod;
+
+    /**
+     * Optional inclusive upper bound of the observation periods.
+     * An observation is kept if its period starts before or at this bound.
+     */
+    @Nullable
+    LocalDateTime endPeriod;
+
+    /**
+     * Maximum number of observations per series starting from the oldest one; zero means unbounded.
+     */
+    int firstNObservations;
+
+    /**
+     * Maximum number of observations per series counting back from the most recent one; zero means unbounded.
+     */
+    int lastNObservations;
+
+    /**
+     * Optional instant used to retrieve only the observations that have been added or revised after it.
+     * This is a hint for the data provider: it is ignored when the query is executed locally
+     * because observations don't carry their revision time.
+     */
+    @Nullable
+    Instant updatedAfter;
+
     public @NonNull Stream<Series> execute(@NonNull Stream<Series> data) {
         return data
                 .filter(key::containsKey)
                 .map(this::map);
     }
 
+    /**
+     * Checks if an observation period is inside the time window of this query.
+     *
+     * @param period a non-null period
+     * @return true if the period overlaps the time window, false otherwise
+     */
+    public boolean containsPeriod(@NonNull TimeInterval period) {
+        return (startPeriod == null || startPeriod.isBefore(period.getStart().plus(period.getDuration())))
+                && (endPeriod == null || !endPeriod.isBefore(period.getStart()));
+    }
+
+    /**
+     * Checks if this query restricts the observations of a series by period or by count.
+     *
+     * @return true if observations are restricted, false otherwise
+     */
+    public boolean isObsRestricted() {
+        return startPeriod != null || endPeriod != null || firstNObservations > 0 || lastNObservations > 0;
+    }
+
     private Series map(Series series) {
         if (detail.isIgnoreData()) {
             if (detail.isIgnoreMeta()) {
@@ -32,11 +89,40 @@ public class Query {
                 return series.toBuilder().clearObs().build();
             }
         } else {
+            Series result = isObsRestricted() ? restrictObs(series) : series;
             if (detail.isIgnoreMeta()) {
-                return series.toBuilder().clearMeta().build();
+                return result.toBuilder().clearMeta().build();
             } else {
-                return series;
+                return result;
             }
         }
     }
+
+    private Series restrictObs(Series series) {
+        List<Obs> list = new ArrayList<>(series.getObs().size());
+        for (Obs obs : series.getObs()) {
+            if (containsPeriod(obs.getPeriod())) {
+                list.add(obs);
+            }
+        }
+        if (firstNObservations <= 0 && lastNObservations <= 0 && list.size() == series.getObs().size()) {
+            return series;
+        }
+        Series.Builder result = series.toBuilder().clearObs();
+        int size = list.size();
+        for (int i = 0; i < size; i++) {
+            if (isObsCountAccepted(i, size)) {
+                result.obs(list.get(i));
+            }
+        }
+        return result.build();
+    }
+
+    private boolean isObsCountAccepted(int index, int size) {
+        if (firstNObservations <= 0 && lastNObservations <= 0) {
+            return true;
+        }
+        return (firstNObservations > 0 && index < firstNObservations)
+                || (lastNObservations > 0 && index >= size - lastNObservations);
+    }
 }
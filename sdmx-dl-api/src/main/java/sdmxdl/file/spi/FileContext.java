@@ -1,5 +1,6 @@
 package sdmxdl.file.spi;
 
+import lombok.AccessLevel;
 import lombok.NonNull;
 import org.jspecify.annotations.Nullable;
 import sdmxdl.DataRepository;
@@ -10,6 +11,8 @@ import sdmxdl.ext.Persistence;
 import sdmxdl.file.FileSource;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 @lombok.Value
@@ -30,6 +33,11 @@ public class FileContext {
     @NonNull
     List<Persistence> persistences;
 
+    @lombok.Getter(AccessLevel.NONE)
+    @lombok.EqualsAndHashCode.Exclude
+    @lombok.ToString.Exclude
+    ConcurrentMap<FileSource, Cache<DataRepository>> readerCaches = new ConcurrentHashMap<>();
+
     public @Nullable EventListener getEventListener(@NonNull FileSource source) {
         return onEvent != null ? onEvent.apply(source) : null;
     }
@@ -38,7 +46,14 @@ public class FileContext {
         return onError != null ? onError.apply(source) : null;
     }
 
+    /**
+     * Gets the reader cache of a source.
+     * The same instance is shared by all the connections of this context so that they can coalesce their requests.
+     *
+     * @param source a non-null source
+     * @return a non-null cache
+     */
     public @NonNull Cache<DataRepository> getReaderCache(@NonNull FileSource source) {
-        return caching.getReaderCache(source, persistences, getEventListener(source), getErrorListener(source));
+        return readerCaches.computeIfAbsent(source, o -> caching.getReaderCache(o, persistences, getEventListener(o), getErrorListener(o)));
     }
 }
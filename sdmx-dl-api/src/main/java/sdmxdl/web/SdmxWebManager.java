@@ -165,6 +165,10 @@ public class SdmxWebManager extends SdmxManager<WebSource> {
         return monitor.getReport(source, getContext());
     }
 
+    public @NonNull ClientStats getClientStats() {
+        return getContext().getClientStats();
+    }
+
     public @NonNull Provider<WebSource> usingName(@NonNull String name) throws IOException {
         return using(lookupSource(name)
                 .orElseThrow(() -> newMissingSource(name)));
@@ -0,0 +1,34 @@
+package sdmxdl.web.spi;
+
+import lombok.NonNull;
+
+/**
+ * Usage statistics of the long-lived clients shared by the connections of a context.
+ */
+@lombok.Value
+public class ClientStats {
+
+    /**
+     * Number of clients that have been created, implying new handshakes.
+     */
+    long createdCount;
+
+    /**
+     * Number of times an existing client has been reused.
+     */
+    long reusedCount;
+
+    /**
+     * Number of clients that have been released after being idle.
+     */
+    long closedCount;
+
+    /**
+     * Number of clients currently alive.
+     */
+    int size;
+
+    public @NonNull String toShortString() {
+        return "created=" + createdCount + ", reused=" + reusedCount + ", closed=" + closedCount + ", alive=" + size;
+    }
+}
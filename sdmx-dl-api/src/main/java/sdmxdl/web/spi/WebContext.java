@@ -16,6 +16,8 @@
  */
 package sdmxdl.web.spi;
 
+import internal.sdmxdl.web.spi.ClientRegistry;
+import lombok.AccessLevel;
 import lombok.NonNull;
 import org.jspecify.annotations.Nullable;
 import sdmxdl.DataRepository;
@@ -26,6 +28,8 @@ import sdmxdl.ext.Persistence;
 import sdmxdl.web.MonitorReports;
 import sdmxdl.web.WebSource;
 
+import java.io.Closeable;
+import java.time.Clock;
 import java.util.List;
 import java.util.function.Function;
 
@@ -58,6 +62,12 @@ public class WebContext {
     @NonNull
     Networking networking = Networking.getDefault();
 
+    // NB: not part of the builder since the registry is not exported
+    @lombok.Getter(AccessLevel.NONE)
+    @lombok.EqualsAndHashCode.Exclude
+    @lombok.ToString.Exclude
+    ClientRegistry clients = new ClientRegistry(ClientRegistry.DEFAULT_IDLE_TIMEOUT, Clock.systemUTC());
+
     public @Nullable EventListener getEventListener(@NonNull WebSource source) {
         return onEvent != null ? onEvent.apply(source) : null;
     }
@@ -66,8 +76,15 @@ public class WebContext {
         return onError != null ? onError.apply(source) : null;
     }
 
+    /**
+     * Gets the driver cache of a source.
+     * The same instance is shared by all the connections of this context so that they can coalesce their requests.
+     *
+     * @param source a non-null source
+     * @return a non-null cache
+     */
     public @NonNull Cache<DataRepository> getDriverCache(@NonNull WebSource source) {
-        return caching.getDriverCache(source, persistences, getEventListener(source), getErrorListener(source));
+        return getClient(source, DriverCache.class, o -> new DriverCache(caching.getDriverCache(o, persistences, getEventListener(o), getErrorListener(o)))).getCache();
     }
 
     public @NonNull Cache<MonitorReports> getMonitorCache(@NonNull WebSource source) {
@@ -75,6 +92,40 @@ public class WebContext {
     }
 
     public @NonNull Network getNetwork(@NonNull WebSource source) {
-        return networking.getNetwork(source, getEventListener(source), getErrorListener(source));
+        return getClient(source, Network.class, o -> networking.getNetwork(o, getEventListener(o), getErrorListener(o)));
+    }
+
+    /**
+     * Gets a long-lived client of a source, creating it if needed.
+     * Clients are shared by all the connections of this context and released when idle.
+     * They should be used while the source is leased by {@link #leaseClients(WebSource)}.
+     *
+     * @param source  a non-null source
+     * @param type    a non-null client type
+     * @param factory a non-null function that creates a new client
+     * @param <T>     the type of client
+     * @return a non-null client
+     */
+    public <T> @NonNull T getClient(@NonNull WebSource source, @NonNull Class<T> type, @NonNull Function<? super WebSource, ? extends T> factory) {
+        return clients.get(source, type, factory);
+    }
+
+    /**
+     * Leases the long-lived clients of a source so that they are not released while in use.
+     *
+     * @param source a non-null source
+     * @return a non-null lease to be closed once the clients are no longer used
+     */
+    public @NonNull Closeable leaseClients(@NonNull WebSource source) {
+        return clients.lease(source);
+    }
+
+    public @NonNull ClientStats getClientStats() {
+        return clients.getStats();
+    }
+
+    @lombok.Value
+    private static class DriverCache {
+        Cache<DataRepository> cache;
     }
 }
@@ -0,0 +1,84 @@
+package internal.sdmxdl.web.spi;
+
+import org.junit.jupiter.api.Test;
+import sdmxdl.web.WebSource;
+import sdmxdl.web.spi.ClientStats;
+import tests.sdmxdl.ext.FakeClock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientRegistryTest {
+
+    @Test
+    public void testGet() {
+        FakeClock clock = new FakeClock().set(0);
+        ClientRegistry x = new ClientRegistry(Duration.ofMillis(10), clock);
+
+        WebSource s1 = WebSource.builder().id("s1").driver("d").endpointOf("http://localhost/s1").build();
+        WebSource s2 = s1.toBuilder().id("s2").build();
+
+        AtomicInteger closed = new AtomicInteger();
+        Closeable c1 = x.get(s1, Closeable.class, source -> closed::incrementAndGet);
+        assertThat(x.get(s1, Closeable.class, source -> closed::incrementAndGet))
+                .as("Same source should reuse client")
+                .isSameAs(c1);
+        assertThat(x.get(s2, Closeable.class, source -> closed::incrementAndGet))
+                .as("Other source should create client")
+                .isNotSameAs(c1);
+        assertThat(x.getStats())
+                .isEqualTo(new ClientStats(2, 1, 0, 2));
+
+        clock.plus(9);
+        assertThat(x.get(s1, Closeable.class, source -> closed::incrementAndGet))
+                .isSameAs(c1);
+
+        clock.plus(9);
+        assertThat(closed)
+                .hasValue(0);
+        x.get(s1, Closeable.class, source -> closed::incrementAndGet);
+        assertThat(closed)
+                .as("Idle client should be closed")
+                .hasValue(1);
+        assertThat(x.getStats())
+                .isEqualTo(new ClientStats(2, 3, 1, 1));
+    }
+
+    @Test
+    public void testLease() throws IOException {
+        FakeClock clock = new FakeClock().set(0);
+        ClientRegistry x = new ClientRegistry(Duration.ofMillis(10), clock);
+
+        WebSource s1 = WebSource.builder().id("s1").driver("d").endpointOf("http://localhost/s1").build();
+
+        AtomicInteger closed = new AtomicInteger();
+        Closeable lease = x.lease(s1);
+        Closeable c1 = x.get(s1, Closeable.class, source -> closed::incrementAndGet);
+
+        clock.plus(20);
+        assertThat(x.getStats().getSize())
+                .as("Leased client should not be released")
+                .isEqualTo(1);
+        assertThat(closed)
+                .hasValue(0);
+
+        lease.close();
+        lease.close();
+        assertThat(x.getStats().getSize())
+                .as("Idle timeout should start when the lease is closed")
+                .isEqualTo(1);
+
+        clock.plus(10);
+        assertThat(x.getStats().getSize())
+                .as("Idle client should be released without calling get")
+                .isEqualTo(0);
+        assertThat(closed)
+                .hasValue(1);
+        assertThat(x.get(s1, Closeable.class, source -> closed::incrementAndGet))
+                .isNotSameAs(c1);
+    }
+}
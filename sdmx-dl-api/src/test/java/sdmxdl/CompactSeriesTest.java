@@ -0,0 +1,139 @@
+package sdmxdl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+public class CompactSeriesTest {
+
+    @Test
+    public void testOf() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> CompactSeries.of(null));
+
+        CompactSeries x = CompactSeries.of(series);
+        assertThat(x.getKey()).isEqualTo(series.getKey());
+        assertThat(x.getMeta()).isEqualTo(series.getMeta());
+        assertThat(x.getDuration()).isEqualTo(Duration.P1M);
+        assertThat(x.size()).isEqualTo(3);
+        assertThat(x.getObsList()).containsExactlyElementsOf(series.getObsList());
+        assertThat(x.toSeries()).isEqualTo(series);
+
+        assertThat(CompactSeries.of(Series.builder().key(Key.ALL).build()))
+                .returns(0, CompactSeries::size)
+                .extracting(CompactSeries::toSeries)
+                .isEqualTo(Series.builder().key(Key.ALL).build());
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> CompactSeries.of(series.toBuilder().obs(obsOf(2010, 4, 1, Duration.P1D, 4, Collections.emptyMap())).build()));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> CompactSeries.of(series.toBuilder().obs(Obs.builder().period(TimeInterval.of(LocalDateTime.of(2010, 5, 1, 0, 0, 0, 1), Duration.P1M)).build()).build()));
+    }
+
+    @Test
+    public void testColumns() {
+        CompactSeries x = CompactSeries.of(series);
+
+        assertThat(x.getStart(0)).isEqualTo(LocalDateTime.of(2010, 1, 1, 0, 0));
+        assertThat(x.getStartEpochSecond(0)).isEqualTo(1262304000L);
+        assertThat(x.getPeriod(2)).isEqualTo(TimeInterval.of(LocalDateTime.of(2010, 3, 1, 0, 0), Duration.P1M));
+        assertThat(x.getValue(1)).isEqualTo(2);
+
+        assertThat(x.getObsAttributeKeys()).containsExactly("OBS_CONF", "OBS_STATUS");
+        assertThat(x.getObsAttribute(0, "OBS_STATUS")).isEqualTo("A");
+        assertThat(x.getObsAttribute(1, "OBS_STATUS")).isNull();
+        assertThat(x.getObsAttribute(0, "OTHER")).isNull();
+        assertThat(x.getObsAttributes(1)).isEmpty();
+        assertThat(x.getObsAttributes(2)).containsOnly(entry("OBS_STATUS", "A"), entry("OBS_CONF", "F"));
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> x.getValue(3));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> x.getObsAttribute(3, "OBS_STATUS"));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> x.getObsList().get(-1));
+    }
+
+    @Test
+    public void testBuilder() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> CompactSeries.builder().build());
+
+        CompactSeries unsorted = CompactSeries
+                .builder()
+                .key(series.getKey())
+                .meta(series.getMeta())
+                .duration(Duration.P1M)
+                .obs(LocalDateTime.of(2010, 3, 1, 0, 0), 3, map("OBS_CONF", "F", "OBS_STATUS", "A"))
+                .obs(LocalDateTime.of(2010, 1, 1, 0, 0), 1, singletonMap("OBS_STATUS", "A"))
+                .obs(LocalDateTime.of(2010, 2, 1, 0, 0), 2)
+                .obs(LocalDateTime.of(2010, 1, 1, 0, 0), 1, singletonMap("OBS_STATUS", "B"))
+                .build();
+
+        assertThat(unsorted)
+                .isEqualTo(CompactSeries.of(series))
+                .hasSameHashCodeAs(CompactSeries.of(series));
+
+        assertThat(unsorted.toString())
+                .contains("size=3")
+                .doesNotContain("OBS_STATUS");
+    }
+
+    @Test
+    public void testListOf() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> CompactSeries.listOf(null));
+
+        Series mixed = series.toBuilder().key(Key.of("M", "FR")).obs(obsOf(2010, 4, 1, Duration.P1D, 4, Collections.emptyMap())).build();
+
+        List<Series> x = CompactSeries.listOf(Arrays.asList(series, mixed));
+        assertThat(x)
+                .containsExactly(series, mixed)
+                .isEqualTo(Arrays.asList(series, mixed));
+        assertThat(CompactSeries.listOf(x)).isSameAs(x);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> x.add(series));
+    }
+
+    @Test
+    public void testForEach() {
+        Series mixed = series.toBuilder().key(Key.of("M", "FR")).obs(obsOf(2010, 4, 1, Duration.P1D, 4, Collections.emptyMap())).build();
+
+        List<Object> compactList = new ArrayList<>();
+        CompactSeries.forEach(CompactSeries.listOf(Arrays.asList(series, mixed)), compactList::add, compactList::add);
+        assertThat(compactList)
+                .containsExactly(CompactSeries.of(series), mixed);
+
+        List<Object> regularList = new ArrayList<>();
+        CompactSeries.forEach(Arrays.asList(series, mixed), regularList::add, regularList::add);
+        assertThat(regularList)
+                .containsExactly(series, mixed);
+    }
+
+    private static Obs obsOf(int year, int month, int day, Duration duration, double value, Map<String, String> meta) {
+        return Obs.builder().period(TimeInterval.of(LocalDateTime.of(year, month, day, 0, 0), duration)).value(value).meta(meta).build();
+    }
+
+    private static Map<String, String> map(String k1, String v1, String k2, String v2) {
+        Map<String, String> result = new LinkedHashMap<>();
+        result.put(k1, v1);
+        result.put(k2, v2);
+        return result;
+    }
+
+    private final Series series = Series
+            .builder()
+            .key(Key.of("M", "BE"))
+            .meta("TITLE", "hello")
+            .obs(obsOf(2010, 1, 1, Duration.P1M, 1, singletonMap("OBS_STATUS", "A")))
+            .obs(obsOf(2010, 2, 1, Duration.P1M, 2, Collections.emptyMap()))
+            .obs(obsOf(2010, 3, 1, Duration.P1M, 3, map("OBS_STATUS", "A", "OBS_CONF", "F")))
+            .build();
+}
@@ -47,6 +47,18 @@ public class DataSetTest {
                 .containsExactly(series);
     }
 
+    @Test
+    public void testToCompact() {
+        DataSet x = dataSet.toCompact();
+
+        assertThat(dataSet.isCompact()).isFalse();
+        assertThat(x.isCompact()).isTrue();
+        assertThat(x.toCompact()).isSameAs(x);
+        assertThat(x).isEqualTo(dataSet);
+        assertThat(x.getDataStream(Query.builder().key(Key.of("BE")).build()))
+                .containsExactly(series);
+    }
+
     private final StructureRef goodStructRef = StructureRef.of("NBB", "goodStruct", "v1.0");
     private final StructureRef badStructRef = StructureRef.parse("badStruct");
     private final FlowRef goodFlowRef = FlowRef.of("NBB", "XYZ", "v2.0");
@@ -0,0 +1,89 @@
+package sdmxdl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@SuppressWarnings("ConstantConditions")
+public class QueryTest {
+
+    @Test
+    public void testContainsPeriod() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> Query.ALL.containsPeriod(null));
+
+        assertThat(Query.ALL.containsPeriod(jan.getPeriod())).isTrue();
+
+        Query x = Query.builder().startPeriod(LocalDateTime.of(2010, 2, 15, 0, 0)).endPeriod(LocalDateTime.of(2010, 3, 1, 0, 0)).build();
+        assertThat(x.containsPeriod(jan.getPeriod())).isFalse();
+        assertThat(x.containsPeriod(feb.getPeriod())).isTrue();
+        assertThat(x.containsPeriod(mar.getPeriod())).isTrue();
+        assertThat(x.containsPeriod(apr.getPeriod())).isFalse();
+    }
+
+    @Test
+    public void testIsObsRestricted() {
+        assertThat(Query.ALL.isObsRestricted()).isFalse();
+        assertThat(Query.builder().key(Key.parse("BE")).detail(Detail.NO_DATA).build().isObsRestricted()).isFalse();
+        assertThat(Query.builder().startPeriod(LocalDateTime.of(2010, 1, 1, 0, 0)).build().isObsRestricted()).isTrue();
+        assertThat(Query.builder().endPeriod(LocalDateTime.of(2010, 1, 1, 0, 0)).build().isObsRestricted()).isTrue();
+        assertThat(Query.builder().firstNObservations(1).build().isObsRestricted()).isTrue();
+        assertThat(Query.builder().lastNObservations(1).build().isObsRestricted()).isTrue();
+    }
+
+    @Test
+    public void testExecute() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> Query.ALL.execute(null));
+
+        assertThat(Query.ALL.execute(Stream.of(series)))
+                .containsExactly(series);
+
+        assertThat(Query.builder().startPeriod(LocalDateTime.of(2010, 2, 1, 0, 0)).build().execute(Stream.of(series)))
+                .singleElement()
+                .satisfies(o -> assertThat(o.getObs()).containsExactly(feb, mar, apr))
+                .satisfies(o -> assertThat(o.getMeta()).isEqualTo(series.getMeta()));
+
+        assertThat(Query.builder().endPeriod(LocalDateTime.of(2010, 2, 1, 0, 0)).build().execute(Stream.of(series)))
+                .singleElement()
+                .satisfies(o -> assertThat(o.getObs()).containsExactly(jan, feb));
+
+        assertThat(Query.builder().firstNObservations(1).build().execute(Stream.of(series)))
+                .singleElement()
+                .satisfies(o -> assertThat(o.getObs()).containsExactly(jan));
+
+        assertThat(Query.builder().lastNObservations(2).build().execute(Stream.of(series)))
+                .singleElement()
+                .satisfies(o -> assertThat(o.getObs()).containsExactly(mar, apr));
+
+        assertThat(Query.builder().firstNObservations(1).lastNObservations(1).build().execute(Stream.of(series)))
+                .singleElement()
+                .satisfies(o -> assertThat(o.getObs()).containsExactly(jan, apr));
+
+        assertThat(Query.builder().startPeriod(LocalDateTime.of(2010, 2, 1, 0, 0)).lastNObservations(5).build().execute(Stream.of(series)))
+                .singleElement()
+                .satisfies(o -> assertThat(o.getObs()).containsExactly(feb, mar, apr));
+
+        assertThat(Query.builder().startPeriod(LocalDateTime.of(2010, 2, 1, 0, 0)).detail(Detail.SERIES_KEYS_ONLY).build().execute(Stream.of(series)))
+                .singleElement()
+                .satisfies(o -> assertThat(o.getObs()).isEmpty())
+                .satisfies(o -> assertThat(o.getMeta()).isEmpty());
+
+        assertThat(Query.builder().key(Key.parse("FR")).lastNObservations(1).build().execute(Stream.of(series)))
+                .isEmpty();
+    }
+
+    private static Obs obs(int month) {
+        return Obs.builder().period(TimeInterval.of(LocalDateTime.of(2010, month, 1, 0, 0), Duration.P1M)).value(month).build();
+    }
+
+    private final Obs jan = obs(1);
+    private final Obs feb = obs(2);
+    private final Obs mar = obs(3);
+    private final Obs apr = obs(4);
+    private final Series series = Series.builder().key(Key.of("BE")).obs(jan).obs(feb).obs(mar).obs(apr).meta("hello", "world").build();
+}
@@ -0,0 +1,26 @@
+package sdmxdl.web.spi;
+
+import org.junit.jupiter.api.Test;
+import sdmxdl.web.WebSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WebContextTest {
+
+    @Test
+    public void testBuilder() {
+        assertThat(Arrays.stream(WebContext.Builder.class.getMethods()).flatMap(method -> Arrays.stream(method.getParameterTypes())))
+                .describedAs("Builder should not expose non-exported types")
+                .noneMatch(type -> type.getName().startsWith("internal."));
+
+        WebSource source = WebSource.builder().id("abc").driver("xyz").endpointOf("http://localhost").build();
+        WebContext x = WebContext.builder().build();
+        assertThat(x.getClient(source, String.class, WebSource::getId))
+                .isEqualTo("abc")
+                .isSameAs(x.getClient(source, String.class, o -> "other"));
+        assertThat(x.toBuilder().build().getClient(source, String.class, o -> "other"))
+                .isEqualTo("other");
+    }
+}
@@ -0,0 +1,102 @@
+package sdmxdl.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import sdmxdl.DataRepository;
+import sdmxdl.ext.Cache;
+import sdmxdl.format.DiskCache;
+import sdmxdl.format.MemCache;
+import sdmxdl.format.kryo.KryoPersistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent reads and writes on a shared cache.
+ * Three readers compete with one writer on a small set of keys.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class CacheBenchmark {
+
+    @Param({"MEM", "DISK"})
+    public String cache;
+
+    @Param({"16"})
+    public int keyCount;
+
+    @Param({"10"})
+    public int seriesCount;
+
+    private Path root;
+    private Cache<DataRepository> target;
+    private DataRepository value;
+    private String[] keys;
+
+    @Setup
+    public void setup() throws IOException {
+        value = RngPayload.of(seriesCount, 1)
+                .toRepository()
+                .toBuilder()
+                .ttl(Instant.now(), Duration.ofDays(1))
+                .build();
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "key" + i;
+        }
+        switch (cache) {
+            case "MEM":
+                target = MemCache.<DataRepository>builder().map(new ConcurrentHashMap<>()).build();
+                break;
+            case "DISK":
+                root = Files.createTempDirectory("sdmxdl-benchmarks");
+                target = DiskCache.<DataRepository>builder().root(root).format(new KryoPersistence().getFormat(DataRepository.class)).build();
+                break;
+            default:
+                throw new IllegalArgumentException(cache);
+        }
+        for (String key : keys) {
+            target.put(key, value);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (root != null) {
+            try (Stream<Path> files = Files.walk(root)) {
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("contention")
+    @GroupThreads(3)
+    public DataRepository get() {
+        return target.get(nextKey());
+    }
+
+    @Benchmark
+    @Group("contention")
+    @GroupThreads(1)
+    public void put() {
+        target.put(nextKey(), value);
+    }
+
+    private String nextKey() {
+        return keys[ThreadLocalRandom.current().nextInt(keys.length)];
+    }
+}
@@ -0,0 +1,119 @@
+package sdmxdl.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import sdmxdl.DataRepository;
+import sdmxdl.ext.FileFormat;
+import sdmxdl.ext.Persistence;
+import sdmxdl.format.DiskCacheCodec;
+import sdmxdl.format.kryo.KryoPersistence;
+import sdmxdl.format.protobuf.ProtobufPersistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compression of data repositories as stored in the disk cache.
+ * Throughput is reported in uncompressed bytes and the compression ratio is printed at the end of each trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheCodecBenchmark {
+
+    @Param({"NONE", "GZIP", "LZ4", "ZSTD"})
+    public DiskCacheCodec codec;
+
+    @Param({"KRYO", "PROTOBUF"})
+    public String persistence;
+
+    @Param({"100"})
+    public int seriesCount;
+
+    @Param({"10"})
+    public int yearCount;
+
+    private byte[] content;
+    private byte[] encoded;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+
+        public long uncompressedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            uncompressedBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        FileFormat<DataRepository> format = getPersistence(persistence).getFormat(DataRepository.class);
+        DataRepository repository = RngPayload.of(seriesCount, yearCount).toRepository();
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        format.formatStream(repository, result);
+        content = result.toByteArray();
+        encoded = encode(codec, content);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf(Locale.ROOT, "%n%s/%s: %d -> %d bytes, ratio %.2f%n",
+                codec, persistence, content.length, encoded.length, (double) content.length / encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode(Bytes bytes) throws IOException {
+        bytes.uncompressedBytes += content.length;
+        return encode(codec, content);
+    }
+
+    @Benchmark
+    public byte[] decode(Bytes bytes) throws IOException {
+        bytes.uncompressedBytes += content.length;
+        return decode(codec, encoded, content.length);
+    }
+
+    private static byte[] encode(DiskCacheCodec codec, byte[] content) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(content.length);
+        try (OutputStream output = codec.encode(result)) {
+            output.write(content);
+        }
+        return result.toByteArray();
+    }
+
+    private static byte[] decode(DiskCacheCodec codec, byte[] encoded, int length) throws IOException {
+        byte[] result = new byte[length];
+        try (InputStream input = codec.decode(new ByteArrayInputStream(encoded))) {
+            int offset = 0;
+            while (offset < length) {
+                int count = input.read(result, offset, length - offset);
+                if (count < 0) {
+                    throw new IOException("Unexpected end of stream");
+                }
+                offset += count;
+            }
+        }
+        return result;
+    }
+
+    private static Persistence getPersistence(String id) {
+        switch (id) {
+            case "KRYO":
+                return new KryoPersistence();
+            case "PROTOBUF":
+                return new ProtobufPersistence();
+            default:
+                throw new IllegalArgumentException(id);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package sdmxdl.benchmarks;
+
+import nbbrd.io.FileParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sdmxdl.format.DataCursor;
+import sdmxdl.format.ObsParser;
+import sdmxdl.format.xml.SdmxXmlStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the SDMX-ML 2.1 data cursors.
+ * The score is the number of documents read per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataCursorBenchmark {
+
+    @Param({"10", "100"})
+    public int seriesCount;
+
+    @Param({"10"})
+    public int yearCount;
+
+    private byte[] structureSpecific;
+    private byte[] generic;
+    private FileParser<DataCursor> compactParser;
+    private FileParser<DataCursor> genericParser;
+
+    @Setup
+    public void setup() throws IOException {
+        RngPayload payload = RngPayload.of(seriesCount, yearCount);
+        structureSpecific = payload.toStructureSpecificData21();
+        generic = payload.toGenericData21();
+        compactParser = SdmxXmlStreams.compactData21(payload.getStructure(), ObsParser::newDefault);
+        genericParser = SdmxXmlStreams.genericData21(payload.getStructure(), ObsParser::newDefault);
+    }
+
+    @Benchmark
+    public void compactData21(Blackhole blackhole) throws IOException {
+        consume(compactParser, structureSpecific, blackhole);
+    }
+
+    @Benchmark
+    public void genericData21(Blackhole blackhole) throws IOException {
+        consume(genericParser, generic, blackhole);
+    }
+
+    @Benchmark
+    public void compactData21Primitives(Blackhole blackhole) throws IOException {
+        consumePrimitives(compactParser, structureSpecific, blackhole);
+    }
+
+    @Benchmark
+    public void genericData21Primitives(Blackhole blackhole) throws IOException {
+        consumePrimitives(genericParser, generic, blackhole);
+    }
+
+    private static void consume(FileParser<DataCursor> parser, byte[] content, Blackhole blackhole) throws IOException {
+        try (DataCursor cursor = parser.parseStream(new ByteArrayInputStream(content))) {
+            while (cursor.nextSeries()) {
+                blackhole.consume(cursor.getSeriesKey());
+                while (cursor.nextObs()) {
+                    blackhole.consume(cursor.getObsPeriod());
+                    blackhole.consume(cursor.getObsValue());
+                }
+            }
+        }
+    }
+
+    private static void consumePrimitives(FileParser<DataCursor> parser, byte[] content, Blackhole blackhole) throws IOException {
+        try (DataCursor cursor = parser.parseStream(new ByteArrayInputStream(content))) {
+            while (cursor.nextSeries()) {
+                blackhole.consume(cursor.getSeriesKey());
+                while (cursor.nextObs()) {
+                    blackhole.consume(cursor.getObsPeriodStartEpochSecond());
+                    blackhole.consume(cursor.getObsPeriodDuration());
+                    blackhole.consume(cursor.getObsValueAsDouble());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package sdmxdl.benchmarks;
+
+import nbbrd.io.FileParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sdmxdl.format.DataCursor;
+import sdmxdl.format.MappedFileInputStream;
+import sdmxdl.format.ObsParser;
+import sdmxdl.format.xml.SdmxXmlStreams;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading of an SDMX-ML 2.1 data file by a data cursor.
+ * The score is the number of files read per second
+ * using buffered reads or memory-mapped regions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileInputBenchmark {
+
+    @Param({"100", "1000"})
+    public int seriesCount;
+
+    @Param({"10"})
+    public int yearCount;
+
+    private File file;
+    private FileParser<DataCursor> parser;
+
+    @Setup
+    public void setup() throws IOException {
+        RngPayload payload = RngPayload.of(seriesCount, yearCount);
+        file = Files.createTempFile("data", ".xml").toFile();
+        Files.write(file.toPath(), payload.toStructureSpecificData21());
+        parser = SdmxXmlStreams.compactData21(payload.getStructure(), ObsParser::newDefault);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public void bufferedInput(Blackhole blackhole) throws IOException {
+        consume(parser.parseFile(file), blackhole);
+    }
+
+    @Benchmark
+    public void mappedInput(Blackhole blackhole) throws IOException {
+        consume(parser.parseStream(() -> MappedFileInputStream.open(file.toPath())), blackhole);
+    }
+
+    private static void consume(DataCursor cursor, Blackhole blackhole) throws IOException {
+        try (DataCursor closeable = cursor) {
+            while (closeable.nextSeries()) {
+                blackhole.consume(closeable.getSeriesKey());
+                while (closeable.nextObs()) {
+                    blackhole.consume(closeable.getObsPeriodStartEpochSecond());
+                    blackhole.consume(closeable.getObsValueAsDouble());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package sdmxdl.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sdmxdl.Key;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and matching of series keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyBenchmark {
+
+    @Param({"M.BE.EUR", "A.BEL.1.0.0.0.OVGD", "M.BE+FR+DE..SP00.A"})
+    public String text;
+
+    private Key key;
+    private Key series;
+
+    @Setup
+    public void setup() {
+        key = Key.parse(text);
+        String[] codes = new String[key.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = key.isWildcard(i) ? "X" : key.get(i).split("\\+", -1)[0];
+        }
+        series = Key.of(codes);
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        blackhole.consume(Key.parse(text));
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return key.contains(series);
+    }
+}
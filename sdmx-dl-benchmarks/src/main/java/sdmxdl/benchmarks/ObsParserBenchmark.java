@@ -0,0 +1,112 @@
+package sdmxdl.benchmarks;
+
+import nbbrd.io.text.Parser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sdmxdl.format.ObsParser;
+import sdmxdl.format.time.ObservationalTimePeriod;
+import sdmxdl.format.time.TimeFormats;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the periods of a dataset by a data cursor.
+ * The score is the time to parse the periods of all the series
+ * while the auxiliary counters report the hit rates of the cache and of the format detection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObsParserBenchmark {
+
+    @Param({"100"})
+    public int seriesCount;
+
+    @Param({"P1Y", "P1M", "P3M"})
+    public String frequency;
+
+    private String[][] periods;
+
+    private Parser<ObservationalTimePeriod> chain;
+
+    @Setup
+    public void setup() {
+        periods = new String[seriesCount][];
+        for (int i = 0; i < seriesCount; i++) {
+            periods[i] = generatePeriods(frequency, 30);
+        }
+        chain = TimeFormats.getObservationalTimePeriod(TimeFormats.IGNORE_ERROR);
+    }
+
+    @Benchmark
+    public void obsParser(Blackhole blackhole, PeriodCounters counters) {
+        ObsParser parser = ObsParser.newDefault();
+        for (String[] series : periods) {
+            for (String period : series) {
+                blackhole.consume(parser.period(period).parsePeriod());
+            }
+        }
+        counters.add(parser);
+    }
+
+    @Benchmark
+    public void chainOfFormats(Blackhole blackhole) {
+        for (String[] series : periods) {
+            for (String period : series) {
+                blackhole.consume(chain.parse(period));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeriodCounters {
+
+        public long cacheHits;
+        public long cacheMisses;
+        public long formatHits;
+        public long formatMisses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cacheHits = 0;
+            cacheMisses = 0;
+            formatHits = 0;
+            formatMisses = 0;
+        }
+
+        void add(ObsParser parser) {
+            cacheHits += parser.getPeriodCacheHitCount();
+            cacheMisses += parser.getPeriodCacheMissCount();
+            formatHits += parser.getPeriodFormatHitCount();
+            formatMisses += parser.getPeriodFormatMissCount();
+        }
+    }
+
+    // new strings for each series like the ones created by a parser
+    private static String[] generatePeriods(String frequency, int yearCount) {
+        int perYear = frequency.equals("P1Y") ? 1 : frequency.equals("P1M") ? 12 : 4;
+        String[] result = new String[yearCount * perYear];
+        for (int year = 0; year < yearCount; year++) {
+            for (int i = 0; i < perYear; i++) {
+                String period;
+                switch (frequency) {
+                    case "P1Y":
+                        period = String.valueOf(1990 + year);
+                        break;
+                    case "P1M":
+                        period = (1990 + year) + (i < 9 ? "-0" : "-") + (i + 1);
+                        break;
+                    default:
+                        period = (1990 + year) + "-Q" + (i + 1);
+                        break;
+                }
+                result[year * perYear + i] = new String(period.toCharArray());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+package sdmxdl.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import sdmxdl.DataRepository;
+import sdmxdl.ext.FileFormat;
+import sdmxdl.ext.Persistence;
+import sdmxdl.format.kryo.KryoPersistence;
+import sdmxdl.format.protobuf.ProtobufPersistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of data repositories as stored in the disk cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenceBenchmark {
+
+    @Param({"KRYO", "PROTOBUF"})
+    public String persistence;
+
+    @Param({"100"})
+    public int seriesCount;
+
+    @Param({"10"})
+    public int yearCount;
+
+    private FileFormat<DataRepository> format;
+    private DataRepository repository;
+    private byte[] content;
+
+    @Setup
+    public void setup() throws IOException {
+        format = getPersistence(persistence).getFormat(DataRepository.class);
+        repository = RngPayload.of(seriesCount, yearCount).toRepository();
+        content = format(format, repository);
+    }
+
+    @Benchmark
+    public byte[] formatStream() throws IOException {
+        return format(format, repository);
+    }
+
+    @Benchmark
+    public DataRepository parseStream() throws IOException {
+        return format.parseStream(new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public DataRepository roundTrip() throws IOException {
+        return format.parseStream(new ByteArrayInputStream(format(format, repository)));
+    }
+
+    private static byte[] format(FileFormat<DataRepository> format, DataRepository value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        format.formatStream(value, result);
+        return result.toByteArray();
+    }
+
+    private static Persistence getPersistence(String id) {
+        switch (id) {
+            case "KRYO":
+                return new KryoPersistence();
+            case "PROTOBUF":
+                return new ProtobufPersistence();
+            default:
+                throw new IllegalArgumentException(id);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package sdmxdl.benchmarks;
+
+import lombok.NonNull;
+import sdmxdl.*;
+import sdmxdl.provider.ri.drivers.RngRiDriver;
+import sdmxdl.web.WebSource;
+import sdmxdl.web.spi.WebContext;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static sdmxdl.DatabaseRef.NO_DATABASE;
+
+/**
+ * Synthetic payload generated by the random number generator driver.
+ * The same parameters always produce the same payload.
+ */
+@lombok.Value
+public class RngPayload {
+
+    @NonNull
+    public static RngPayload of(int seriesCount, int yearCount) throws IOException {
+        RngRiDriver driver = new RngRiDriver();
+        WebSource source = WebSource
+                .builder()
+                .id("RNG")
+                .driver(driver.getDriverId())
+                .endpointOf("rng:" + seriesCount + ":" + yearCount + ":0:2010-01-01")
+                .build();
+        try (Connection connection = driver.connect(source, Languages.ANY, WebContext.builder().build())) {
+            FlowRef flowRef = connection.getFlows(NO_DATABASE).iterator().next().getRef();
+            return new RngPayload(
+                    connection.getMeta(NO_DATABASE, flowRef).getStructure(),
+                    connection.getData(NO_DATABASE, flowRef, Query.ALL));
+        }
+    }
+
+    @NonNull
+    Structure structure;
+
+    @NonNull
+    DataSet data;
+
+    public int getObsCount() {
+        return data.getData().stream().mapToInt(series -> series.getObs().size()).sum();
+    }
+
+    @NonNull
+    public DataRepository toRepository() {
+        return DataRepository
+                .builder()
+                .name("RNG")
+                .structure(structure)
+                .dataSet(data)
+                .build();
+    }
+
+    @NonNull
+    public byte[] toStructureSpecificData21() throws IOException {
+        return writeXml(this::writeStructureSpecificData21);
+    }
+
+    @NonNull
+    public byte[] toGenericData21() throws IOException {
+        return writeXml(this::writeGenericData21);
+    }
+
+    private void writeStructureSpecificData21(XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeStartElement("message:StructureSpecificData");
+        writer.writeStartElement("message:DataSet");
+        for (Series series : data.getData()) {
+            writer.writeStartElement("Series");
+            for (int i = 0; i < series.getKey().size(); i++) {
+                writer.writeAttribute(structure.getDimensions().get(i).getId(), series.getKey().get(i));
+            }
+            for (Obs obs : series.getObs()) {
+                writer.writeEmptyElement("Obs");
+                writer.writeAttribute(structure.getTimeDimensionId(), formatPeriod(series.getKey(), obs));
+                writer.writeAttribute(structure.getPrimaryMeasureId(), Double.toString(obs.getValue()));
+            }
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+
+    private void writeGenericData21(XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeStartElement("message:GenericData");
+        writer.writeStartElement("message:DataSet");
+        for (Series series : data.getData()) {
+            writer.writeStartElement("generic:Series");
+            writer.writeStartElement("generic:SeriesKey");
+            for (int i = 0; i < series.getKey().size(); i++) {
+                writer.writeEmptyElement("generic:Value");
+                writer.writeAttribute("id", structure.getDimensions().get(i).getId());
+                writer.writeAttribute("value", series.getKey().get(i));
+            }
+            writer.writeEndElement();
+            for (Obs obs : series.getObs()) {
+                writer.writeStartElement("generic:Obs");
+                writer.writeEmptyElement("generic:ObsDimension");
+                writer.writeAttribute("value", formatPeriod(series.getKey(), obs));
+                writer.writeEmptyElement("generic:ObsValue");
+                writer.writeAttribute("value", Double.toString(obs.getValue()));
+                writer.writeEndElement();
+            }
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+
+    private static String formatPeriod(Key key, Obs obs) {
+        LocalDateTime start = obs.getPeriod().getStart();
+        switch (key.get(0)) {
+            case "A":
+                return String.valueOf(start.getYear());
+            case "M":
+                return MONTHLY.format(start);
+            default:
+                return DateTimeFormatter.ISO_LOCAL_DATE.format(start);
+        }
+    }
+
+    private static final DateTimeFormatter MONTHLY = DateTimeFormatter.ofPattern("yyyy-MM", Locale.ROOT);
+
+    @FunctionalInterface
+    private interface XmlContent {
+
+        void write(XMLStreamWriter writer) throws XMLStreamException;
+    }
+
+    private static byte[] writeXml(XmlContent content) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try {
+            XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter(result, UTF_8.name());
+            writer.writeStartDocument(UTF_8.name(), "1.0");
+            content.write(writer);
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException ex) {
+            throw new IOException(ex);
+        }
+        return result.toByteArray();
+    }
+}
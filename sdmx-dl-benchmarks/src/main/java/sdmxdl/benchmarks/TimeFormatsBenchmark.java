@@ -0,0 +1,36 @@
+package sdmxdl.benchmarks;
+
+import nbbrd.io.text.Parser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sdmxdl.format.time.ObservationalTimePeriod;
+import sdmxdl.format.time.TimeFormats;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of observational time periods as found in SDMX data.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeFormatsBenchmark {
+
+    @Param({"2010", "2010-01", "2010-01-01", "2010-Q1", "2010-M01", "2010-01-01T10:15:30", "2010-01/P1M"})
+    public String period;
+
+    private Parser<ObservationalTimePeriod> parser;
+
+    @Setup
+    public void setup() {
+        parser = TimeFormats.getObservationalTimePeriod(TimeFormats.IGNORE_ERROR);
+    }
+
+    @Benchmark
+    public void getObservationalTimePeriod(Blackhole blackhole) {
+        blackhole.consume(parser.parse(period));
+    }
+}
@@ -45,6 +45,9 @@ public class ListFeaturesCommandTest {
         assertThat(FileSample.readAll(out))
                 .contains("SupportedFeature", atIndex(0))
                 .contains("DATA_QUERY_DETAIL", atIndex(2))
-                .hasSize(3);
+                .contains("DATA_QUERY_PERIOD_RANGE", atIndex(3))
+                .contains("DATA_QUERY_OBS_COUNT", atIndex(4))
+                .contains("DATA_QUERY_UPDATED_AFTER", atIndex(5))
+                .hasSize(6);
     }
 }
@@ -19,6 +19,7 @@ package internal.sdmxdl.format;
 import lombok.NonNull;
 import org.jspecify.annotations.Nullable;
 import sdmxdl.Obs;
+import sdmxdl.Query;
 import sdmxdl.Series;
 import sdmxdl.TimeInterval;
 import sdmxdl.format.DataCursor;
@@ -29,6 +30,10 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Philippe Charles
@@ -39,12 +44,23 @@ public final class SeriesIterator implements Iterator<Series> {
     @lombok.NonNull
     final DataCursor delegate;
 
+    /**
+     * Query whose time range is applied while reading observations.
+     */
+    @lombok.NonNull
+    final Query query;
+
+    public static @NonNull Stream<Series> toStream(@NonNull DataCursor cursor, @NonNull Query query) {
+        Iterator<Series> iterator = new SeriesIterator(cursor, query);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
     private final Series.Builder builder = Series.builder();
     private Series nextElement = null;
 
     private Series get() throws IOException {
         if (delegate.nextSeries()) {
-            fill(builder, delegate);
+            fill(builder, delegate, query);
             return builder.build();
         }
         return null;
@@ -75,18 +91,22 @@ public final class SeriesIterator implements Iterator<Series> {
         }
     }
 
-    private static void fill(Series.Builder builder, DataCursor cursor) throws IOException {
+    private static void fill(Series.Builder builder, DataCursor cursor, Query query) throws IOException {
         builder.clearMeta()
                 .clearObs()
                 .key(cursor.getSeriesKey())
                 .meta(cursor.getSeriesAttributes());
 
+        boolean periodRange = query.getStartPeriod() != null || query.getEndPeriod() != null;
         Obs.Builder obs = Obs.builder();
         while (cursor.nextObs()) {
             TimeInterval nullablePeriod = getObsPeriod2(cursor);
             if (nullablePeriod == null) {
                 continue;
             }
+            if (periodRange && !query.containsPeriod(nullablePeriod)) {
+                continue;
+            }
             Double nullableValue = cursor.getObsValue();
             if (nullableValue == null) {
                 continue;
@@ -103,6 +123,9 @@ public final class SeriesIterator implements Iterator<Series> {
 
     private static @Nullable TimeInterval getObsPeriod2(@NonNull DataCursor cursor) throws IOException, IllegalStateException {
         ObservationalTimePeriod result = cursor.getObsPeriod();
-        return result != null ? result.toTimeInterval(TimeFormats.getReportingYearStartDay(cursor::getObsAttribute)) : null;
+        if (result == null) {
+            return null;
+        }
+        return result.toTimeInterval(TimeFormats.dependsOnReportingYearStartDay(result) ? TimeFormats.getReportingYearStartDay(cursor::getObsAttribute) : null);
     }
 }
@@ -9,6 +9,9 @@ module sdmxdl.format.base {
 
     requires transitive sdmxdl.api;
     requires transitive nbbrd.io.base;
+    requires java.logging;
+    // no Automatic-Module-Name: the module name is derived from the jar file name
+    requires aircompressor;
 
     exports sdmxdl.format;
     exports sdmxdl.format.design;
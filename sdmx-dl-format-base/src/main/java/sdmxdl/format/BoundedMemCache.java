@@ -0,0 +1,124 @@
+package sdmxdl.format;
+
+import lombok.NonNull;
+import nbbrd.design.ThreadSafe;
+import org.jspecify.annotations.Nullable;
+import sdmxdl.HasExpiration;
+import sdmxdl.ext.Cache;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe in-memory cache bounded by the total weight of its entries.
+ * Least recently used entries are evicted first when the max weight is exceeded.
+ */
+@ThreadSafe
+@lombok.Builder(toBuilder = true)
+public final class BoundedMemCache<V extends HasExpiration> implements Cache<V> {
+
+    @lombok.Builder.Default
+    private final long maxWeight = Long.MAX_VALUE;
+
+    @lombok.Builder.Default
+    private final @NonNull ToLongFunction<? super V> weigher = ignore -> 1;
+
+    @lombok.Builder.Default
+    private final @NonNull Clock clock = Clock.systemDefaultZone();
+
+    private final Map<String, Node<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private final AtomicLong weight = new AtomicLong();
+
+    @Override
+    public @NonNull Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public @Nullable V get(@NonNull String key) {
+        synchronized (map) {
+            Node<V> result = map.get(key);
+            if (result == null) {
+                missCount.incrementAndGet();
+                return null;
+            }
+            if (result.getValue().isExpired(clock)) {
+                removeNode(key, result);
+                missCount.incrementAndGet();
+                return null;
+            }
+            hitCount.incrementAndGet();
+            return result.getValue();
+        }
+    }
+
+    @Override
+    public void put(@NonNull String key, @NonNull V value) {
+        long valueWeight = Math.max(0, weigher.applyAsLong(value));
+        synchronized (map) {
+            Node<V> old = map.remove(key);
+            if (old != null) {
+                weight.addAndGet(-old.getWeight());
+            }
+            if (valueWeight > maxWeight) {
+                evictionCount.incrementAndGet();
+                return;
+            }
+            map.put(key, new Node<>(value, valueWeight));
+            weight.addAndGet(valueWeight);
+            evictEldestEntries();
+        }
+    }
+
+    public @NonNull Stats getStats() {
+        synchronized (map) {
+            return new Stats(hitCount.get(), missCount.get(), evictionCount.get(), map.size(), weight.get());
+        }
+    }
+
+    private void evictEldestEntries() {
+        Iterator<Node<V>> iterator = map.values().iterator();
+        while (weight.get() > maxWeight && iterator.hasNext()) {
+            Node<V> eldest = iterator.next();
+            iterator.remove();
+            weight.addAndGet(-eldest.getWeight());
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private void removeNode(String key, Node<V> node) {
+        map.remove(key);
+        weight.addAndGet(-node.getWeight());
+    }
+
+    @lombok.Value
+    private static class Node<V> {
+        V value;
+        long weight;
+    }
+
+    @lombok.Value
+    public static class Stats {
+
+        long hitCount;
+
+        long missCount;
+
+        long evictionCount;
+
+        int size;
+
+        long weight;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package sdmxdl.format;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import nbbrd.design.NotThreadSafe;
+import nbbrd.design.ThreadSafe;
+import org.jspecify.annotations.Nullable;
+import sdmxdl.Component;
+import sdmxdl.Structure;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Canonical instances of the identifiers and codes of a structure.
+ * Parsers use it to share a single instance per distinct code among the series they create
+ * instead of retaining a copy per series.
+ */
+@ThreadSafe
+@lombok.AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CodeDictionary {
+
+    public static final CodeDictionary EMPTY = new CodeDictionary(Collections.emptyMap());
+
+    public static @NonNull CodeDictionary of(@NonNull Structure structure) {
+        Map<String, String> result = new HashMap<>();
+        structure.getDimensions().forEach(component -> putAll(result, component));
+        structure.getAttributes().forEach(component -> putAll(result, component));
+        return new CodeDictionary(Collections.unmodifiableMap(result));
+    }
+
+    private static void putAll(Map<String, String> result, Component component) {
+        result.putIfAbsent(component.getId(), component.getId());
+        component.getCodes().keySet().forEach(code -> result.putIfAbsent(code, code));
+    }
+
+    private final @NonNull Map<String, String> canonicalInstances;
+
+    /**
+     * Gets the canonical instance of a code of the structure.
+     *
+     * @param text a nullable text
+     * @return the canonical instance if the text is a code of the structure, the text itself otherwise
+     */
+    public @Nullable String canonicalize(@Nullable String text) {
+        if (text == null) {
+            return null;
+        }
+        String result = canonicalInstances.get(text);
+        return result != null ? result : text;
+    }
+
+    /**
+     * Creates an interner that canonicalizes the codes of the structure
+     * and pools the other texts up to a bounded number of instances.
+     *
+     * @return a new non-null interner
+     */
+    public @NonNull Interner newInterner() {
+        return new Interner(this, DEFAULT_POOL_SIZE);
+    }
+
+    static final int DEFAULT_POOL_SIZE = 10_000;
+
+    @NotThreadSafe
+    @lombok.RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    public static final class Interner {
+
+        private final @NonNull CodeDictionary dictionary;
+
+        private final int maxPoolSize;
+
+        private final Map<String, String> pool = new HashMap<>();
+
+        public @Nullable String intern(@Nullable String text) {
+            if (text == null) {
+                return null;
+            }
+            String result = dictionary.canonicalInstances.get(text);
+            if (result != null) {
+                return result;
+            }
+            result = pool.get(text);
+            if (result != null) {
+                return result;
+            }
+            // unpooled texts are returned as is once the pool is full
+            if (pool.size() < maxPoolSize) {
+                pool.put(text, text);
+            }
+            return text;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package sdmxdl.format;
+
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+import sdmxdl.DataRepository;
+import sdmxdl.DataSet;
+import sdmxdl.ext.Cache;
+
+import java.time.Clock;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Cache that keeps the data sets of its repositories in a compact form.
+ */
+@lombok.AllArgsConstructor
+final class CompactCache implements Cache<DataRepository> {
+
+    private final @NonNull Cache<DataRepository> delegate;
+
+    @Override
+    public @NonNull Clock getClock() {
+        return delegate.getClock();
+    }
+
+    @Override
+    public @Nullable DataRepository get(@NonNull String key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public void put(@NonNull String key, @NonNull DataRepository value) {
+        delegate.put(key, compact(value));
+    }
+
+    private static DataRepository compact(DataRepository value) {
+        return value.getDataSets().stream().allMatch(DataSet::isCompact)
+                ? value
+                : value.toBuilder().clearDataSets().dataSets(value.getDataSets().stream().map(DataSet::toCompact).collect(toList())).build();
+    }
+}
@@ -21,18 +21,18 @@ import lombok.NonNull;
 import nbbrd.design.NotThreadSafe;
 import nbbrd.io.function.IORunnable;
 import org.jspecify.annotations.Nullable;
+import sdmxdl.Duration;
 import sdmxdl.Key;
+import sdmxdl.Query;
 import sdmxdl.Series;
 import sdmxdl.format.time.ObservationalTimePeriod;
+import sdmxdl.format.time.TimeFormats;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.Iterator;
+import java.time.ZoneOffset;
 import java.util.Map;
-import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 /**
  * @author Philippe Charles
@@ -40,6 +40,11 @@ import java.util.stream.StreamSupport;
 @NotThreadSafe
 public interface DataCursor extends Closeable {
 
+    /**
+     * Value returned by {@link #getObsPeriodStartEpochSecond()} when the period is missing or invalid.
+     */
+    long NO_PERIOD_START = Long.MIN_VALUE;
+
     boolean nextSeries() throws IOException;
 
     @NonNull
@@ -65,14 +70,70 @@ public interface DataCursor extends Closeable {
     @Nullable
     String getObsAttribute(@NonNull String key) throws IOException, IllegalStateException;
 
+    /**
+     * Gets the start of the observation period as seconds since epoch (UTC).
+     * Implementations should override this method to avoid creating intermediate objects.
+     *
+     * @return the start of the period or {@link #NO_PERIOD_START} if the period is missing or invalid
+     */
+    default long getObsPeriodStartEpochSecond() throws IOException, IllegalStateException {
+        ObservationalTimePeriod period = getObsPeriod();
+        if (period == null) {
+            return NO_PERIOD_START;
+        }
+        return period
+                .toStartTime(TimeFormats.dependsOnReportingYearStartDay(period) ? TimeFormats.getReportingYearStartDay(this::getObsAttribute) : null)
+                .toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Gets the duration of the observation period.
+     * Implementations should override this method to avoid creating intermediate objects.
+     *
+     * @return the duration of the period or null if the period is missing or invalid
+     */
+    @Nullable
+    default Duration getObsPeriodDuration() throws IOException, IllegalStateException {
+        ObservationalTimePeriod period = getObsPeriod();
+        return period != null ? period.getDuration() : null;
+    }
+
+    /**
+     * Gets the observation value without boxing.
+     * Implementations should override this method to avoid creating intermediate objects.
+     *
+     * @return the value or {@link Double#NaN} if the value is missing or invalid
+     */
+    default double getObsValueAsDouble() throws IOException, IllegalStateException {
+        Double value = getObsValue();
+        return value != null ? value : Double.NaN;
+    }
+
     @NonNull
     default Stream<Series> asStream() {
-        Iterator<Series> iterator = new SeriesIterator(this);
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+        return SeriesIterator.toStream(this, Query.ALL);
     }
 
     @NonNull
     default Stream<Series> asCloseableStream() {
         return asStream().onClose(IORunnable.unchecked(DataCursor.this::close));
     }
+
+    /**
+     * Creates a stream of series that satisfies a query.
+     * Observations outside the time range of the query are skipped while reading
+     * so that they are never materialized.
+     *
+     * @param query a non-null query
+     * @return a non-null stream
+     */
+    @NonNull
+    default Stream<Series> asStream(@NonNull Query query) {
+        return query.equals(Query.ALL) ? asStream() : query.execute(SeriesIterator.toStream(this, query));
+    }
+
+    @NonNull
+    default Stream<Series> asCloseableStream(@NonNull Query query) {
+        return asStream(query).onClose(IORunnable.unchecked(DataCursor.this::close));
+    }
 }
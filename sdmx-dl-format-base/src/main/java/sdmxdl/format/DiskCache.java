@@ -16,8 +16,10 @@
  */
 package sdmxdl.format;
 
+import lombok.AccessLevel;
 import lombok.NonNull;
 import nbbrd.design.VisibleForTesting;
+import nbbrd.io.Resource;
 import nbbrd.io.sys.SystemProperties;
 import org.jspecify.annotations.Nullable;
 import sdmxdl.About;
@@ -26,18 +28,41 @@ import sdmxdl.HasPersistence;
 import sdmxdl.ext.Cache;
 import sdmxdl.ext.FileFormat;
 
-import java.io.IOException;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Clock;
-import java.util.Locale;
+import java.time.Instant;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Cache of entries persisted as files.
+ * Each file starts with a fixed-size header, followed by the key of its entry and by the formatted value.
+ * The header is enough to reject an expired entry or another key without parsing the value.
+ * It also records the codec of the value so that entries written with different codecs remain readable.
+ * Files are named after a digest of their key and spread over two levels of subdirectories.
+ * Files of the former flat layout are never read since they were named after a hash code of their key
+ * and cannot be told apart from the files of colliding keys.
+ * Writes go through a temporary file that atomically replaces the entry,
+ * and entries are locked across processes through a sibling lock file.
+ *
  * @author Philippe Charles
  */
 @lombok.Builder(toBuilder = true)
@@ -53,11 +78,14 @@ public final class DiskCache<V extends HasExpiration & HasPersistence> implement
     private final @NonNull String nameSuffix = "_";
 
     @lombok.Builder.Default
-    private final @NonNull UnaryOperator<String> nameGenerator = NORMALIZE_HASH_CODE;
+    private final @NonNull UnaryOperator<String> nameGenerator = SHA_256;
 
     @lombok.Builder.Default
     private final @NonNull FileFormat<V> format = FileFormat.noOp();
 
+    @lombok.Builder.Default
+    private final @NonNull DiskCacheCodec codec = DiskCacheCodec.NONE;
+
     private final @Nullable Consumer<? super String> onRead;
 
     private final @Nullable BiConsumer<? super String, ? super IOException> onError;
@@ -65,6 +93,8 @@ public final class DiskCache<V extends HasExpiration & HasPersistence> implement
     @lombok.Builder.Default
     private final @NonNull Clock clock = Clock.systemDefaultZone();
 
+    private final @Nullable DiskCacheSweeper sweeper;
+
     @Override
     public @NonNull Clock getClock() {
         return clock;
@@ -73,47 +103,86 @@ public final class DiskCache<V extends HasExpiration & HasPersistence> implement
     @Override
     public @Nullable V get(@NonNull String key) {
         Path file = getFile(key);
-        V result = readFile(file);
-        if (result == null) {
-            reportRead(key, DiskCacheEvent.MISSED);
-            return null;
-        }
-        if (result.isExpired(clock)) {
-            deleteFile(file);
-            reportRead(key, DiskCacheEvent.EXPIRED);
-            return null;
+        ReadResult<V> result = readFile(file, key);
+        if (result.getEvent() == DiskCacheEvent.EXPIRED) {
+            deleteEntry(file);
         }
-        reportRead(key, DiskCacheEvent.HIT);
-        return result;
+        reportRead(key, result.getEvent());
+        if (result.getEvent() == DiskCacheEvent.HIT && sweeper != null) sweeper.onRead(file);
+        return result.getValue();
     }
 
     @Override
     public void put(@NonNull String key, @NonNull V value) {
         Path file = getFile(key);
-        writeFile(file, value);
+        writeFile(file, key, value);
     }
 
     private void reportRead(String key, DiskCacheEvent event) {
         if (onRead != null) onRead.accept(event.name() + " " + key);
     }
 
-    private V readFile(Path file) {
+    private ReadResult<V> readFile(Path file, String key) {
         if (Files.exists(file) && Files.isRegularFile(file)) {
-            try {
-                return format.parsePath(file);
+            try (EntryLock ignore = EntryLock.acquire(file, true); FileChannel channel = FileChannel.open(file, READ)) {
+                // the value is only parsed if the header matches the key and has not expired
+                Header header = readHeader(channel);
+                if (!header.hasKey(digestOf(key))) {
+                    // two keys share the same name
+                    return ReadResult.missed();
+                }
+                if (header.isExpired(clock)) {
+                    return ReadResult.expired();
+                }
+                channel.position(header.getValueOffset());
+                // the codec of the entry might differ from the one used for writing
+                return ReadResult.hit(format.parseStream(header.getCodec().decode(new BufferedInputStream(Channels.newInputStream(channel)))));
+            } catch (NoSuchFileException ex) {
+                // deleted by another process in the meantime
             } catch (IOException ex) {
                 if (onError != null) onError.accept("Failed reading '" + file + "'", ex);
             }
         }
-        return null;
+        return ReadResult.missed();
     }
 
-    private void writeFile(Path file, V value) {
+    private void writeFile(Path file, String key, V value) {
         ensureParentExists(file);
+        Path temp = null;
         try {
-            format.formatPath(value, file);
+            // readers never see a partial file since the entry is replaced by a complete one
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), TEMP_SUFFIX);
+            try (OutputStream output = openEntry(temp, key, value.getExpirationTime())) {
+                format.formatStream(value, output);
+            }
+            long size = Files.size(temp);
+            try (EntryLock ignore = EntryLock.acquire(file, false)) {
+                moveAtomically(temp, file);
+            }
+            if (sweeper != null) sweeper.onWrite(file, size, value.getExpirationTime());
         } catch (IOException ex) {
             if (onError != null) onError.accept("Failed writing '" + file + "'", ex);
+        } finally {
+            if (temp != null) deleteFile(temp);
+        }
+    }
+
+    private OutputStream openEntry(Path temp, String key, Instant expirationTime) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)));
+        try {
+            writeHeader(output, key, codec, clock.instant(), expirationTime);
+            return codec.encode(output);
+        } catch (IOException | RuntimeException ex) {
+            Resource.ensureClosed(ex, output);
+            throw ex;
+        }
+    }
+
+    static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, REPLACE_EXISTING);
         }
     }
 
@@ -125,6 +194,15 @@ public final class DiskCache<V extends HasExpiration & HasPersistence> implement
         }
     }
 
+    private void deleteEntry(Path file) {
+        try (EntryLock ignore = EntryLock.acquire(file, false)) {
+            Files.deleteIfExists(file);
+            if (sweeper != null) sweeper.onDelete(file);
+        } catch (IOException ex) {
+            if (onError != null) onError.accept("While deleting '" + file + "'", ex);
+        }
+    }
+
     private void deleteFile(Path file) {
         try {
             Files.deleteIfExists(file);
@@ -135,19 +213,273 @@ public final class DiskCache<V extends HasExpiration & HasPersistence> implement
 
     @VisibleForTesting
     Path getFile(String key) {
-        return root.resolve(namePrefix + nameGenerator.apply(key) + nameSuffix + format.getFileExtension());
+        String name = nameGenerator.apply(key);
+        Path parent = name.length() > FAN_OUT_LENGTH * 2
+                ? root.resolve(name.substring(0, FAN_OUT_LENGTH)).resolve(name.substring(FAN_OUT_LENGTH, FAN_OUT_LENGTH * 2))
+                : root;
+        return parent.resolve(namePrefix + name + nameSuffix + format.getFileExtension());
+    }
+
+    /**
+     * Fixed-size header of an entry, readable with a single positional read.
+     * It is followed by the key of the entry and then by the formatted value.
+     */
+    @lombok.Value
+    static class Header {
+
+        @NonNull DiskCacheCodec codec;
+
+        @NonNull Instant creationTime;
+
+        @NonNull Instant expirationTime;
+
+        byte @NonNull [] keyDigest;
+
+        int keyLength;
+
+        boolean hasKey(byte[] digest) {
+            return MessageDigest.isEqual(keyDigest, digest);
+        }
+
+        boolean isExpired(Clock clock) {
+            return !clock.instant().isBefore(expirationTime);
+        }
+
+        long getValueOffset() {
+            return HEADER_SIZE + keyLength;
+        }
+    }
+
+    static Header readHeader(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                throw new EOFException("Truncated header");
+            }
+        }
+        buffer.flip();
+        return parseHeader(buffer);
+    }
+
+    static Header readHeader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            return readHeader(channel);
+        }
+    }
+
+    @VisibleForTesting
+    static Header parseHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != HEADER_MAGIC) {
+            throw new IOException("Invalid header");
+        }
+        int version = buffer.getShort() & 0xFFFF;
+        if (version != HEADER_VERSION) {
+            throw new IOException("Unsupported header version " + version);
+        }
+        DiskCacheCodec codec = DiskCacheCodec.ofId(buffer.getShort() & 0xFFFF);
+        Instant creationTime = Instant.ofEpochMilli(buffer.getLong());
+        Instant expirationTime = Instant.ofEpochMilli(buffer.getLong());
+        byte[] keyDigest = new byte[KEY_DIGEST_SIZE];
+        buffer.get(keyDigest);
+        int keyLength = buffer.getInt();
+        return new Header(codec, creationTime, expirationTime, keyDigest, keyLength);
+    }
+
+    static void writeHeader(DataOutputStream output, String key, DiskCacheCodec codec, Instant creationTime, Instant expirationTime) throws IOException {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(HEADER_MAGIC);
+        output.writeShort(HEADER_VERSION);
+        output.writeShort(codec.getId());
+        output.writeLong(toEpochMilli(creationTime));
+        output.writeLong(toEpochMilli(expirationTime));
+        output.write(digestOf(key));
+        output.writeInt(bytes.length);
+        output.writeInt(0);
+        output.write(bytes);
+    }
+
+    static long toEpochMilli(Instant instant) {
+        if (instant.isAfter(MAX_MILLI)) return Long.MAX_VALUE;
+        if (instant.isBefore(MIN_MILLI)) return Long.MIN_VALUE;
+        return instant.toEpochMilli();
+    }
+
+    private static final Instant MAX_MILLI = Instant.ofEpochMilli(Long.MAX_VALUE);
+    private static final Instant MIN_MILLI = Instant.ofEpochMilli(Long.MIN_VALUE);
+
+    /**
+     * Lock of an entry shared by the threads and the processes that use the same cache folder.
+     * The lock is taken on a sibling file because the entry itself is replaced on every write.
+     * A lock file is empty as long as it is in use; a deleted lock file is marked with a byte
+     * so that the processes that were waiting for it take the lock again on a new file.
+     */
+    @lombok.AllArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class EntryLock implements Closeable {
+
+        static EntryLock acquire(Path file, boolean shared) throws IOException {
+            Path lockFile = getLockFile(file);
+            // file locks are held on behalf of the whole JVM so threads must be coordinated first
+            String localKey = lockFile.toAbsolutePath().toString();
+            KeyLocks.lock(localKey);
+            try {
+                while (true) {
+                    FileChannel channel = FileChannel.open(lockFile, CREATE, READ, WRITE);
+                    try {
+                        channel.lock(0, Long.MAX_VALUE, shared);
+                        if (!isDeleted(channel, lockFile)) {
+                            return new EntryLock(lockFile, localKey, channel);
+                        }
+                        channel.close();
+                    } catch (IOException | RuntimeException ex) {
+                        Resource.ensureClosed(ex, channel);
+                        throw ex;
+                    }
+                }
+            } catch (IOException | RuntimeException ex) {
+                KeyLocks.unlock(localKey);
+                throw ex;
+            }
+        }
+
+        static @Nullable EntryLock tryAcquireExisting(Path file) throws IOException {
+            Path lockFile = getLockFile(file);
+            String localKey = lockFile.toAbsolutePath().toString();
+            if (!KeyLocks.tryLock(localKey)) {
+                return null;
+            }
+            try {
+                FileChannel channel = FileChannel.open(lockFile, READ, WRITE);
+                try {
+                    if (tryLock(channel) && !isDeleted(channel, lockFile)) {
+                        return new EntryLock(lockFile, localKey, channel);
+                    }
+                    channel.close();
+                } catch (IOException | RuntimeException ex) {
+                    Resource.ensureClosed(ex, channel);
+                    throw ex;
+                }
+            } catch (NoSuchFileException ex) {
+                // deleted in the meantime
+            } catch (IOException | RuntimeException ex) {
+                KeyLocks.unlock(localKey);
+                throw ex;
+            }
+            KeyLocks.unlock(localKey);
+            return null;
+        }
+
+        private static boolean tryLock(FileChannel channel) throws IOException {
+            try {
+                return channel.tryLock(0, Long.MAX_VALUE, false) != null;
+            } catch (OverlappingFileLockException ex) {
+                // held by this JVM
+                return false;
+            }
+        }
+
+        private static boolean isDeleted(FileChannel channel, Path lockFile) throws IOException {
+            if (channel.size() == 0) {
+                return false;
+            }
+            // a lock file is unlinked before being marked so a marked file that is still in place was not deleted
+            try {
+                return Files.size(lockFile) == 0;
+            } catch (NoSuchFileException ex) {
+                return true;
+            }
+        }
+
+        private final Path lockFile;
+        private final String localKey;
+        private final FileChannel channel;
+
+        /**
+         * Deletes the lock file while this lock is held.
+         * The deleted file is marked afterward so that the processes waiting for it do not use it.
+         *
+         * @throws IOException if the lock file cannot be deleted
+         */
+        void deleteLockFile() throws IOException {
+            Files.deleteIfExists(lockFile);
+            channel.write(ByteBuffer.wrap(new byte[]{1}), 0);
+        }
+
+        @Override
+        public void close() throws IOException {
+            // closing the channel releases its lock
+            try {
+                channel.close();
+            } finally {
+                KeyLocks.unlock(localKey);
+            }
+        }
     }
 
+    static Path getLockFile(Path file) {
+        return file.resolveSibling(file.getFileName() + LOCK_SUFFIX);
+    }
+
+    static boolean isLegacyFileName(String name) {
+        return LEGACY_NAME.matcher(name).matches();
+    }
+
+    // prefix, normalized hash code of the key, suffix and extension
+    private static final Pattern LEGACY_NAME = Pattern.compile("[A-Za-z_]*[01]\\d{10}_.*");
+
+    static final String LOCK_SUFFIX = ".lock";
+    static final String TEMP_SUFFIX = ".tmp";
+
+    // "SDLC" in ASCII
+    private static final int HEADER_MAGIC = 0x53444C43;
+    private static final int HEADER_VERSION = 4;
+    private static final int KEY_DIGEST_SIZE = 32;
+    // magic, version, codec, creation, expiration, key digest, key length and reserved
+    static final int HEADER_SIZE = 4 + 2 + 2 + 8 + 8 + KEY_DIGEST_SIZE + 4 + 4;
+    static final int FAN_OUT_LENGTH = 2;
+
     public static final Path SDMXDL_TMP_DIR = requireNonNull(SystemProperties.DEFAULT.getJavaIoTmpdir()).resolve(About.NAME).resolve(About.VERSION);
 
-    private static final UnaryOperator<String> NORMALIZE_HASH_CODE = DiskCache::normalizeHashCode;
+    private static final UnaryOperator<String> SHA_256 = DiskCache::sha256;
+
+    private static String sha256(String key) {
+        byte[] digest = digestOf(key);
+        StringBuilder result = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
 
-    private static String normalizeHashCode(String key) {
-        int hashCode = key.hashCode();
-        return String.format(Locale.ROOT, hashCode >= 0 ? "0%010d" : "1%010d", Math.abs(hashCode));
+    private static byte[] digestOf(String key) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            // every implementation of the Java platform supports SHA-256
+            throw new IllegalStateException(ex);
+        }
     }
 
     private enum DiskCacheEvent {
         HIT, MISSED, EXPIRED
     }
+
+    @lombok.Value
+    private static class ReadResult<V> {
+
+        static <V> ReadResult<V> hit(V value) {
+            return new ReadResult<>(DiskCacheEvent.HIT, value);
+        }
+
+        static <V> ReadResult<V> missed() {
+            return new ReadResult<>(DiskCacheEvent.MISSED, null);
+        }
+
+        static <V> ReadResult<V> expired() {
+            return new ReadResult<>(DiskCacheEvent.EXPIRED, null);
+        }
+
+        @NonNull DiskCacheEvent event;
+
+        @Nullable V value;
+    }
 }
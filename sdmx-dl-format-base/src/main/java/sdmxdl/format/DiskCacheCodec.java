@@ -0,0 +1,114 @@
+package sdmxdl.format;
+
+import io.airlift.compress.lz4.Lz4HadoopStreams;
+import io.airlift.compress.zstd.ZstdInputStream;
+import io.airlift.compress.zstd.ZstdOutputStream;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression of the values persisted by a disk cache.
+ * The codec of an entry is recorded in its header so that entries written with different codecs remain readable.
+ */
+@lombok.RequiredArgsConstructor
+public enum DiskCacheCodec {
+
+    /**
+     * No compression.
+     */
+    NONE(0) {
+        @Override
+        public @NonNull OutputStream encode(@NonNull OutputStream stream) {
+            return stream;
+        }
+
+        @Override
+        public @NonNull InputStream decode(@NonNull InputStream stream) {
+            return stream;
+        }
+    },
+
+    /**
+     * Deflate compression with the gzip file format.
+     */
+    GZIP(1) {
+        @Override
+        public @NonNull OutputStream encode(@NonNull OutputStream stream) throws IOException {
+            return new GZIPOutputStream(stream, BUFFER_SIZE);
+        }
+
+        @Override
+        public @NonNull InputStream decode(@NonNull InputStream stream) throws IOException {
+            return new GZIPInputStream(stream, BUFFER_SIZE);
+        }
+    },
+
+    /**
+     * LZ4 compression, faster but less dense than gzip.
+     */
+    LZ4(2) {
+        @Override
+        public @NonNull OutputStream encode(@NonNull OutputStream stream) {
+            return new Lz4HadoopStreams(BUFFER_SIZE).createOutputStream(stream);
+        }
+
+        @Override
+        public @NonNull InputStream decode(@NonNull InputStream stream) {
+            return new Lz4HadoopStreams(BUFFER_SIZE).createInputStream(stream);
+        }
+    },
+
+    /**
+     * Zstandard compression, denser than gzip at a similar or better speed.
+     */
+    ZSTD(3) {
+        @Override
+        public @NonNull OutputStream encode(@NonNull OutputStream stream) throws IOException {
+            return new ZstdOutputStream(stream);
+        }
+
+        @Override
+        public @NonNull InputStream decode(@NonNull InputStream stream) {
+            return new ZstdInputStream(stream);
+        }
+    };
+
+    @lombok.Getter(lombok.AccessLevel.PACKAGE)
+    private final int id;
+
+    /**
+     * Wraps a stream to compress the bytes written to it.
+     * Closing the resulting stream closes the given stream.
+     *
+     * @param stream a non-null stream
+     * @return a non-null stream
+     * @throws IOException if the stream cannot be wrapped
+     */
+    public abstract @NonNull OutputStream encode(@NonNull OutputStream stream) throws IOException;
+
+    /**
+     * Wraps a stream to decompress the bytes read from it.
+     * Closing the resulting stream closes the given stream.
+     *
+     * @param stream a non-null stream
+     * @return a non-null stream
+     * @throws IOException if the stream cannot be wrapped
+     */
+    public abstract @NonNull InputStream decode(@NonNull InputStream stream) throws IOException;
+
+    static DiskCacheCodec ofId(int id) throws IOException {
+        for (DiskCacheCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        throw new IOException("Unsupported codec " + id);
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+}
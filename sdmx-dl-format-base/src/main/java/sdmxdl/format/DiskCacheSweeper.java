@@ -0,0 +1,367 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package sdmxdl.format;
+
+import lombok.NonNull;
+import nbbrd.design.ThreadSafe;
+import nbbrd.design.VisibleForTesting;
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Housekeeping of a cache folder shared by several disk caches.
+ * A sweep purges the expired entries and then evicts the least recently accessed entries
+ * until the folder fits in its quota.
+ * Known entries are saved in a manifest so that the folder is only scanned when the manifest is missing or old.
+ * Scanning also deletes the files of the former flat layout, the temporary files and the lock files left over.
+ */
+@ThreadSafe
+@lombok.Builder(toBuilder = true)
+public final class DiskCacheSweeper {
+
+    @lombok.Builder.Default
+    private final @NonNull Path root = DiskCache.SDMXDL_TMP_DIR;
+
+    @lombok.Builder.Default
+    private final long maxSize = DEFAULT_MAX_SIZE;
+
+    @lombok.Builder.Default
+    private final int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    @lombok.Builder.Default
+    private final @NonNull Duration rescanPeriod = DEFAULT_RESCAN_PERIOD;
+
+    @lombok.Builder.Default
+    private final @NonNull Clock clock = Clock.systemDefaultZone();
+
+    private final @Nullable BiConsumer<? super String, ? super IOException> onError;
+
+    private final ConcurrentMap<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicReference<Instant> lastScan = new AtomicReference<>();
+
+    void onWrite(@NonNull Path file, long size, @NonNull Instant expirationTime) {
+        entries.put(file, new Entry(size, clock.instant(), expirationTime));
+    }
+
+    void onRead(@NonNull Path file) {
+        Instant now = clock.instant();
+        entries.compute(file, (key, entry) -> entry != null ? entry.withLastAccess(now) : new Entry(UNKNOWN_SIZE, now, Instant.MAX));
+    }
+
+    void onDelete(@NonNull Path file) {
+        entries.remove(file);
+    }
+
+    /**
+     * Purges the expired entries and evicts the least recently accessed entries that exceed the quota.
+     * A zero or negative bound disables the corresponding quota.
+     */
+    public synchronized void sweep() {
+        Instant now = clock.instant();
+        if (lastScan.get() == null) {
+            loadManifest();
+        }
+        Instant scanTime = lastScan.get();
+        if (scanTime == null || !now.isBefore(scanTime.plus(rescanPeriod))) {
+            scan(now);
+        }
+        resolveUnknownEntries();
+        purgeExpiredEntries(now);
+        evictOverQuotaEntries();
+        saveManifest();
+    }
+
+    @VisibleForTesting
+    int getEntryCount() {
+        return entries.size();
+    }
+
+    @VisibleForTesting
+    long getTotalSize() {
+        return entries.values().stream().mapToLong(Entry::getSize).sum();
+    }
+
+    @VisibleForTesting
+    Path getManifestFile() {
+        return root.resolve(MANIFEST_NAME);
+    }
+
+    private void scan(Instant now) {
+        if (!Files.isDirectory(root)) {
+            lastScan.set(now);
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root, ENTRY_DEPTH)) {
+            files.filter(Files::isRegularFile)
+                    .forEach(file -> {
+                        int depth = root.relativize(file).getNameCount();
+                        if (depth == ENTRY_DEPTH) {
+                            scanFile(file, now);
+                        } else if (depth == 1 && DiskCache.isLegacyFileName(file.getFileName().toString())) {
+                            deleteLegacyFile(file);
+                        }
+                    });
+            lastScan.set(now);
+        } catch (IOException ex) {
+            reportError("While scanning '" + root + "'", ex);
+        } catch (UncheckedIOException ex) {
+            reportError("While scanning '" + root + "'", ex.getCause());
+        }
+    }
+
+    private void scanFile(Path file, Instant now) {
+        String name = file.getFileName().toString();
+        try {
+            Instant lastModified = Files.getLastModifiedTime(file).toInstant();
+            if (name.endsWith(DiskCache.TEMP_SUFFIX)) {
+                // left over by a process that stopped while writing
+                if (lastModified.plus(LEFTOVER_GRACE_PERIOD).isBefore(now)) Files.deleteIfExists(file);
+            } else if (name.endsWith(DiskCache.LOCK_SUFFIX)) {
+                if (lastModified.plus(LEFTOVER_GRACE_PERIOD).isBefore(now)) deleteOrphanLock(file);
+            } else {
+                DiskCache.Header header = readHeaderOrNull(file);
+                if (header != null) {
+                    long size = Files.size(file);
+                    // the last modification only stands for the last access of entries unknown so far
+                    entries.merge(file, new Entry(size, lastModified, header.getExpirationTime()), Entry::update);
+                }
+            }
+        } catch (NoSuchFileException ex) {
+            entries.remove(file);
+        } catch (IOException ex) {
+            reportError("While scanning '" + file + "'", ex);
+        }
+    }
+
+    private void deleteLegacyFile(Path file) {
+        // files of the former flat layout are never read
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            reportError("While deleting '" + file + "'", ex);
+        }
+    }
+
+    private void deleteOrphanLock(Path lockFile) throws IOException {
+        String name = lockFile.getFileName().toString();
+        Path file = lockFile.resolveSibling(name.substring(0, name.length() - DiskCache.LOCK_SUFFIX.length()));
+        // a writer holds the lock before its entry exists so the lock must be free to be deleted
+        try (DiskCache.EntryLock lock = DiskCache.EntryLock.tryAcquireExisting(file)) {
+            if (lock != null && !Files.exists(file)) {
+                lock.deleteLockFile();
+            }
+        }
+    }
+
+    private void resolveUnknownEntries() {
+        for (Map.Entry<Path, Entry> item : entries.entrySet()) {
+            if (item.getValue().getSize() == UNKNOWN_SIZE) {
+                Path file = item.getKey();
+                DiskCache.Header header = readHeaderOrNull(file);
+                try {
+                    if (header != null) {
+                        entries.computeIfPresent(file, (key, entry) -> entry.getSize() == UNKNOWN_SIZE ? new Entry(sizeOf(file), entry.getLastAccess(), header.getExpirationTime()) : entry);
+                    } else {
+                        entries.remove(file);
+                    }
+                } catch (UncheckedIOException ex) {
+                    entries.remove(file);
+                }
+            }
+        }
+    }
+
+    private void purgeExpiredEntries(Instant now) {
+        for (Map.Entry<Path, Entry> item : entries.entrySet()) {
+            if (!now.isBefore(item.getValue().getExpirationTime())) {
+                deleteEntry(item.getKey(), now);
+            }
+        }
+    }
+
+    private void evictOverQuotaEntries() {
+        long size = getTotalSize();
+        int count = entries.size();
+        if (!isOverQuota(size, count)) {
+            return;
+        }
+        List<Map.Entry<Path, Entry>> leastRecentlyAccessedFirst = new ArrayList<>(entries.entrySet());
+        leastRecentlyAccessedFirst.sort(Map.Entry.comparingByValue(LEAST_RECENTLY_ACCESSED_FIRST));
+        for (Map.Entry<Path, Entry> item : leastRecentlyAccessedFirst) {
+            if (!isOverQuota(size, count)) {
+                break;
+            }
+            deleteEntry(item.getKey(), null);
+            size -= item.getValue().getSize();
+            count--;
+        }
+    }
+
+    private boolean isOverQuota(long size, int count) {
+        return (maxSize > 0 && size > maxSize) || (maxEntries > 0 && count > maxEntries);
+    }
+
+    private void deleteEntry(Path file, @Nullable Instant expiredAt) {
+        try (DiskCache.EntryLock ignore = DiskCache.EntryLock.acquire(file, false)) {
+            // another process might have replaced an expired entry in the meantime
+            DiskCache.Header header = expiredAt != null ? readHeaderOrNull(file) : null;
+            if (header == null || !expiredAt.isBefore(header.getExpirationTime())) {
+                Files.deleteIfExists(file);
+                entries.remove(file);
+            } else {
+                entries.computeIfPresent(file, (key, entry) -> new Entry(sizeOf(file), entry.getLastAccess(), header.getExpirationTime()));
+            }
+        } catch (IOException ex) {
+            reportError("While deleting '" + file + "'", ex);
+        } catch (UncheckedIOException ex) {
+            reportError("While deleting '" + file + "'", ex.getCause());
+        }
+    }
+
+    private void loadManifest() {
+        Path manifest = getManifestFile();
+        if (!Files.isRegularFile(manifest)) {
+            return;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(manifest)))) {
+            if (input.readInt() != MANIFEST_MAGIC || input.readUnsignedShort() != MANIFEST_VERSION) {
+                throw new IOException("Invalid manifest");
+            }
+            Instant scanTime = Instant.ofEpochMilli(input.readLong());
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                Path file = root.resolve(input.readUTF());
+                Entry entry = new Entry(input.readLong(), Instant.ofEpochMilli(input.readLong()), Instant.ofEpochMilli(input.readLong()));
+                entries.merge(file, entry, Entry::merge);
+            }
+            lastScan.set(scanTime);
+        } catch (IOException ex) {
+            reportError("While loading '" + manifest + "'", ex);
+        }
+    }
+
+    private void saveManifest() {
+        Path manifest = getManifestFile();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(root, MANIFEST_NAME, DiskCache.TEMP_SUFFIX);
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                Map<Path, Entry> snapshot = new HashMap<>(entries);
+                output.writeInt(MANIFEST_MAGIC);
+                output.writeShort(MANIFEST_VERSION);
+                output.writeLong(DiskCache.toEpochMilli(lastScan.get() != null ? lastScan.get() : Instant.EPOCH));
+                output.writeInt(snapshot.size());
+                for (Map.Entry<Path, Entry> item : snapshot.entrySet()) {
+                    output.writeUTF(root.relativize(item.getKey()).toString().replace('\\', '/'));
+                    output.writeLong(item.getValue().getSize());
+                    output.writeLong(DiskCache.toEpochMilli(item.getValue().getLastAccess()));
+                    output.writeLong(DiskCache.toEpochMilli(item.getValue().getExpirationTime()));
+                }
+            }
+            DiskCache.moveAtomically(temp, manifest);
+        } catch (IOException ex) {
+            reportError("While saving '" + manifest + "'", ex);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ex) {
+                    reportError("While deleting '" + temp + "'", ex);
+                }
+            }
+        }
+    }
+
+    private static DiskCache.@Nullable Header readHeaderOrNull(Path file) {
+        try {
+            return DiskCache.readHeader(file);
+        } catch (IOException ex) {
+            // not an entry, such as a foreign file, or already deleted
+            return null;
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void reportError(String message, IOException ex) {
+        if (onError != null) onError.accept(message, ex);
+    }
+
+    @lombok.Value
+    @lombok.With
+    private static class Entry {
+
+        long size;
+
+        @NonNull Instant lastAccess;
+
+        @NonNull Instant expirationTime;
+
+        Entry merge(Entry that) {
+            return new Entry(that.size, lastAccess.isAfter(that.lastAccess) ? lastAccess : that.lastAccess, that.expirationTime);
+        }
+
+        Entry update(Entry that) {
+            return new Entry(that.size, lastAccess, that.expirationTime);
+        }
+    }
+
+    private static final Comparator<Entry> LEAST_RECENTLY_ACCESSED_FIRST = Comparator.comparing(Entry::getLastAccess);
+
+    public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    public static final Duration DEFAULT_RESCAN_PERIOD = Duration.ofDays(1);
+
+    private static final Duration LEFTOVER_GRACE_PERIOD = Duration.ofHours(1);
+
+    private static final long UNKNOWN_SIZE = -1;
+
+    // two levels of subdirectories and the entry itself
+    private static final int ENTRY_DEPTH = 3;
+
+    private static final String MANIFEST_NAME = "manifest.dat";
+
+    // "SDLM" in ASCII
+    private static final int MANIFEST_MAGIC = 0x53444C4D;
+
+    private static final int MANIFEST_VERSION = 1;
+}
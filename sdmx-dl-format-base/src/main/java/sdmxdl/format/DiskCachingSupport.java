@@ -2,6 +2,7 @@ package sdmxdl.format;
 
 import lombok.AccessLevel;
 import lombok.NonNull;
+import nbbrd.design.VisibleForTesting;
 import org.jspecify.annotations.Nullable;
 import sdmxdl.*;
 import sdmxdl.ext.Cache;
@@ -14,18 +15,30 @@ import sdmxdl.web.MonitorReports;
 import sdmxdl.web.WebSource;
 import sdmxdl.web.spi.WebCaching;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
 
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toMap;
 import static sdmxdl.format.FileFormatSupport.*;
 
 @ServiceSupport(FileCaching.class)
 @ServiceSupport(WebCaching.class)
 @lombok.Builder(toBuilder = true)
+@lombok.extern.java.Log
 public final class DiskCachingSupport implements FileCaching, WebCaching {
 
     @lombok.Getter(AccessLevel.PRIVATE)
@@ -43,9 +56,24 @@ public final class DiskCachingSupport implements FileCaching, WebCaching {
     @lombok.Builder.Default
     private final boolean noCompression = false;
 
+    @lombok.Builder.Default
+    private final @NonNull DiskCacheCodec codec = DiskCacheCodec.GZIP;
+
     @lombok.Builder.Default
     private final @NonNull String persistenceId = "";
 
+    @lombok.Builder.Default
+    private final long memoryMaxSize = DEFAULT_MEMORY_MAX_SIZE;
+
+    @lombok.Builder.Default
+    private final boolean compactMemory = false;
+
+    @lombok.Builder.Default
+    private final long maxSize = DiskCacheSweeper.DEFAULT_MAX_SIZE;
+
+    @lombok.Builder.Default
+    private final int maxEntries = DiskCacheSweeper.DEFAULT_MAX_ENTRIES;
+
     @Override
     public @NonNull String getFileCachingId() {
         return id;
@@ -70,12 +98,14 @@ public final class DiskCachingSupport implements FileCaching, WebCaching {
     public @NonNull Cache<DataRepository> getReaderCache(@NonNull FileSource source, @NonNull List<Persistence> persistences, @Nullable EventListener onEvent, @Nullable ErrorListener onError) {
         FileFormat<DataRepository> repository = lookupFileFormat(DataRepository.class, persistences);
         logConfig(onEvent, repository);
-        return decorateCache(DiskCache
+        return decorateRepositoryCache("R", DiskCache
                 .<DataRepository>builder()
                 .root(root)
                 .format(decorateFormat(repository))
                 .namePrefix("R")
+                .codec(getCodec())
                 .clock(clock)
+                .sweeper(getSharedSweeper())
                 .onRead(onEvent != null ? onEvent.asConsumer(id) : null)
                 .onError(onError != null ? onError.asBiConsumer(id) : null)
                 .build());
@@ -85,12 +115,14 @@ public final class DiskCachingSupport implements FileCaching, WebCaching {
     public @NonNull Cache<DataRepository> getDriverCache(@NonNull WebSource source, @NonNull List<Persistence> persistences, @Nullable EventListener onEvent, @Nullable ErrorListener onError) {
         FileFormat<DataRepository> repository = lookupFileFormat(DataRepository.class, persistences);
         logConfig(onEvent, repository);
-        return decorateCache(DiskCache
+        return decorateRepositoryCache("D", DiskCache
                 .<DataRepository>builder()
                 .root(root)
                 .format(decorateFormat(repository))
                 .namePrefix("D")
+                .codec(getCodec())
                 .clock(clock)
+                .sweeper(getSharedSweeper())
                 .onRead(onEvent != null ? onEvent.asConsumer(id) : null)
                 .onError(onError != null ? onError.asBiConsumer(id) : null)
                 .build());
@@ -100,12 +132,14 @@ public final class DiskCachingSupport implements FileCaching, WebCaching {
     public @NonNull Cache<MonitorReports> getMonitorCache(@NonNull WebSource source, @NonNull List<Persistence> persistences, @Nullable EventListener onEvent, @Nullable ErrorListener onError) {
         FileFormat<MonitorReports> monitor = lookupFileFormat(MonitorReports.class, persistences);
         logConfig(onEvent, monitor);
-        return decorateCache(DiskCache
+        return decorateCache("M", DiskCachingSupport::estimateMonitorSize, DiskCache
                 .<MonitorReports>builder()
                 .root(root)
                 .format(decorateFormat(monitor))
                 .namePrefix("M")
+                .codec(getCodec())
                 .clock(clock)
+                .sweeper(getSharedSweeper())
                 .onRead(onEvent != null ? onEvent.asConsumer(id) : null)
                 .onError(onError != null ? onError.asBiConsumer(id) : null)
                 .build());
@@ -137,23 +171,138 @@ public final class DiskCachingSupport implements FileCaching, WebCaching {
     }
 
     private <T extends HasPersistence> FileFormat<T> decorateFormat(FileFormat<T> format) {
-        return lock(noCompression ? wrap(format) : gzip(wrap(format)));
+        // locking and compression are done by the disk cache itself
+        return wrap(format);
     }
 
-    private <T extends HasExpiration> Cache<T> decorateCache(Cache<T> delegate) {
-        return dry(new LockingByKeyCache<>(delegate));
+    private DiskCacheCodec getCodec() {
+        return noCompression ? DiskCacheCodec.NONE : codec;
     }
 
-    private static <V extends HasExpiration> Cache<V> dry(Cache<V> cache) {
-        return new DualCache<>(
-                MemCache.<V>builder().clock(cache.getClock()).build(),
-                cache,
-                cache.getClock()
+    private <T extends HasExpiration> Cache<T> decorateCache(String namePrefix, ToLongFunction<? super T> weigher, Cache<T> delegate) {
+        return dry(getSharedMemCache(namePrefix, weigher), new LockingByKeyCache<>(delegate));
+    }
+
+    private Cache<DataRepository> decorateRepositoryCache(String namePrefix, Cache<DataRepository> delegate) {
+        Cache<DataRepository> memory = getSharedMemCache(namePrefix, DiskCachingSupport::estimateRepositorySize);
+        return dry(compactMemory ? new CompactCache(memory) : memory, new LockingByKeyCache<>(delegate));
+    }
+
+    private static <V extends HasExpiration> Cache<V> dry(Cache<V> first, Cache<V> second) {
+        return new DualCache<>(first, second, second.getClock());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V extends HasExpiration> Cache<V> getSharedMemCache(String namePrefix, ToLongFunction<? super V> weigher) {
+        if (memoryMaxSize <= 0) {
+            return MemCache.<V>builder().clock(clock).build();
+        }
+        return (Cache<V>) SHARED_MEM_CACHES.computeIfAbsent(
+                getSharedMemCacheKey(namePrefix),
+                ignore -> BoundedMemCache.<V>builder().maxWeight(memoryMaxSize).weigher(weigher).clock(clock).build()
         );
     }
 
+    private String getSharedMemCacheKey(String namePrefix) {
+        return root.toUri() + namePrefix + memoryMaxSize;
+    }
+
+    private DiskCacheSweeper getSharedSweeper() {
+        return SHARED_SWEEPERS.computeIfAbsent(getSharedSweeperKey(), ignore -> {
+            DiskCacheSweeper result = DiskCacheSweeper
+                    .builder()
+                    .root(root)
+                    .maxSize(maxSize)
+                    .maxEntries(maxEntries)
+                    .clock(clock)
+                    .onError(DiskCachingSupport::reportSweepError)
+                    .build();
+            // the first sweep is done right away since short-lived processes might not live long enough to wait
+            SWEEPING.scheduleWithFixedDelay(() -> sweepSafely(result), 0, SWEEP_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            return result;
+        });
+    }
+
+    private String getSharedSweeperKey() {
+        return root.toUri() + "?maxSize=" + maxSize + "&maxEntries=" + maxEntries;
+    }
+
+    /**
+     * Gets the statistics of the memory tier shared by all the connections of a cache folder.
+     *
+     * @return a non-null map of statistics by memory tier
+     */
+    public static @NonNull Map<String, BoundedMemCache.Stats> getSharedMemCacheStats() {
+        return SHARED_MEM_CACHES
+                .entrySet()
+                .stream()
+                .collect(toMap(Map.Entry::getKey, entry -> entry.getValue().getStats()));
+    }
+
+    public static final long DEFAULT_MEMORY_MAX_SIZE = 64L * 1024 * 1024;
+
+    private static final ConcurrentMap<String, BoundedMemCache<?>> SHARED_MEM_CACHES = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, DiskCacheSweeper> SHARED_SWEEPERS = new ConcurrentHashMap<>();
+
+    private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(10);
+
+    private static final ScheduledExecutorService SWEEPING = Executors.newSingleThreadScheduledExecutor(DiskCachingSupport::newSweepingThread);
+
+    private static Thread newSweepingThread(Runnable runnable) {
+        Thread result = new Thread(runnable, "sdmxdl-cache-sweeping");
+        result.setDaemon(true);
+        result.setPriority(Thread.MIN_PRIORITY);
+        return result;
+    }
+
+    // the sweeper is shared by all the sources of a cache folder so its errors are not tied to any listener
+    private static void reportSweepError(String message, IOException ex) {
+        log.log(Level.WARNING, message, ex);
+    }
+
+    @VisibleForTesting
+    static void sweepSafely(DiskCacheSweeper sweeper) {
+        // a periodic task that throws is never run again, so the failure is reported and the next sweep still happens
+        try {
+            sweeper.sweep();
+        } catch (RuntimeException ex) {
+            log.log(Level.WARNING, "While sweeping cache folder", ex);
+        }
+    }
+
+    @VisibleForTesting
+    static long estimateRepositorySize(DataRepository value) {
+        long result = 64;
+        for (Structure structure : value.getStructures()) {
+            result += 256 + 128L * (structure.getDimensions().size() + structure.getAttributes().size());
+            for (Dimension dimension : structure.getDimensions()) {
+                result += 64L * dimension.getCodes().size();
+            }
+        }
+        result += 256L * value.getFlows().size();
+        for (DataSet dataSet : value.getDataSets()) {
+            result += estimateDataSize(dataSet);
+        }
+        return result;
+    }
+
+    private static long estimateDataSize(DataSet dataSet) {
+        long[] result = {0};
+        // compact series are weighed as is since converting them would recreate the objects that compaction avoids
+        CompactSeries.forEach(dataSet.getData(),
+                series -> result[0] += 128 + 64L * series.getMeta().size() + 24L * series.size(),
+                series -> result[0] += 128 + 64L * series.getMeta().size() + 96L * series.getObs().size());
+        return result[0];
+    }
+
+    @VisibleForTesting
+    static long estimateMonitorSize(MonitorReports value) {
+        return 64 + 128L * value.getReports().size();
+    }
+
     private void logConfig(EventListener onEvent, FileFormat<?> format) {
         if (onEvent != null)
-            onEvent.accept(id, "Using cache folder " + root.toUri() + " with format '" + format.getFileExtension() + "'");
+            onEvent.accept(id, "Using cache folder " + root.toUri() + " with format '" + format.getFileExtension() + "' and codec '" + getCodec() + "'");
     }
 }
@@ -0,0 +1,50 @@
+package sdmxdl.format;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Locks shared by all the threads of the JVM and released as soon as no thread waits for them.
+ */
+// https://www.baeldung.com/java-acquire-lock-by-key
+@lombok.experimental.UtilityClass
+class KeyLocks {
+
+    private static final class LockWrapper {
+        private final Lock lock = new ReentrantLock();
+        private final AtomicInteger numberOfThreadsInQueue = new AtomicInteger(1);
+
+        private LockWrapper addThreadInQueue() {
+            numberOfThreadsInQueue.incrementAndGet();
+            return this;
+        }
+
+        private int removeThreadFromQueue() {
+            return numberOfThreadsInQueue.decrementAndGet();
+        }
+    }
+
+    private static final ConcurrentHashMap<String, LockWrapper> LOCKS = new ConcurrentHashMap<>();
+
+    static void lock(String key) {
+        LockWrapper lockWrapper = LOCKS.compute(key, (k, v) -> v == null ? new LockWrapper() : v.addThreadInQueue());
+        lockWrapper.lock.lock();
+    }
+
+    static boolean tryLock(String key) {
+        LockWrapper lockWrapper = LOCKS.compute(key, (k, v) -> v == null ? new LockWrapper() : v.addThreadInQueue());
+        if (lockWrapper.lock.tryLock()) {
+            return true;
+        }
+        LOCKS.computeIfPresent(key, (k, v) -> v.removeThreadFromQueue() == 0 ? null : v);
+        return false;
+    }
+
+    static void unlock(String key) {
+        LOCKS.get(key).lock.unlock();
+        // NB : the removal is done atomically with the queuing of other threads to prevent them from using a removed lock
+        LOCKS.computeIfPresent(key, (k, v) -> v.removeThreadFromQueue() == 0 ? null : v);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package sdmxdl.format;
+
+import lombok.NonNull;
+import nbbrd.design.NotThreadSafe;
+import nbbrd.design.VisibleForTesting;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Input stream that reads a file through memory-mapped regions instead of read calls.
+ * <p>
+ * The content is served from the page cache, which benefits files that are read repeatedly.
+ * Regions are mapped one at a time and are released by the garbage collector;
+ * on some platforms, a mapped file cannot be deleted until its regions are released.
+ */
+@NotThreadSafe
+public final class MappedFileInputStream extends InputStream {
+
+    public static @NonNull MappedFileInputStream open(@NonNull Path file) throws IOException {
+        return new MappedFileInputStream(FileChannel.open(file, StandardOpenOption.READ), DEFAULT_REGION_SIZE);
+    }
+
+    @VisibleForTesting
+    static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+
+    private final int regionSize;
+
+    private final long size;
+
+    private long regionOffset = 0;
+
+    private MappedByteBuffer region = null;
+
+    @VisibleForTesting
+    MappedFileInputStream(FileChannel channel, int regionSize) throws IOException {
+        this.channel = channel;
+        this.regionSize = regionSize;
+        this.size = channel.size();
+    }
+
+    @Override
+    public int read() throws IOException {
+        return hasRemaining() ? region.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!hasRemaining()) {
+            return -1;
+        }
+        int result = Math.min(len, region.remaining());
+        region.get(b, off, result);
+        return result;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        long position = getPosition();
+        long result = Math.min(n, size - position);
+        seek(position + result);
+        return result;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(size - getPosition(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+
+    private long getPosition() {
+        return region != null ? regionOffset + region.position() : regionOffset;
+    }
+
+    private boolean hasRemaining() throws IOException {
+        if (region != null && region.hasRemaining()) {
+            return true;
+        }
+        long position = getPosition();
+        if (position >= size) {
+            return false;
+        }
+        seek(position);
+        return true;
+    }
+
+    private void seek(long position) throws IOException {
+        if (region != null && position >= regionOffset && position < regionOffset + region.limit()) {
+            region.position((int) (position - regionOffset));
+            return;
+        }
+        regionOffset = position;
+        region = position < size
+                ? channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, size - position))
+                : null;
+    }
+}
@@ -18,29 +18,84 @@ package sdmxdl.format;
 
 import lombok.NonNull;
 import nbbrd.design.NotThreadSafe;
+import nbbrd.io.function.IOUnaryOperator;
 import nbbrd.io.text.Parser;
 import org.jspecify.annotations.Nullable;
+import sdmxdl.Duration;
 import sdmxdl.format.time.ObservationalTimePeriod;
 import sdmxdl.format.time.TimeFormats;
 
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static sdmxdl.format.DataCursor.NO_PERIOD_START;
 import static sdmxdl.format.time.TimeFormats.IGNORE_ERROR;
 
 /**
  * @author Philippe Charles
  */
 @NotThreadSafe
-@lombok.RequiredArgsConstructor
 public final class ObsParser {
 
     public static @NonNull ObsParser newDefault() {
-        return new ObsParser(TimeFormats.getObservationalTimePeriod(IGNORE_ERROR), Parser.onDouble());
+        return new ObsParser(TimeFormats.getObservationalTimePeriod(IGNORE_ERROR), Parser.onDouble(), TimeFormats.getObservationalTimePeriodFormats(IGNORE_ERROR));
     }
 
     private final Parser<ObservationalTimePeriod> timeParser;
     private final Parser<Double> valueParser;
+    private final List<Parser<ObservationalTimePeriod>> timeFormats;
+    private final Map<String, ObservationalTimePeriod> periodCache = new LinkedHashMap<String, ObservationalTimePeriod>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ObservationalTimePeriod> eldest) {
+            return size() > PERIOD_CACHE_SIZE;
+        }
+    };
+    private int timeFormatIndex = -1;
     private String period = null;
     private String value = null;
 
+    /**
+     * Number of periods found in the per-parser cache of parsed periods.
+     */
+    @lombok.Getter
+    private long periodCacheHitCount = 0;
+
+    /**
+     * Number of periods missing from the per-parser cache of parsed periods.
+     */
+    @lombok.Getter
+    private long periodCacheMissCount = 0;
+
+    /**
+     * Number of periods parsed by the format detected on previous periods.
+     */
+    @lombok.Getter
+    private long periodFormatHitCount = 0;
+
+    /**
+     * Number of periods that required a new detection of their format.
+     */
+    @lombok.Getter
+    private long periodFormatMissCount = 0;
+
+    public ObsParser(@NonNull Parser<ObservationalTimePeriod> timeParser, @NonNull Parser<Double> valueParser) {
+        this(timeParser, valueParser, Collections.emptyList());
+    }
+
+    private ObsParser(Parser<ObservationalTimePeriod> timeParser, Parser<Double> valueParser, List<Parser<ObservationalTimePeriod>> timeFormats) {
+        this.timeParser = timeParser;
+        this.valueParser = valueParser;
+        this.timeFormats = timeFormats;
+    }
+
+    private boolean isDefault() {
+        return !timeFormats.isEmpty();
+    }
+
     @NonNull
     public ObsParser clear() {
         this.period = null;
@@ -60,13 +115,208 @@ public final class ObsParser {
         return this;
     }
 
+    /**
+     * Parses the period.
+     * Parsed periods are cached by text since a dataset usually contains few distinct periods.
+     *
+     * @return the period or null if the period is missing or invalid
+     */
     @Nullable
     public ObservationalTimePeriod parsePeriod() {
-        return timeParser.parse(this.period);
+        if (period == null) {
+            return timeParser.parse(null);
+        }
+        ObservationalTimePeriod result = periodCache.get(period);
+        if (result != null) {
+            periodCacheHitCount++;
+            return result;
+        }
+        periodCacheMissCount++;
+        result = isDefault() ? parsePeriodWithFormats(period) : timeParser.parse(period);
+        if (result != null) {
+            periodCache.put(period, result);
+        }
+        return result;
+    }
+
+    // tries the last detected format first instead of the whole chain of formats
+    private ObservationalTimePeriod parsePeriodWithFormats(String text) {
+        if (timeFormatIndex != -1) {
+            ObservationalTimePeriod result = timeFormats.get(timeFormatIndex).parse(text);
+            if (result != null) {
+                periodFormatHitCount++;
+                return result;
+            }
+        }
+        periodFormatMissCount++;
+        for (int i = 0; i < timeFormats.size(); i++) {
+            if (i != timeFormatIndex) {
+                ObservationalTimePeriod result = timeFormats.get(i).parse(text);
+                if (result != null) {
+                    timeFormatIndex = i;
+                    return result;
+                }
+            }
+        }
+        return null;
     }
 
     @Nullable
     public Double parseValue() {
         return valueParser.parse(value);
     }
+
+    /**
+     * Parses the start of the period as seconds since epoch (UTC) without creating intermediate objects
+     * when the period is a gregorian year, month or day.
+     *
+     * @param obsAttributes a non-null function that gives the observation attributes
+     * @return the start of the period or {@link DataCursor#NO_PERIOD_START} if the period is missing or invalid
+     * @throws IOException if the attributes cannot be read
+     */
+    public long parsePeriodStartEpochSecond(@NonNull IOUnaryOperator<String> obsAttributes) throws IOException {
+        if (isDefault()) {
+            long result = parseGregorianStartEpochDay(period);
+            if (result != NO_EPOCH_DAY) {
+                return result * SECONDS_PER_DAY;
+            }
+        }
+        ObservationalTimePeriod result = parsePeriod();
+        if (result == null) {
+            return NO_PERIOD_START;
+        }
+        return result
+                .toStartTime(TimeFormats.dependsOnReportingYearStartDay(result) ? TimeFormats.getReportingYearStartDay(obsAttributes) : null)
+                .toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Parses the duration of the period without creating intermediate objects
+     * when the period is a gregorian year, month or day.
+     *
+     * @return the duration of the period or null if the period is missing or invalid
+     */
+    @Nullable
+    public Duration parsePeriodDuration() {
+        if (isDefault()) {
+            Duration result = getGregorianDuration(period);
+            if (result != null) {
+                return result;
+            }
+        }
+        ObservationalTimePeriod result = parsePeriod();
+        return result != null ? result.getDuration() : null;
+    }
+
+    /**
+     * Parses the value without boxing.
+     *
+     * @return the value or {@link Double#NaN} if the value is missing or invalid
+     */
+    public double parseValueAsDouble() {
+        if (isDefault()) {
+            if (value == null) {
+                return Double.NaN;
+            }
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException ex) {
+                return Double.NaN;
+            }
+        }
+        Double result = valueParser.parse(value);
+        return result != null ? result : Double.NaN;
+    }
+
+    private static final int PERIOD_CACHE_SIZE = 4096;
+    private static final long NO_EPOCH_DAY = Long.MIN_VALUE;
+    private static final long SECONDS_PER_DAY = 86400;
+    private static final long DAYS_0000_TO_1970 = 719528;
+
+    // same formats as the gregorian time periods: uuuu, uuuu-MM and uuuu-MM-dd
+    private static @Nullable Duration getGregorianDuration(@Nullable String text) {
+        if (parseGregorianStartEpochDay(text) == NO_EPOCH_DAY) {
+            return null;
+        }
+        switch (text.length()) {
+            case 4:
+                return Duration.P1Y;
+            case 7:
+                return Duration.P1M;
+            default:
+                return Duration.P1D;
+        }
+    }
+
+    private static long parseGregorianStartEpochDay(@Nullable String text) {
+        if (text == null) {
+            return NO_EPOCH_DAY;
+        }
+        int year = parseDigits(text, 0, 4);
+        if (year == -1) {
+            return NO_EPOCH_DAY;
+        }
+        switch (text.length()) {
+            case 4:
+                return toEpochDay(year, 1, 1);
+            case 7: {
+                int month = text.charAt(4) == '-' ? parseDigits(text, 5, 7) : -1;
+                return 1 <= month && month <= 12 ? toEpochDay(year, month, 1) : NO_EPOCH_DAY;
+            }
+            case 10: {
+                int month = text.charAt(4) == '-' ? parseDigits(text, 5, 7) : -1;
+                int day = text.charAt(7) == '-' ? parseDigits(text, 8, 10) : -1;
+                return 1 <= month && month <= 12 && 1 <= day && day <= lengthOfMonth(year, month) ? toEpochDay(year, month, day) : NO_EPOCH_DAY;
+            }
+            default:
+                return NO_EPOCH_DAY;
+        }
+    }
+
+    private static int parseDigits(String text, int start, int end) {
+        if (text.length() < end) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // see java.time.LocalDate#toEpochDay() restricted to positive years
+    private static long toEpochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
 }
@@ -8,6 +8,9 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.IOException;
 import java.time.MonthDay;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -113,6 +116,17 @@ public final class TimeFormats {
         return MONTH_DAY_PARSER.parse(reportingYearStartDay);
     }
 
+    /**
+     * Checks if the start of a period depends on the reporting year start day,
+     * so that looking up the attributes can be skipped otherwise.
+     *
+     * @param period a non-null period
+     * @return true if the reporting year start day must be provided
+     */
+    public static boolean dependsOnReportingYearStartDay(@NonNull ObservationalTimePeriod period) {
+        return period instanceof ReportingTimePeriod;
+    }
+
     private static final Parser<MonthDay> MONTH_DAY_PARSER = Parser.of(MonthDay::parse);
 
     public static @NonNull Parser<ObservationalTimePeriod> onReportingFormat(
@@ -134,6 +148,25 @@ public final class TimeFormats {
         return getStandardTimePeriod(onError).orElse(getTimeRange(onError));
     }
 
+    /**
+     * Gets the distinct formats of observational time periods in the same order as {@link #getObservationalTimePeriod(Consumer)}.
+     * Since these formats don't overlap, they can be tried in any order.
+     *
+     * @param onError a non-null error handler
+     * @return a non-null list of parsers
+     */
+    public static @NonNull List<Parser<ObservationalTimePeriod>> getObservationalTimePeriodFormats(@NonNull Consumer<? super Throwable> onError) {
+        return Collections.unmodifiableList(Arrays.asList(
+                onParser(GregorianTimePeriod.Year::isParsable, GregorianTimePeriod.Year::parse, onError),
+                onParser(GregorianTimePeriod.YearMonth::isParsable, GregorianTimePeriod.YearMonth::parse, onError),
+                onParser(GregorianTimePeriod.Day::isParsable, GregorianTimePeriod.Day::parse, onError),
+                onParser(DateTime::isParsable, DateTime::parse, onError),
+                onParser(ReportingTimePeriod::isParsable, ReportingTimePeriod::parse, onError),
+                onParser(TimeRange.DateRange::isParsable, TimeRange.DateRange::parse, onError),
+                onParser(TimeRange.DateTimeRange::isParsable, TimeRange.DateTimeRange::parse, onError)
+        ));
+    }
+
     public static Parser<ObservationalTimePeriod> getStandardTimePeriod(Consumer<? super Throwable> onError) {
         return getBasicTimePeriod(onError).orElse(getReportingTimePeriod(onError));
     }
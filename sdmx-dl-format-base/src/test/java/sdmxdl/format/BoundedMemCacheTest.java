@@ -0,0 +1,109 @@
+package sdmxdl.format;
+
+import org.junit.jupiter.api.Test;
+import sdmxdl.DataRepository;
+import sdmxdl.web.MonitorReports;
+import tests.sdmxdl.ext.FakeClock;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tests.sdmxdl.ext.CacheAssert.assertMonitorCompliance;
+import static tests.sdmxdl.ext.CacheAssert.assertRepositoryCompliance;
+
+public class BoundedMemCacheTest {
+
+    @Test
+    public void testCompliance() {
+        assertMonitorCompliance(BoundedMemCache.<MonitorReports>builder().build());
+        assertRepositoryCompliance(BoundedMemCache.<DataRepository>builder().build());
+    }
+
+    @Test
+    public void testGetPut() {
+        FakeClock clock = new FakeClock();
+        clock.set(1000);
+
+        BoundedMemCache<DataRepository> x = BoundedMemCache
+                .<DataRepository>builder()
+                .clock(clock)
+                .build();
+
+        assertThat(x.get("KEY1"))
+                .as("Empty cache should return null")
+                .isNull();
+
+        DataRepository r1 = repo("r1", clock);
+        x.put("KEY1", r1);
+        clock.plus(9);
+        assertThat(x.get("KEY1"))
+                .as("Non-expired key should return value")
+                .isEqualTo(r1);
+
+        clock.plus(1);
+        assertThat(x.get("KEY1"))
+                .as("Expired key should return null")
+                .isNull();
+
+        assertThat(x.getStats())
+                .isEqualTo(new BoundedMemCache.Stats(1, 2, 0, 0, 0));
+    }
+
+    @Test
+    public void testEviction() {
+        FakeClock clock = new FakeClock();
+        clock.set(1000);
+
+        BoundedMemCache<DataRepository> x = BoundedMemCache
+                .<DataRepository>builder()
+                .maxWeight(2)
+                .clock(clock)
+                .build();
+
+        x.put("KEY1", repo("r1", clock));
+        x.put("KEY2", repo("r2", clock));
+        assertThat(x.get("KEY1")).isNotNull();
+
+        x.put("KEY3", repo("r3", clock));
+        assertThat(x.get("KEY2"))
+                .as("Least recently used key should be evicted")
+                .isNull();
+        assertThat(x.get("KEY1")).isNotNull();
+        assertThat(x.get("KEY3")).isNotNull();
+
+        assertThat(x.getStats())
+                .isEqualTo(new BoundedMemCache.Stats(3, 1, 1, 2, 2));
+    }
+
+    @Test
+    public void testWeigher() {
+        FakeClock clock = new FakeClock();
+        clock.set(1000);
+
+        BoundedMemCache<DataRepository> x = BoundedMemCache
+                .<DataRepository>builder()
+                .maxWeight(10)
+                .weigher(repo -> repo.getName().length())
+                .clock(clock)
+                .build();
+
+        x.put("KEY1", repo("12345", clock));
+        x.put("KEY2", repo("123456", clock));
+        assertThat(x.get("KEY1")).isNull();
+        assertThat(x.get("KEY2")).isNotNull();
+
+        x.put("KEY3", repo("12345678901", clock));
+        assertThat(x.get("KEY3"))
+                .as("Oversized value should not be stored")
+                .isNull();
+        assertThat(x.get("KEY2")).isNotNull();
+    }
+
+    private static DataRepository repo(String name, FakeClock clock) {
+        return DataRepository
+                .builder()
+                .name(name)
+                .ttl(clock.instant(), Duration.ofMillis(10))
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package sdmxdl.format;
+
+import org.junit.jupiter.api.Test;
+import sdmxdl.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CodeDictionaryTest {
+
+    @Test
+    public void testCanonicalize() {
+        CodeDictionary x = CodeDictionary.of(dsd);
+
+        assertThat(x.canonicalize(null)).isNull();
+        assertThat(x.canonicalize(copyOf("BE"))).isSameAs(dsd.getDimensions().get(1).getCodes().keySet().stream().filter("BE"::equals).findFirst().get());
+        assertThat(x.canonicalize(copyOf("REGION"))).isSameAs(dsd.getDimensions().get(1).getId());
+        assertThat(x.canonicalize(copyOf("A"))).isEqualTo("A");
+
+        String other = copyOf("other");
+        assertThat(x.canonicalize(other)).isSameAs(other);
+        assertThat(CodeDictionary.EMPTY.canonicalize(other)).isSameAs(other);
+    }
+
+    @Test
+    public void testInterner() {
+        CodeDictionary.Interner x = CodeDictionary.of(dsd).newInterner();
+
+        assertThat(x.intern(null)).isNull();
+        assertThat(x.intern(copyOf("IND"))).isSameAs(x.intern(copyOf("IND"))).isSameAs(CodeDictionary.of(dsd).canonicalize("IND"));
+
+        String first = copyOf("hello");
+        assertThat(x.intern(first)).isSameAs(first);
+        assertThat(x.intern(copyOf("hello"))).isSameAs(first);
+    }
+
+    @Test
+    public void testBoundedPool() {
+        CodeDictionary.Interner x = new CodeDictionary.Interner(CodeDictionary.EMPTY, 1);
+
+        String first = copyOf("a");
+        assertThat(x.intern(first)).isSameAs(first);
+        assertThat(x.intern(copyOf("a"))).isSameAs(first);
+
+        String second = copyOf("b");
+        assertThat(x.intern(second)).isSameAs(second);
+        assertThat(x.intern(copyOf("b"))).isNotSameAs(second).isEqualTo(second);
+    }
+
+    private static String copyOf(String text) {
+        return new String(text.toCharArray());
+    }
+
+    private final Codelist clSector = Codelist.builder().ref(CodelistRef.parse("CL_SECTOR")).code("IND", "Industry").build();
+    private final Codelist clRegion = Codelist.builder().ref(CodelistRef.parse("CL_REGION")).code("BE", "Belgium").code("LU", "Luxembourg").build();
+
+    private final Structure dsd = Structure
+            .builder()
+            .ref(StructureRef.parse("ref"))
+            .primaryMeasureId("")
+            .name("")
+            .dimension(Dimension.builder().id("SECTOR").name("Sector").codelist(clSector).build())
+            .dimension(Dimension.builder().id("REGION").name("Region").codelist(clRegion).build())
+            .build();
+}
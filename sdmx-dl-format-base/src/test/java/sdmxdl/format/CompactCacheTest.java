@@ -0,0 +1,79 @@
+package sdmxdl.format;
+
+import org.junit.jupiter.api.Test;
+import sdmxdl.*;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static tests.sdmxdl.api.RepoSamples.DATA_SET;
+import static tests.sdmxdl.api.RepoSamples.REPO;
+import static tests.sdmxdl.ext.CacheAssert.assertRepositoryCompliance;
+
+public class CompactCacheTest {
+
+    @Test
+    public void testCompliance() {
+        assertRepositoryCompliance(new CompactCache(MemCache.<DataRepository>builder().build()));
+    }
+
+    @Test
+    public void testEstimateRepositorySize() {
+        assumeTrue(getAllocatedBytes() >= 0, "Allocated bytes not supported");
+
+        DataSet.Builder data = DataSet.builder().ref(DATA_SET.getRef());
+        for (int i = 0; i < 100; i++) {
+            Series.Builder series = Series.builder().key(Key.of("S" + i));
+            for (int j = 0; j < 1_000; j++) {
+                series.obs(Obs.builder().period(TimeInterval.of(LocalDateTime.of(2000, 1, 1, 0, 0).plusDays(j), Duration.P1D)).value(j).build());
+            }
+            data.series(series.build());
+        }
+        DataRepository regular = DataRepository.builder().dataSet(data.build()).build();
+        DataRepository compact = DataRepository.builder().dataSet(regular.getDataSets().get(0).toCompact()).build();
+
+        assertThat(DiskCachingSupport.estimateRepositorySize(compact))
+                .isLessThan(DiskCachingSupport.estimateRepositorySize(regular));
+
+        long start = getAllocatedBytes();
+        compact.getDataSets().get(0).getData().forEach(Series::getObs);
+        long materializing = getAllocatedBytes() - start;
+
+        start = getAllocatedBytes();
+        DiskCachingSupport.estimateRepositorySize(compact);
+        long weighing = getAllocatedBytes() - start;
+
+        assertThat(weighing)
+                .describedAs("Weighing compact data should not convert it back to series")
+                .isLessThan(materializing / 100);
+    }
+
+    private static long getAllocatedBytes() {
+        try {
+            return (Long) ManagementFactory.getPlatformMBeanServer().getAttribute(new ObjectName(ManagementFactory.THREAD_MXBEAN_NAME), "CurrentThreadAllocatedBytes");
+        } catch (JMException | RuntimeException ex) {
+            return -1;
+        }
+    }
+
+    @Test
+    public void testPut() {
+        Map<String, DataRepository> map = new HashMap<>();
+        CompactCache x = new CompactCache(MemCache.<DataRepository>builder().map(map).build());
+
+        DataRepository repository = REPO.toBuilder().clearDataSets().dataSet(DATA_SET).build();
+        x.put("KEY1", repository);
+
+        assertThat(map.get("KEY1").getDataSets())
+                .allMatch(DataSet::isCompact);
+
+        assertThat(x.get("KEY1"))
+                .isEqualTo(repository);
+    }
+}
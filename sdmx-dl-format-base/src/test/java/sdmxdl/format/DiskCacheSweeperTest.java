@@ -0,0 +1,285 @@
+package sdmxdl.format;
+
+import nbbrd.io.FileFormatter;
+import nbbrd.io.FileParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sdmxdl.DataRepository;
+import tests.sdmxdl.ext.FakeClock;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+public class DiskCacheSweeperTest {
+
+    @Test
+    public void testMaxEntries(@TempDir Path temp) {
+        FakeClock clock = new FakeClock().set(1000);
+        List<IOException> exceptions = new ArrayList<>();
+
+        DiskCacheSweeper sweeper = newSweeper(temp, clock, exceptions).toBuilder().maxEntries(2).build();
+        DiskCache<DataRepository> cache = newCache(temp, clock, sweeper);
+
+        cache.put("KEY1", repositoryOf("r1", clock));
+        clock.plus(1);
+        cache.put("KEY2", repositoryOf("r2", clock));
+        clock.plus(1);
+        cache.put("KEY3", repositoryOf("r3", clock));
+        clock.plus(1);
+        assertThat(cache.get("KEY1")).isNotNull();
+
+        sweeper.sweep();
+        assertThat(cache.getFile("KEY1")).exists();
+        assertThat(cache.getFile("KEY2"))
+                .as("Least recently accessed entry should be evicted")
+                .doesNotExist();
+        assertThat(cache.getFile("KEY3")).exists();
+        assertThat(sweeper.getEntryCount()).isEqualTo(2);
+        assertThat(exceptions).isEmpty();
+    }
+
+    @Test
+    public void testMaxSize(@TempDir Path temp) {
+        FakeClock clock = new FakeClock().set(1000);
+        List<IOException> exceptions = new ArrayList<>();
+
+        DiskCacheSweeper probe = newSweeper(temp.resolve("probe"), clock, exceptions);
+        newCache(temp.resolve("probe"), clock, probe).put("KEY1", repositoryOf("r1", clock));
+        long entrySize = probe.getTotalSize();
+
+        DiskCacheSweeper sweeper = newSweeper(temp, clock, exceptions).toBuilder().maxSize(entrySize * 2).build();
+        DiskCache<DataRepository> cache = newCache(temp, clock, sweeper);
+        for (String key : new String[]{"KEY1", "KEY2", "KEY3"}) {
+            cache.put(key, repositoryOf("r1", clock));
+            clock.plus(1);
+        }
+
+        sweeper.sweep();
+        assertThat(cache.getFile("KEY1")).doesNotExist();
+        assertThat(cache.getFile("KEY2")).exists();
+        assertThat(cache.getFile("KEY3")).exists();
+        assertThat(sweeper.getTotalSize()).isEqualTo(entrySize * 2);
+        assertThat(exceptions).isEmpty();
+    }
+
+    @Test
+    public void testExpiration(@TempDir Path temp) {
+        FakeClock clock = new FakeClock().set(1000);
+        List<IOException> exceptions = new ArrayList<>();
+
+        DiskCacheSweeper sweeper = newSweeper(temp, clock, exceptions);
+        DiskCache<DataRepository> cache = newCache(temp, clock, sweeper);
+
+        cache.put("KEY1", repositoryOf("r1", clock));
+        clock.plus(5);
+        cache.put("KEY2", repositoryOf("r2", clock));
+        clock.plus(5);
+
+        sweeper.sweep();
+        assertThat(cache.getFile("KEY1"))
+                .as("Expired entry should be purged without being read")
+                .doesNotExist();
+        assertThat(cache.getFile("KEY2")).exists();
+        assertThat(exceptions).isEmpty();
+    }
+
+    @Test
+    public void testManifest(@TempDir Path temp) {
+        FakeClock clock = new FakeClock().set(1000);
+        List<IOException> exceptions = new ArrayList<>();
+
+        DiskCacheSweeper first = newSweeper(temp, clock, exceptions);
+        DiskCache<DataRepository> cache = newCache(temp, clock, first);
+        cache.put("KEY1", repositoryOf("r1", clock, Duration.ofDays(2)));
+        cache.put("KEY2", repositoryOf("r2", clock, Duration.ofDays(2)));
+        first.sweep();
+        assertThat(first.getManifestFile()).exists();
+
+        // written by another process that does not share the manifest
+        cache.toBuilder().sweeper(null).build().put("KEY3", repositoryOf("r3", clock, Duration.ofDays(2)));
+
+        DiskCacheSweeper second = newSweeper(temp, clock, exceptions);
+        second.sweep();
+        assertThat(second.getEntryCount())
+                .as("Entries should be loaded from the manifest instead of scanning the folder")
+                .isEqualTo(2);
+
+        clock.plus(DiskCacheSweeper.DEFAULT_RESCAN_PERIOD.toMillis());
+        second.sweep();
+        assertThat(second.getEntryCount())
+                .as("Folder should be scanned once the manifest is old")
+                .isEqualTo(3);
+        assertThat(exceptions).isEmpty();
+    }
+
+    @Test
+    public void testLegacyFiles(@TempDir Path temp) throws IOException {
+        FakeClock clock = new FakeClock().set(1000);
+        List<IOException> exceptions = new ArrayList<>();
+
+        Path legacyFile = Files.write(temp.resolve("sdmx_01234567890_.dat"), new byte[]{1});
+        Path foreignFile = Files.write(temp.resolve("notes.txt"), new byte[]{1});
+
+        DiskCacheSweeper sweeper = newSweeper(temp, clock, exceptions);
+        sweeper.sweep();
+        assertThat(legacyFile)
+                .as("Files of the former flat layout should be deleted")
+                .doesNotExist();
+        assertThat(foreignFile).exists();
+        assertThat(sweeper.getManifestFile()).exists();
+        assertThat(exceptions).isEmpty();
+    }
+
+    @Test
+    public void testOrphanLock(@TempDir Path temp) throws IOException {
+        FakeClock clock = new FakeClock().set(System.currentTimeMillis() + Duration.ofHours(2).toMillis());
+        List<IOException> exceptions = new ArrayList<>();
+
+        DiskCacheSweeper sweeper = newSweeper(temp, clock, exceptions);
+        Path file = newCache(temp, clock, sweeper).getFile("KEY1");
+        Path lockFile = DiskCache.getLockFile(file);
+        Files.createDirectories(file.getParent());
+
+        try (DiskCache.EntryLock ignore = DiskCache.EntryLock.acquire(file, false)) {
+            sweeper.sweep();
+            assertThat(lockFile)
+                    .as("Lock file held by a writer whose entry does not exist yet should be kept")
+                    .exists();
+        }
+
+        // opened by another process that waits for the lock
+        try (FileChannel waiting = FileChannel.open(lockFile, StandardOpenOption.READ)) {
+            clock.plus(DiskCacheSweeper.DEFAULT_RESCAN_PERIOD.toMillis());
+            sweeper.sweep();
+            assertThat(lockFile)
+                    .as("Lock file left over should be deleted")
+                    .doesNotExist();
+            assertThat(waiting.size())
+                    .as("Deleted lock file should be marked for the processes waiting for it")
+                    .isPositive();
+        }
+
+        try (DiskCache.EntryLock ignore = DiskCache.EntryLock.acquire(file, false)) {
+            assertThat(lockFile)
+                    .as("Lock file should be created again")
+                    .exists()
+                    .isEmptyFile();
+        }
+        assertThat(exceptions).isEmpty();
+    }
+
+    @Test
+    public void testSweepSafely(@TempDir Path temp) {
+        Logger logger = Logger.getLogger(DiskCachingSupport.class.getName());
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        DiskCacheSweeper failing = DiskCacheSweeper
+                .builder()
+                .root(temp)
+                .clock(new Clock() {
+                    @Override
+                    public ZoneId getZone() {
+                        return ZoneOffset.UTC;
+                    }
+
+                    @Override
+                    public Clock withZone(ZoneId zone) {
+                        return this;
+                    }
+
+                    @Override
+                    public Instant instant() {
+                        throw new IllegalStateException("boom");
+                    }
+                })
+                .build();
+
+        logger.addHandler(handler);
+        try {
+            assertThatCode(() -> DiskCachingSupport.sweepSafely(failing))
+                    .as("Periodic sweeping should not be cancelled by a failure")
+                    .doesNotThrowAnyException();
+        } finally {
+            logger.removeHandler(handler);
+        }
+        assertThat(records)
+                .singleElement()
+                .satisfies(record -> {
+                    assertThat(record.getLevel()).isEqualTo(Level.WARNING);
+                    assertThat(record.getThrown()).hasMessage("boom");
+                });
+    }
+
+    private static DiskCacheSweeper newSweeper(Path root, FakeClock clock, List<IOException> exceptions) {
+        return DiskCacheSweeper
+                .builder()
+                .root(root)
+                .clock(clock)
+                .onError((message, exception) -> exceptions.add(exception))
+                .build();
+    }
+
+    private static DiskCache<DataRepository> newCache(Path root, FakeClock clock, DiskCacheSweeper sweeper) {
+        return DiskCache
+                .<DataRepository>builder()
+                .root(root)
+                .format(FileFormatSupport
+                        .builder(DataRepository.class)
+                        .parser(FileParser.onParsingStream(stream -> DataRepository.builder().ttl(clock.instant(), Duration.ofDays(1)).build()))
+                        .formatter(FileFormatter.onFormattingStream(DiskCacheSweeperTest::formatFake))
+                        .extension(".dat")
+                        .build())
+                .clock(clock)
+                .sweeper(sweeper)
+                .build();
+    }
+
+    private static void formatFake(DataRepository value, OutputStream stream) throws IOException {
+        Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+        writer.write(value.getName());
+        writer.flush();
+    }
+
+    private static DataRepository repositoryOf(String name, FakeClock clock) {
+        return repositoryOf(name, clock, Duration.ofMillis(10));
+    }
+
+    private static DataRepository repositoryOf(String name, FakeClock clock, Duration ttl) {
+        return DataRepository.builder().name(name).ttl(clock.instant(), ttl).build();
+    }
+}
@@ -25,14 +25,24 @@ import sdmxdl.web.MonitorReports;
 import tests.sdmxdl.ext.FakeClock;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -80,8 +90,9 @@ public class DiskCacheTest {
                 .build();
         cache.put("KEY1", r1);
         assertThat(cache.getFile("KEY1"))
-                .exists()
-                .hasContent("r1");
+                .exists();
+        assertThat(contentOf(cache.getFile("KEY1")))
+                .containsExactly("KEY1", "r1");
 
         assertThat(cache.get("KEY2"))
                 .as("Non-existing key should return null")
@@ -111,9 +122,8 @@ public class DiskCacheTest {
                 .build();
         cache.put("KEY1", r1b);
         cache.put("KEY1", r2);
-        assertThat(cache.getFile("KEY1"))
-                .exists()
-                .hasContent("r2");
+        assertThat(contentOf(cache.getFile("KEY1")))
+                .containsExactly("KEY1", "r2");
         assertThat(cache.get("KEY1"))
                 .as("Updated key should return updated value")
                 .isEqualTo(r2);
@@ -122,6 +132,288 @@ public class DiskCacheTest {
                 .isEmpty();
     }
 
+    @Test
+    public void testLayout(@TempDir Path temp) {
+        DiskCache<DataRepository> cache = DiskCache
+                .<DataRepository>builder()
+                .root(temp)
+                .namePrefix("R")
+                .format(newFakeFileFormat())
+                .build();
+
+        assertThat(cache.getFile("KEY1"))
+                .as("Name should be the SHA-256 of the key spread over two levels of subdirectories")
+                .isEqualTo(temp.resolve("69").resolve("78").resolve("R69787306e75e856187fea67a8d459d6bf8e491ea885afc7e700ff247a6124d97_.dat"));
+    }
+
+    @Test
+    public void testCollision(@TempDir Path temp) {
+        FakeClock clock = new FakeClock();
+        List<IOException> exceptions = new ArrayList<>();
+
+        DiskCache<DataRepository> cache = DiskCache
+                .<DataRepository>builder()
+                .root(temp)
+                .nameGenerator(ignore -> "SAME")
+                .format(newFakeFileFormat())
+                .clock(clock)
+                .onError((message, exception) -> exceptions.add(exception))
+                .build();
+
+        DataRepository r1 = DataRepository.builder().name("r1").ttl(clock.instant(), Duration.ofMillis(10)).build();
+        cache.put("KEY1", r1);
+
+        assertThat(cache.getFile("KEY2"))
+                .isEqualTo(cache.getFile("KEY1"));
+        assertThat(cache.get("KEY2"))
+                .as("Colliding key should not return the value of another key")
+                .isNull();
+        assertThat(cache.get("KEY1"))
+                .isEqualTo(r1);
+        assertThat(exceptions)
+                .isEmpty();
+    }
+
+    @Test
+    public void testLegacyFile(@TempDir Path temp) throws IOException {
+        FakeClock clock = new FakeClock();
+        List<IOException> exceptions = new ArrayList<>();
+
+        FileFormatSupport<DataRepository> format = newFakeFileFormat();
+        DiskCache<DataRepository> cache = DiskCache
+                .<DataRepository>builder()
+                .root(temp)
+                .format(format)
+                .clock(clock)
+                .onError((message, exception) -> exceptions.add(exception))
+                .build();
+
+        // "Aa" and "BB" share the same hash code and therefore the same legacy file
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        DataRepository r1 = DataRepository.builder().name("r1").ttl(clock.instant(), Duration.ofMillis(10)).build();
+        format.formatPath(r1, temp.resolve(getLegacyFileName("sdmx_", "Aa", format.getFileExtension())));
+
+        assertThat(cache.get("BB"))
+                .as("Legacy file of a colliding key should never be served")
+                .isNull();
+        assertThat(cache.get("Aa"))
+                .as("Legacy file cannot be matched to its key and should be treated as a miss")
+                .isNull();
+        assertThat(cache.getFile("Aa")).doesNotExist();
+        assertThat(cache.getFile("BB")).doesNotExist();
+        assertThat(exceptions)
+                .isEmpty();
+    }
+
+    @Test
+    public void testCompressedLegacyFile(@TempDir Path temp) throws IOException {
+        FakeClock clock = new FakeClock();
+        List<IOException> exceptions = new ArrayList<>();
+
+        // written as DiskCachingSupport did before compression moved to the disk cache
+        FileFormatSupport<DataRepository> format = newFakeFileFormat();
+        FileFormatSupport<DataRepository> legacyFormat = FileFormatSupport.lock(FileFormatSupport.gzip(FileFormatSupport.wrap(format)));
+        Path legacyFile = temp.resolve(getLegacyFileName("R", "KEY1", legacyFormat.getFileExtension()));
+        DataRepository r1 = DataRepository.builder().name("r1").ttl(clock.instant(), Duration.ofMillis(10)).build();
+        legacyFormat.formatPath(r1, legacyFile);
+        assertThat(legacyFile.getFileName().toString()).endsWith(".dat.gz");
+
+        DiskCacheSweeper sweeper = DiskCacheSweeper
+                .builder()
+                .root(temp)
+                .clock(clock)
+                .onError((message, exception) -> exceptions.add(exception))
+                .build();
+
+        // configured as DiskCachingSupport does now
+        DiskCache<DataRepository> cache = DiskCache
+                .<DataRepository>builder()
+                .root(temp)
+                .format(FileFormatSupport.wrap(format))
+                .namePrefix("R")
+                .codec(DiskCacheCodec.GZIP)
+                .clock(clock)
+                .sweeper(sweeper)
+                .onError((message, exception) -> exceptions.add(exception))
+                .build();
+
+        assertThat(cache.get("KEY1"))
+                .as("Legacy file should not be served")
+                .isNull();
+
+        sweeper.sweep();
+        assertThat(legacyFile)
+                .as("Legacy file should not be orphaned")
+                .doesNotExist();
+        assertThat(exceptions)
+                .isEmpty();
+    }
+
+    @Test
+    public void testHeader(@TempDir Path temp) throws IOException {
+        FakeClock clock = new FakeClock();
+        clock.set(1000);
+        AtomicInteger parsing = new AtomicInteger();
+
+        FileFormatSupport<DataRepository> format = newFakeFileFormat();
+        DiskCache<DataRepository> cache = DiskCache
+                .<DataRepository>builder()
+                .root(temp)
+                .format(FileFormatSupport
+                        .builder(DataRepository.class)
+                        .parser(FileParser.onParsingStream(stream -> {
+                            parsing.incrementAndGet();
+                            return format.parseStream(stream);
+                        }))
+                        .formatter(FileFormatter.onFormattingStream(format::formatStream))
+                        .extension(".dat")
+                        .build())
+                .clock(clock)
+                .build();
+
+        DataRepository r1 = DataRepository.builder().name("r1").ttl(clock.instant(), Duration.ofMillis(10)).build();
+        cache.put("KEY1", r1);
+
+        DiskCache.Header header = DiskCache.readHeader(cache.getFile("KEY1"));
+        assertThat(header.getCreationTime()).isEqualTo(clock.instant());
+        assertThat(header.getExpirationTime()).isEqualTo(r1.getExpirationTime());
+        assertThat(header.getValueOffset()).isEqualTo(DiskCache.HEADER_SIZE + "KEY1".length());
+
+        assertThat(cache.get("KEY1")).isEqualTo(r1);
+        assertThat(parsing).hasValue(1);
+
+        clock.plus(10);
+        assertThat(cache.get("KEY1")).isNull();
+        assertThat(parsing)
+                .as("Expired entry should be rejected without parsing its value")
+                .hasValue(1);
+        assertThat(cache.getFile("KEY1")).doesNotExist();
+    }
+
+    @Test
+    public void testCodec(@TempDir Path temp) throws IOException {
+        FakeClock clock = new FakeClock();
+        clock.set(1000);
+
+        DiskCache<DataRepository> cache = DiskCache
+                .<DataRepository>builder()
+                .root(temp)
+                .format(newFakeFileFormat())
+                .clock(clock)
+                .build();
+
+        for (DiskCacheCodec codec : DiskCacheCodec.values()) {
+            String key = "KEY_" + codec;
+            DataRepository value = DataRepository.builder().name(codec.name()).ttl(clock.instant(), Duration.ofMillis(10)).build();
+            cache.toBuilder().codec(codec).build().put(key, value);
+
+            assertThat(DiskCache.readHeader(cache.getFile(key)).getCodec()).isEqualTo(codec);
+            for (DiskCacheCodec other : DiskCacheCodec.values()) {
+                assertThat(cache.toBuilder().codec(other).build().get(key))
+                        .as("Entry written with %s should be readable by a cache using %s", codec, other)
+                        .isEqualTo(value);
+            }
+        }
+    }
+
+    @Test
+    public void testAtomicWrite(@TempDir Path temp) throws IOException {
+        FakeClock clock = new FakeClock();
+        List<IOException> exceptions = new ArrayList<>();
+
+        FileFormatSupport<DataRepository> format = newFakeFileFormat();
+        FileFormatSupport<DataRepository> failingFormat = FileFormatSupport
+                .builder(DataRepository.class)
+                .formatter(FileFormatter.onFormattingStream((value, stream) -> {
+                    stream.write("partial".getBytes(StandardCharsets.UTF_8));
+                    throw new IOException("boom");
+                }))
+                .extension(".dat")
+                .build();
+
+        DataRepository r1 = DataRepository.builder().name("r1").ttl(clock.instant(), Duration.ofMillis(10)).build();
+        DiskCache<DataRepository> cache = DiskCache
+                .<DataRepository>builder()
+                .root(temp)
+                .format(format)
+                .clock(clock)
+                .onError((message, exception) -> exceptions.add(exception))
+                .build();
+        cache.put("KEY1", r1);
+
+        cache.toBuilder().format(failingFormat).build().put("KEY1", r1.toBuilder().name("r2").build());
+        assertThat(exceptions)
+                .singleElement()
+                .extracting(Throwable::getMessage)
+                .isEqualTo("boom");
+        assertThat(cache.get("KEY1"))
+                .as("Failed write should keep the previous value")
+                .isEqualTo(r1);
+        try (Stream<Path> files = Files.list(cache.getFile("KEY1").getParent())) {
+            assertThat(files)
+                    .as("Failed write should not leave temporary files")
+                    .containsExactlyInAnyOrder(cache.getFile("KEY1"), DiskCache.getLockFile(cache.getFile("KEY1")));
+        }
+    }
+
+    @Test
+    public void testConcurrentAccess(@TempDir Path temp) throws Exception {
+        FakeClock clock = new FakeClock();
+        List<IOException> exceptions = new CopyOnWriteArrayList<>();
+
+        DiskCache<DataRepository> cache = DiskCache
+                .<DataRepository>builder()
+                .root(temp)
+                .format(newFakeFileFormat())
+                .clock(clock)
+                .onError((message, exception) -> exceptions.add(exception))
+                .build();
+
+        DataRepository r1 = DataRepository.builder().name("r1").ttl(clock.instant(), Duration.ofMillis(10)).build();
+        cache.put("KEY1", r1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                boolean writer = i % 4 == 0;
+                tasks.add(executor.submit(() -> {
+                    if (writer) {
+                        cache.put("KEY1", r1);
+                    } else {
+                        assertThat(cache.get("KEY1")).isEqualTo(r1);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(exceptions)
+                .isEmpty();
+    }
+
+    private static List<String> contentOf(Path file) {
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(file))) {
+            byte[] header = new byte[DiskCache.HEADER_SIZE];
+            input.readFully(header);
+            byte[] key = new byte[DiskCache.parseHeader(ByteBuffer.wrap(header)).getKeyLength()];
+            input.readFully(key);
+            String value = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)).lines().collect(Collectors.joining(""));
+            return Arrays.asList(new String(key, StandardCharsets.UTF_8), value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // name of the files of the former flat layout
+    private static String getLegacyFileName(String prefix, String key, String extension) {
+        int hashCode = key.hashCode();
+        return prefix + String.format(Locale.ROOT, hashCode >= 0 ? "0%010d" : "1%010d", Math.abs(hashCode)) + "_" + extension;
+    }
+
     private static FileFormatSupport<DataRepository> newFakeFileFormat() {
         Map<String, DataRepository> content = new HashMap<>();
         return FileFormatSupport
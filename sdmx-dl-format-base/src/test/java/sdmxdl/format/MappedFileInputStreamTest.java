@@ -0,0 +1,101 @@
+package sdmxdl.format;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIndexOutOfBoundsException;
+
+public class MappedFileInputStreamTest {
+
+    @Test
+    public void testRead(@TempDir Path temp) throws IOException {
+        byte[] content = contentOf(100);
+        Path file = Files.write(temp.resolve("file.bin"), content);
+
+        try (InputStream x = MappedFileInputStream.open(file)) {
+            assertThat(x).hasBinaryContent(content);
+        }
+
+        for (int regionSize : new int[]{1, 7, 100, 1000}) {
+            try (InputStream x = open(file, regionSize)) {
+                assertThat(readAll(x, 13)).isEqualTo(content);
+                assertThat(x.read()).isEqualTo(-1);
+                assertThat(x.read(new byte[10], 0, 10)).isEqualTo(-1);
+            }
+            try (InputStream x = open(file, regionSize)) {
+                for (byte expected : content) {
+                    assertThat(x.read()).isEqualTo(expected & 0xFF);
+                }
+                assertThat(x.read()).isEqualTo(-1);
+            }
+        }
+
+        try (InputStream x = open(file, 7)) {
+            assertThat(x.read(new byte[10], 0, 0)).isEqualTo(0);
+            assertThatIndexOutOfBoundsException().isThrownBy(() -> x.read(new byte[10], 5, 6));
+        }
+    }
+
+    @Test
+    public void testSkip(@TempDir Path temp) throws IOException {
+        byte[] content = contentOf(100);
+        Path file = Files.write(temp.resolve("file.bin"), content);
+
+        try (InputStream x = open(file, 7)) {
+            assertThat(x.available()).isEqualTo(100);
+            assertThat(x.skip(0)).isEqualTo(0);
+            assertThat(x.skip(-1)).isEqualTo(0);
+            assertThat(x.read()).isEqualTo(content[0] & 0xFF);
+            assertThat(x.skip(3)).isEqualTo(3);
+            assertThat(x.read()).isEqualTo(content[4] & 0xFF);
+            assertThat(x.skip(50)).isEqualTo(50);
+            assertThat(x.available()).isEqualTo(45);
+            assertThat(x.read()).isEqualTo(content[55] & 0xFF);
+            assertThat(x.skip(1000)).isEqualTo(44);
+            assertThat(x.available()).isEqualTo(0);
+            assertThat(x.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    public void testEmpty(@TempDir Path temp) throws IOException {
+        Path file = Files.write(temp.resolve("empty.bin"), new byte[0]);
+
+        try (InputStream x = MappedFileInputStream.open(file)) {
+            assertThat(x.available()).isEqualTo(0);
+            assertThat(x.read()).isEqualTo(-1);
+            assertThat(x.skip(10)).isEqualTo(0);
+        }
+    }
+
+    private static InputStream open(Path file, int regionSize) throws IOException {
+        return new MappedFileInputStream(FileChannel.open(file, StandardOpenOption.READ), regionSize);
+    }
+
+    private static byte[] readAll(InputStream stream, int bufferSize) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[bufferSize];
+        int n;
+        while ((n = stream.read(buffer, 0, buffer.length)) != -1) {
+            result.write(buffer, 0, n);
+        }
+        return result.toByteArray();
+    }
+
+    private static byte[] contentOf(int size) {
+        byte[] result = new byte[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (byte) (i * 31);
+        }
+        return result;
+    }
+}
@@ -16,16 +16,30 @@
  */
 package sdmxdl.format;
 
+import _test.PeriodSource;
+import nbbrd.io.text.Parser;
 import org.junit.jupiter.api.Test;
+import sdmxdl.Duration;
 import sdmxdl.Key;
+import sdmxdl.format.time.GregorianTimePeriod;
+import sdmxdl.format.time.ObservationalTimePeriod;
 import sdmxdl.format.time.ReportingTimePeriod;
 import sdmxdl.format.time.StandardReportingPeriod;
+import sdmxdl.format.time.TimeFormats;
 import tests.sdmxdl.format.ObsParserAssert;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.UnaryOperator;
 
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static sdmxdl.format.DataCursor.NO_PERIOD_START;
 import static sdmxdl.format.time.StandardReportingFormat.REPORTING_QUARTER;
 import static sdmxdl.format.time.StandardReportingFormat.REPORTING_WEEK;
 
@@ -58,4 +72,92 @@ public class ObsParserTest {
         assertThat(x.period("2000-W53").parsePeriod()).isEqualTo(ReportingTimePeriod.of(REPORTING_WEEK, StandardReportingPeriod.parse("2000-W53")));
         assertThat(x.period("2011-W36").parsePeriod()).isEqualTo(ReportingTimePeriod.of(REPORTING_WEEK, StandardReportingPeriod.parse("2011-W36")));
     }
+
+    @Test
+    public void testPrimitivePeriod() throws IOException {
+        ObsParser x = ObsParser.newDefault();
+
+        for (String period : asList("2010", "0000", "9999", "2010-01", "2010-12", "2000-02-29", "1900-03-01", "1969-12-31", "2010-Q2", "2010-01-01T10:11:12", "2010-01-01/P2M")) {
+            ObservationalTimePeriod expected = x.period(period).parsePeriod();
+            assertThat(expected).describedAs(period).isNotNull();
+            assertThat(x.parsePeriodStartEpochSecond(ignore -> null))
+                    .describedAs(period)
+                    .isEqualTo(expected.toStartTime(null).toEpochSecond(ZoneOffset.UTC));
+            assertThat(x.parsePeriodDuration())
+                    .describedAs(period)
+                    .isEqualTo(expected.getDuration());
+        }
+
+        for (String period : asList("abc", "201a", "2010-13", "2010-00", "2010-1a", "1900-02-29", "2010-04-31", "2010-01-00", "2010/01/01")) {
+            assertThat(x.period(period).parsePeriod()).isNull();
+            assertThat(x.parsePeriodStartEpochSecond(ignore -> null)).describedAs(period).isEqualTo(NO_PERIOD_START);
+            assertThat(x.parsePeriodDuration()).describedAs(period).isNull();
+        }
+
+        assertThat(x.clear().parsePeriodStartEpochSecond(ignore -> null)).isEqualTo(NO_PERIOD_START);
+        assertThat(x.parsePeriodDuration()).isNull();
+
+        assertThat(x.period("2010-Q2").parsePeriodStartEpochSecond(key -> key.equals("REPORTING_YEAR_START_DAY") ? "--07-01" : null))
+                .isEqualTo(ReportingTimePeriod.of(REPORTING_QUARTER, StandardReportingPeriod.parse("2010-Q2")).toStartTime(MonthDay.of(7, 1)).toEpochSecond(ZoneOffset.UTC));
+
+        assertThat(x.period("2010-01").parsePeriodStartEpochSecond(ignore -> {
+            throw new IOException("Not expected");
+        })).isEqualTo(LocalDateTime.of(2010, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC));
+
+        ObsParser custom = new ObsParser(TimeFormats.getObservationalTimePeriod(TimeFormats.IGNORE_ERROR), Parser.onDouble());
+        assertThat(custom.period("2010-02").parsePeriodStartEpochSecond(ignore -> null))
+                .isEqualTo(LocalDateTime.of(2010, 2, 1, 0, 0).toEpochSecond(ZoneOffset.UTC));
+        assertThat(custom.parsePeriodDuration()).isEqualTo(Duration.P1M);
+    }
+
+    @Test
+    public void testPrimitiveValue() {
+        ObsParser x = ObsParser.newDefault();
+
+        assertThat(x.value("3.14").parseValueAsDouble()).isEqualTo(3.14);
+        assertThat(x.value(" 3.14 ").parseValueAsDouble()).isEqualTo(x.parseValue());
+        assertThat(x.value("NaN").parseValueAsDouble()).isNaN();
+        assertThat(x.value("xyz").parseValueAsDouble()).isNaN();
+        assertThat(x.value(null).parseValueAsDouble()).isNaN();
+
+        ObsParser custom = new ObsParser(TimeFormats.getObservationalTimePeriod(TimeFormats.IGNORE_ERROR), Parser.onDouble());
+        assertThat(custom.value("3.14").parseValueAsDouble()).isEqualTo(3.14);
+        assertThat(custom.value("xyz").parseValueAsDouble()).isNaN();
+    }
+
+    @Test
+    public void testPeriodCache() {
+        Parser<ObservationalTimePeriod> reference = TimeFormats.getObservationalTimePeriod(TimeFormats.IGNORE_ERROR);
+        List<String> periods = PeriodSource.getAll().stream().map(PeriodSource::getText).collect(toList());
+
+        ObsParser x = ObsParser.newDefault();
+        for (int i = 0; i < 3; i++) {
+            for (String period : periods) {
+                assertThat(x.period(period).parsePeriod()).describedAs(period).isEqualTo(reference.parse(period));
+            }
+            Collections.reverse(periods);
+        }
+        assertThat(x.getPeriodCacheMissCount()).isEqualTo(periods.size());
+        assertThat(x.getPeriodCacheHitCount()).isEqualTo(periods.size() * 2L);
+
+        assertThat(x.period("abc").parsePeriod()).isNull();
+        assertThat(x.period("abc").parsePeriod()).isNull();
+        assertThat(x.getPeriodCacheMissCount()).isEqualTo(periods.size() + 2L);
+    }
+
+    @Test
+    public void testPeriodFormat() {
+        ObsParser x = ObsParser.newDefault();
+
+        for (int year = 2000; year < 2010; year++) {
+            assertThat(x.period(year + "-Q1").parsePeriod()).isEqualTo(ReportingTimePeriod.of(REPORTING_QUARTER, StandardReportingPeriod.parse(year + "-Q1")));
+        }
+        assertThat(x.getPeriodFormatMissCount()).isEqualTo(1);
+        assertThat(x.getPeriodFormatHitCount()).isEqualTo(9);
+
+        assertThat(x.period("2010-01").parsePeriod()).isEqualTo(GregorianTimePeriod.YearMonth.parse("2010-01"));
+        assertThat(x.period("2010-02").parsePeriod()).isEqualTo(GregorianTimePeriod.YearMonth.parse("2010-02"));
+        assertThat(x.getPeriodFormatMissCount()).isEqualTo(2);
+        assertThat(x.getPeriodFormatHitCount()).isEqualTo(10);
+    }
 }
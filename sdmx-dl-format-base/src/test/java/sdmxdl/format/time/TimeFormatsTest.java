@@ -13,6 +13,7 @@ import java.time.MonthDay;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -82,6 +83,15 @@ public class TimeFormatsTest {
         assertThat(list).hasSize(0);
     }
 
+    @ParameterizedTest
+    @MethodSource("_test.PeriodSource#getAll")
+    public void testObservationalTimePeriodFormats(PeriodSource source) {
+        assertThat(getObservationalTimePeriodFormats(IGNORE_ERROR))
+                .map(format -> format.parse(source.getText()))
+                .filteredOn(Objects::nonNull)
+                .containsExactly(source.getPeriod());
+    }
+
     public static <T> Predicate<T> not(Predicate<T> predicate) {
         return t -> !predicate.test(t);
     }
@@ -22,9 +22,12 @@ import org.assertj.core.api.SoftAssertions;
 import sdmxdl.Detail;
 import sdmxdl.Key;
 import sdmxdl.format.DataCursor;
+import sdmxdl.format.time.ObservationalTimePeriod;
+import sdmxdl.format.time.TimeFormats;
 import tests.sdmxdl.api.TckUtil;
 
 import java.io.IOException;
+import java.time.ZoneOffset;
 
 @SuppressWarnings("CatchMayIgnoreException")
 @lombok.experimental.UtilityClass
@@ -54,6 +57,7 @@ public class DataCursorAssert {
                     while (c.nextObs()) {
                         s.assertThat(c.getObsPeriod()).isEqualTo(c.getObsPeriod());
                         s.assertThat(c.getObsValue()).isEqualTo(c.getObsValue());
+                        assertPrimitives(s, c);
                         if (c.getObsPeriod() == null) {
                             // FIXME: problem with scrictDatePattern
 //                        s.assertThat(c.getObsValue())
@@ -87,6 +91,24 @@ public class DataCursorAssert {
 
         assertObsState(s, supplier, DataCursor::getObsPeriod, "#getObsPeriod");
         assertObsState(s, supplier, DataCursor::getObsValue, "#getObsValue");
+        assertObsState(s, supplier, DataCursor::getObsPeriodStartEpochSecond, "#getObsPeriodStartEpochSecond");
+        assertObsState(s, supplier, DataCursor::getObsPeriodDuration, "#getObsPeriodDuration");
+        assertObsState(s, supplier, DataCursor::getObsValueAsDouble, "#getObsValueAsDouble");
+    }
+
+    private static void assertPrimitives(SoftAssertions s, DataCursor c) throws IOException {
+        ObservationalTimePeriod period = c.getObsPeriod();
+        if (period != null) {
+            s.assertThat(c.getObsPeriodStartEpochSecond())
+                    .isEqualTo(period.toStartTime(TimeFormats.getReportingYearStartDay(c::getObsAttribute)).toEpochSecond(ZoneOffset.UTC));
+            s.assertThat(c.getObsPeriodDuration())
+                    .isEqualTo(period.getDuration());
+        } else {
+            s.assertThat(c.getObsPeriodStartEpochSecond()).isEqualTo(DataCursor.NO_PERIOD_START);
+            s.assertThat(c.getObsPeriodDuration()).isNull();
+        }
+        Double value = c.getObsValue();
+        s.assertThat(c.getObsValueAsDouble()).isEqualTo(value != null ? value : Double.NaN);
     }
 
     @SuppressWarnings({"null", "ConstantConditions"})
@@ -0,0 +1,361 @@
+package sdmxdl.format.csv;
+
+import lombok.AccessLevel;
+import nbbrd.design.VisibleForTesting;
+import nbbrd.io.text.Parser;
+import nbbrd.picocsv.Csv;
+import sdmxdl.FlowRef;
+import sdmxdl.Key;
+import sdmxdl.Structure;
+import sdmxdl.format.CodeDictionary;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Sources of the observation rows of an SDMX-CSV file.
+ * Rows can be read as they appear in the file or sorted by series key,
+ * in memory or by spilling sorted runs to temporary files.
+ */
+@lombok.experimental.UtilityClass
+class SdmxCsvRows {
+
+    interface Source extends Closeable {
+
+        boolean next() throws IOException;
+
+        Key getKey();
+
+        String getPeriod();
+
+        String getValue();
+    }
+
+    static final class CsvSource implements Source {
+
+        private final Csv.Reader reader;
+        private final List<String> header;
+        private final Key.Builder keyBuilder;
+        private final CodeDictionary.Interner interner;
+        private final Parser<FlowRef> refParser = SdmxCsvFields.getDataflowRefParser();
+        private FlowRef flowRef = FlowRef.of(null, "", null);
+        private Key key;
+        private String period;
+        private String value;
+
+        CsvSource(Csv.Reader reader, List<String> header, Structure dsd, CodeDictionary.Interner interner) {
+            this.reader = reader;
+            this.header = header;
+            this.keyBuilder = Key.builder(dsd);
+            this.interner = interner;
+        }
+
+        @Override
+        public boolean next() throws IOException {
+            if (!SdmxPicocsvParser.skipComments(reader)) {
+                return false;
+            }
+            if (!reader.readField()) {
+                throw new IOException("Missing dataflow field");
+            }
+            flowRef = refParser.parse(reader);
+
+            keyBuilder.clear();
+            for (int i = 0; i < keyBuilder.size(); i++) {
+                if (!reader.readField()) {
+                    throw new IOException("Missing dimension field");
+                }
+                keyBuilder.put(header.get(1 + i), interner.intern(reader.toString()));
+            }
+            key = keyBuilder.build();
+
+            if (!reader.readField()) {
+                throw new IOException("Missing time dimension field");
+            }
+            period = reader.toString();
+
+            if (!reader.readField()) {
+                throw new IOException("Missing obs value field");
+            }
+            value = reader.toString();
+            return true;
+        }
+
+        FlowRef getFlowRef() {
+            return flowRef;
+        }
+
+        @Override
+        public Key getKey() {
+            return key;
+        }
+
+        @Override
+        public String getPeriod() {
+            return period;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads all the rows of a source and sorts them by series key while keeping the order of the rows of a series.
+     * Rows are sorted in memory up to a number of rows; beyond that, sorted runs are spilled to temporary files
+     * and merged while reading.
+     *
+     * @param source          the source to sort, closed by this method
+     * @param maxRowsInMemory the maximum number of rows held in memory
+     * @param interner        the interner of the codes read from the runs
+     * @return a new source of sorted rows
+     * @throws IOException if the source cannot be read or if the runs cannot be spilled
+     */
+    static Source sort(Source source, int maxRowsInMemory, CodeDictionary.Interner interner) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        List<Path> runs = new ArrayList<>();
+        try (Source closeable = source) {
+            while (closeable.next()) {
+                rows.add(new Row(closeable.getKey(), closeable.getPeriod(), closeable.getValue()));
+                if (rows.size() >= maxRowsInMemory) {
+                    runs.add(spill(rows));
+                    rows.clear();
+                }
+            }
+            if (runs.isEmpty()) {
+                rows.sort(ROW_ORDER);
+                return new ListSource(rows);
+            }
+            if (!rows.isEmpty()) {
+                runs.add(spill(rows));
+                rows.clear();
+            }
+            return MergeSource.open(runs, interner);
+        } catch (IOException | RuntimeException ex) {
+            deleteAll(runs, ex);
+            throw ex;
+        }
+    }
+
+    @lombok.AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Row {
+
+        final Key key;
+        final String period;
+        final String value;
+    }
+
+    @VisibleForTesting
+    static final Comparator<Key> KEY_ORDER = (l, r) -> {
+        int size = Math.min(l.size(), r.size());
+        for (int i = 0; i < size; i++) {
+            int result = l.get(i).compareTo(r.get(i));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(l.size(), r.size());
+    };
+
+    // stable sort keeps the order of the rows of a series
+    private static final Comparator<Row> ROW_ORDER = (l, r) -> KEY_ORDER.compare(l.key, r.key);
+
+    private static Path spill(List<Row> rows) throws IOException {
+        rows.sort(ROW_ORDER);
+        Path result = Files.createTempFile("sdmxdl-csv", ".run");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(result), BUFFER_SIZE))) {
+            output.writeInt(rows.size());
+            for (Row row : rows) {
+                output.writeInt(row.key.size());
+                for (int i = 0; i < row.key.size(); i++) {
+                    output.writeUTF(row.key.get(i));
+                }
+                output.writeUTF(row.period);
+                output.writeUTF(row.value);
+            }
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(result);
+            throw ex;
+        }
+        return result;
+    }
+
+    private static void deleteAll(List<Path> files, Throwable ex) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException suppressed) {
+                ex.addSuppressed(suppressed);
+            }
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final class ListSource implements Source {
+
+        private final Iterator<Row> iterator;
+        private Row current;
+
+        ListSource(List<Row> rows) {
+            this.iterator = rows.iterator();
+        }
+
+        @Override
+        public boolean next() {
+            current = iterator.hasNext() ? iterator.next() : null;
+            return current != null;
+        }
+
+        @Override
+        public Key getKey() {
+            return current.key;
+        }
+
+        @Override
+        public String getPeriod() {
+            return current.period;
+        }
+
+        @Override
+        public String getValue() {
+            return current.value;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @lombok.RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class MergeSource implements Source {
+
+        static MergeSource open(List<Path> runs, CodeDictionary.Interner interner) throws IOException {
+            MergeSource result = new MergeSource(runs, new PriorityQueue<>(RUN_ORDER));
+            try {
+                for (int i = 0; i < runs.size(); i++) {
+                    RunReader run = RunReader.open(i, runs.get(i), interner);
+                    result.readers.add(run);
+                    if (run.next()) {
+                        result.queue.add(run);
+                    }
+                }
+            } catch (IOException | RuntimeException ex) {
+                result.closeAll(ex);
+                throw ex;
+            }
+            return result;
+        }
+
+        // runs are compared by index on equal keys to keep the order of the rows of a series
+        private static final Comparator<RunReader> RUN_ORDER = Comparator
+                .comparing((RunReader run) -> run.current.key, KEY_ORDER)
+                .thenComparingInt(run -> run.index);
+
+        private final List<Path> runs;
+        private final PriorityQueue<RunReader> queue;
+        private final List<RunReader> readers = new ArrayList<>();
+        private Row current;
+
+        @Override
+        public boolean next() throws IOException {
+            RunReader run = queue.poll();
+            if (run == null) {
+                current = null;
+                return false;
+            }
+            current = run.current;
+            if (run.next()) {
+                queue.add(run);
+            }
+            return true;
+        }
+
+        @Override
+        public Key getKey() {
+            return current.key;
+        }
+
+        @Override
+        public String getPeriod() {
+            return current.period;
+        }
+
+        @Override
+        public String getValue() {
+            return current.value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOException result = new IOException("Failed to close runs");
+            closeAll(result);
+            if (result.getSuppressed().length > 0) {
+                throw result;
+            }
+        }
+
+        private void closeAll(Throwable ex) {
+            for (RunReader reader : readers) {
+                try {
+                    reader.close();
+                } catch (IOException suppressed) {
+                    ex.addSuppressed(suppressed);
+                }
+            }
+            deleteAll(runs, ex);
+        }
+    }
+
+    @lombok.RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class RunReader implements Closeable {
+
+        static RunReader open(int index, Path run, CodeDictionary.Interner interner) throws IOException {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), BUFFER_SIZE));
+            try {
+                return new RunReader(index, input, interner, input.readInt());
+            } catch (IOException | RuntimeException ex) {
+                input.close();
+                throw ex;
+            }
+        }
+
+        private final int index;
+        private final DataInputStream input;
+        private final CodeDictionary.Interner interner;
+        private int remaining;
+        private Row current;
+
+        private RunReader(int index, DataInputStream input, CodeDictionary.Interner interner, int remaining) {
+            this(index, input, interner);
+            this.remaining = remaining;
+        }
+
+        boolean next() throws IOException {
+            if (remaining == 0) {
+                current = null;
+                return false;
+            }
+            remaining--;
+            String[] codes = new String[input.readInt()];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = interner.intern(input.readUTF());
+            }
+            current = new Row(Key.of(codes), input.readUTF(), input.readUTF());
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+}
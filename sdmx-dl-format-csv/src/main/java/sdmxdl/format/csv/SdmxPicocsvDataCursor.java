@@ -0,0 +1,161 @@
+package sdmxdl.format.csv;
+
+import lombok.NonNull;
+import nbbrd.io.function.IOUnaryOperator;
+import org.jspecify.annotations.Nullable;
+import sdmxdl.Duration;
+import sdmxdl.Key;
+import sdmxdl.format.DataCursor;
+import sdmxdl.format.ObsParser;
+import sdmxdl.format.time.ObservationalTimePeriod;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Data cursor over the rows of an SDMX-CSV file that are grouped by series key.
+ * A series ends as soon as the key of the rows changes.
+ */
+final class SdmxPicocsvDataCursor implements DataCursor {
+
+    private final SdmxCsvRows.Source rows;
+    private final ObsParser obsParser;
+    private final Set<Key> previousKeys = new HashSet<>();
+    private boolean closed = false;
+    private boolean started = false;
+    private boolean hasRow = false;
+    private Key seriesKey = null;
+    private boolean hasSeries = false;
+    private boolean hasObs = false;
+
+    SdmxPicocsvDataCursor(SdmxCsvRows.Source rows, ObsParser obsParser) {
+        this.rows = rows;
+        this.obsParser = obsParser;
+    }
+
+    @Override
+    public boolean nextSeries() throws IOException {
+        checkState();
+        if (!started) {
+            hasRow = rows.next();
+            started = true;
+        }
+        while (hasRow && hasSeries && rows.getKey().equals(seriesKey)) {
+            hasRow = rows.next();
+        }
+        hasObs = false;
+        if (!hasRow) {
+            seriesKey = null;
+            return hasSeries = false;
+        }
+        seriesKey = rows.getKey();
+        if (!previousKeys.add(seriesKey)) {
+            throw new IOException("Rows not grouped by series key '" + seriesKey + "'");
+        }
+        return hasSeries = true;
+    }
+
+    @Override
+    public boolean nextObs() throws IOException {
+        checkSeriesState();
+        obsParser.clear();
+        if (hasRow && rows.getKey().equals(seriesKey)) {
+            obsParser.period(rows.getPeriod());
+            obsParser.value(rows.getValue());
+            hasRow = rows.next();
+            return hasObs = true;
+        }
+        return hasObs = false;
+    }
+
+    @Override
+    public @NonNull Key getSeriesKey() throws IOException {
+        checkSeriesState();
+        return seriesKey;
+    }
+
+    @Override
+    public @Nullable String getSeriesAttribute(@NonNull String key) throws IOException {
+        checkSeriesState();
+        return null;
+    }
+
+    @Override
+    public @NonNull Map<String, String> getSeriesAttributes() throws IOException {
+        checkSeriesState();
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public @Nullable ObservationalTimePeriod getObsPeriod() throws IOException {
+        checkObsState();
+        return obsParser.parsePeriod();
+    }
+
+    @Override
+    public @Nullable Double getObsValue() throws IOException {
+        checkObsState();
+        return obsParser.parseValue();
+    }
+
+    @Override
+    public long getObsPeriodStartEpochSecond() throws IOException {
+        checkObsState();
+        return obsParser.parsePeriodStartEpochSecond(NO_OBS_ATTRIBUTES);
+    }
+
+    @Override
+    public @Nullable Duration getObsPeriodDuration() throws IOException {
+        checkObsState();
+        return obsParser.parsePeriodDuration();
+    }
+
+    @Override
+    public double getObsValueAsDouble() throws IOException {
+        checkObsState();
+        return obsParser.parseValueAsDouble();
+    }
+
+    @Override
+    public @NonNull Map<String, String> getObsAttributes() throws IOException {
+        checkObsState();
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public @Nullable String getObsAttribute(@NonNull String key) throws IOException {
+        checkObsState();
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        rows.close();
+    }
+
+    private void checkState() throws IOException {
+        if (closed) {
+            throw new IOException("Cursor closed");
+        }
+    }
+
+    private void checkSeriesState() throws IOException, IllegalStateException {
+        checkState();
+        if (!hasSeries) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private void checkObsState() throws IOException, IllegalStateException {
+        checkSeriesState();
+        if (!hasObs) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static final IOUnaryOperator<String> NO_OBS_ATTRIBUTES = ignore -> null;
+}
@@ -2,14 +2,23 @@ package sdmxdl.format.csv;
 
 import lombok.NonNull;
 import nbbrd.design.MightBePromoted;
+import nbbrd.io.Resource;
+import nbbrd.io.function.IOSupplier;
+import nbbrd.io.function.IOUnaryOperator;
 import nbbrd.io.picocsv.Picocsv;
-import nbbrd.io.text.Parser;
+import nbbrd.io.text.TextParser;
 import nbbrd.picocsv.Csv;
 import sdmxdl.*;
+import sdmxdl.format.CodeDictionary;
+import sdmxdl.format.DataCursor;
 import sdmxdl.format.ObsParser;
-import sdmxdl.format.time.ObservationalTimePeriod;
 
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -27,13 +36,95 @@ public final class SdmxPicocsvParser {
     @lombok.Builder.Default
     private final Locale locale = Locale.ROOT;
 
+    /**
+     * Defines if the rows are known to be grouped by series key.
+     * Grouped rows are streamed by the cursor, which fails if a key appears again after another key;
+     * other rows are sorted before being read.
+     * Default value is false.
+     */
+    @lombok.Builder.Default
+    private final boolean groupedBySeries = false;
+
+    /**
+     * Defines the maximum number of rows sorted in memory
+     * before spilling sorted runs to temporary files.
+     */
+    @lombok.Builder.Default
+    private final int maxRowsInMemory = DEFAULT_MAX_ROWS_IN_MEMORY;
+
+    public static final int DEFAULT_MAX_ROWS_IN_MEMORY = 1_000_000;
+
     public Picocsv.@NonNull Parser<DataSet> getParser(Structure dsd) {
         return Picocsv.Parser.builder(reader -> parseCsv(dsd, reader)).build();
     }
 
+    /**
+     * Gets a parser that reads the series one by one through a data cursor.
+     * The cursor owns the underlying resource and closes it when closed.
+     *
+     * @param dsd a non-null structure
+     * @return a non-null parser
+     */
+    public @NonNull TextParser<DataCursor> getCursorParser(@NonNull Structure dsd) {
+        return new CursorParser(dsd);
+    }
+
     private DataSet parseCsv(Structure dsd, Csv.Reader reader) throws IOException {
         List<String> header = readHeader(reader);
+        checkHeader(dsd, header);
+
+        ObsParser obsParser = factory.get();
+        SdmxCsvRows.CsvSource rows = new SdmxCsvRows.CsvSource(reader, header, dsd, CodeDictionary.of(dsd).newInterner());
+
+        FlowRef flowRef = FlowRef.of(null, "", null);
+
+        Map<Key, Series.Builder> data = new HashMap<>();
+        Obs.Builder obs = Obs.builder();
+        while (rows.next()) {
+            flowRef = rows.getFlowRef();
+            obsParser.period(rows.getPeriod());
+            obsParser.value(rows.getValue());
+
+            Series.Builder series = data.computeIfAbsent(rows.getKey(), z -> Series.builder().key(z));
+            long periodStart = obsParser.parsePeriodStartEpochSecond(NO_OBS_ATTRIBUTES);
+            if (periodStart == DataCursor.NO_PERIOD_START) {
+                continue;
+            }
+            Duration periodDuration = obsParser.parsePeriodDuration();
+            if (periodDuration == null) {
+                continue;
+            }
+            Double nullableValue = obsParser.parseValue();
+            if (nullableValue == null) {
+                continue;
+            }
+            series.obs(obs
+                    .clearMeta()
+                    .period(TimeInterval.of(LocalDateTime.ofEpochSecond(periodStart, 0, ZoneOffset.UTC), periodDuration))
+                    .value(nullableValue)
+                    .build()
+            );
+        }
+
+        return data.values()
+                .stream()
+                .map(Series.Builder::build)
+                .collect(toDataSet(flowRef, Query.ALL));
+    }
+
+    private DataCursor parseCursor(Structure dsd, Csv.Reader reader) throws IOException {
+        List<String> header = readHeader(reader);
+        checkHeader(dsd, header);
+
+        CodeDictionary.Interner interner = CodeDictionary.of(dsd).newInterner();
+        SdmxCsvRows.Source rows = new SdmxCsvRows.CsvSource(reader, header, dsd, interner);
+        if (!groupedBySeries) {
+            rows = SdmxCsvRows.sort(rows, maxRowsInMemory, interner);
+        }
+        return new SdmxPicocsvDataCursor(rows, factory.get());
+    }
 
+    private static void checkHeader(Structure dsd, List<String> header) throws IOException {
         int minHeaderSize = 3 + dsd.getDimensions().size();
         if (header.size() < minHeaderSize) {
             throw new IOException("Invalid header size");
@@ -61,65 +152,79 @@ public final class SdmxPicocsvParser {
                 }
             }
         }
+    }
 
-        ObsParser obsParser = factory.get();
-        Parser<FlowRef> refParser = SdmxCsvFields.getDataflowRefParser();
+    @lombok.RequiredArgsConstructor
+    private final class CursorParser implements TextParser<DataCursor> {
 
-        FlowRef flowRef = FlowRef.of(null, "", null);
+        private final Structure dsd;
 
-        Map<Key, Series.Builder> data = new HashMap<>();
-        Key.Builder keyBuilder = Key.builder(dsd);
-        Obs.Builder obs = Obs.builder();
-        while (skipComments(reader)) {
-            if (!reader.readField()) {
-                throw new IOException("Missing dataflow field");
+        @Override
+        public @NonNull DataCursor parseReader(@NonNull Reader resource) throws IOException {
+            Csv.Reader reader = Csv.Reader.of(CSV_FORMAT, Csv.ReaderOptions.DEFAULT, resource);
+            try {
+                return parseCursor(dsd, reader);
+            } catch (IOException | RuntimeException ex) {
+                closeSilently(reader, ex);
+                throw ex;
             }
-            flowRef = refParser.parse(reader);
+        }
 
-            keyBuilder.clear();
-            for (int i = 0; i < keyBuilder.size(); i++) {
-                if (!reader.readField()) {
-                    throw new IOException("Missing dimension field");
-                }
-                keyBuilder.put(header.get(1 + i), reader.toString());
-            }
+        // resources opened by the parser are owned by the cursor instead of being closed on return
+        @Override
+        public @NonNull DataCursor parseFile(@NonNull File source, @NonNull Charset encoding) throws IOException {
+            return parsePath(source.toPath(), encoding);
+        }
 
-            if (!reader.readField()) {
-                throw new IOException("Missing time dimension field");
-            }
-            obsParser.period(reader.toString());
+        @Override
+        public @NonNull DataCursor parsePath(@NonNull Path source, @NonNull Charset encoding) throws IOException {
+            return parseStream(() -> Files.newInputStream(source), encoding);
+        }
 
-            if (!reader.readField()) {
-                throw new IOException("Missing obs value field");
-            }
-            obsParser.value(reader.toString());
-
-            Series.Builder series = data.computeIfAbsent(keyBuilder.build(), z -> Series.builder().key(z));
-            ObservationalTimePeriod observationalTimePeriod = obsParser.parsePeriod();
-            TimeInterval nullablePeriod = observationalTimePeriod != null
-                    ? TimeInterval.of(observationalTimePeriod.toStartTime(null), observationalTimePeriod.getDuration())
-                    : null;
-            if (nullablePeriod == null) {
-                continue;
-            }
-            Double nullableValue = obsParser.parseValue();
-            if (nullableValue == null) {
-                continue;
+        @Override
+        public @NonNull DataCursor parseResource(@NonNull Class<?> type, @NonNull String name, @NonNull Charset encoding) throws IOException {
+            return parseStream(() -> Resource.newInputStream(type, name), encoding);
+        }
+
+        @Override
+        public @NonNull DataCursor parseChars(@NonNull CharSequence source) throws IOException {
+            return parseReader(new StringReader(source.toString()));
+        }
+
+        @Override
+        public @NonNull DataCursor parseStream(@NonNull InputStream resource, @NonNull Charset encoding) throws IOException {
+            return parseReader(new InputStreamReader(resource, encoding));
+        }
+
+        @Override
+        public @NonNull DataCursor parseReader(@NonNull IOSupplier<? extends Reader> source) throws IOException {
+            return parseReader(source.getWithIO());
+        }
+
+        @Override
+        public @NonNull DataCursor parseStream(@NonNull IOSupplier<? extends InputStream> source, @NonNull Charset encoding) throws IOException {
+            InputStream resource = source.getWithIO();
+            try {
+                return parseStream(resource, encoding);
+            } catch (IOException | RuntimeException ex) {
+                closeSilently(resource, ex);
+                throw ex;
             }
-            series.obs(obs
-                    .clearMeta()
-                    .period(nullablePeriod)
-                    .value(nullableValue)
-                    .build()
-            );
         }
+    }
 
-        return data.values()
-                .stream()
-                .map(Series.Builder::build)
-                .collect(toDataSet(flowRef, Query.ALL));
+    private static final Csv.Format CSV_FORMAT = Csv.Format.RFC4180;
+
+    private static void closeSilently(Closeable closeable, Throwable ex) {
+        try {
+            closeable.close();
+        } catch (IOException suppressed) {
+            ex.addSuppressed(suppressed);
+        }
     }
 
+    private static final IOUnaryOperator<String> NO_OBS_ATTRIBUTES = ignore -> null;
+
     private List<String> readHeader(Csv.Reader reader) throws IOException {
         List<String> result = new ArrayList<>();
         if (!skipComments(reader)) {
@@ -132,7 +237,7 @@ public final class SdmxPicocsvParser {
     }
 
     @MightBePromoted
-    private static boolean skipComments(Csv.Reader reader) throws IOException {
+    static boolean skipComments(Csv.Reader reader) throws IOException {
         while (reader.readLine()) {
             if (!reader.isComment()) {
                 return true;
@@ -1,11 +1,24 @@
 package sdmxdl.format.csv;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import sdmxdl.DataSet;
+import sdmxdl.Key;
+import sdmxdl.Series;
+import sdmxdl.format.DataCursor;
 import sdmxdl.format.ObsParser;
 import tests.sdmxdl.api.RepoSamples;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.*;
 
 public class SdmxPicocsvParserTest {
 
@@ -31,4 +44,80 @@ public class SdmxPicocsvParserTest {
 
 //        assertThat(found).isEqualTo(expected);
     }
+
+    @Test
+    public void testCursor(@TempDir Path temp) throws IOException {
+        DataSet expected = SdmxPicocsvParser
+                .builder()
+                .factory(ObsParser::newDefault)
+                .build()
+                .getParser(RepoSamples.STRUCT)
+                .parseChars(UNSORTED);
+
+        for (int maxRowsInMemory : new int[]{1, 2, 100}) {
+            SdmxPicocsvParser x = SdmxPicocsvParser.builder().factory(ObsParser::newDefault).maxRowsInMemory(maxRowsInMemory).build();
+
+            assertThat(readAll(x, UNSORTED))
+                    .describedAs("Unsorted rows must be sorted by key with %s rows in memory", maxRowsInMemory)
+                    .extracting(Series::getKey)
+                    .containsExactly(Key.parse("M.BE.INDUSTRY"), Key.parse("M.FR.INDUSTRY"));
+
+            assertThat(readAll(x, UNSORTED))
+                    .containsExactlyInAnyOrderElementsOf(expected.getData());
+        }
+
+        SdmxPicocsvParser grouped = SdmxPicocsvParser.builder().factory(ObsParser::newDefault).groupedBySeries(true).build();
+
+        assertThat(readAll(grouped, SORTED))
+                .containsExactlyElementsOf(readAll(SdmxPicocsvParser.builder().factory(ObsParser::newDefault).build(), SORTED))
+                .containsExactlyInAnyOrderElementsOf(expected.getData());
+
+        assertThatExceptionOfType(UncheckedIOException.class)
+                .isThrownBy(() -> readAll(grouped, UNSORTED))
+                .withMessageContaining("not grouped");
+
+        Path file = Files.write(temp.resolve("data.csv"), SORTED.getBytes(UTF_8));
+        try (DataCursor cursor = grouped.getCursorParser(RepoSamples.STRUCT).parseFile(file.toFile(), UTF_8)) {
+            assertThat(cursor.nextSeries()).isTrue();
+            assertThat(cursor.getSeriesKey()).isEqualTo(Key.parse("M.BE.INDUSTRY"));
+            assertThat(cursor.getSeriesAttributes()).isEmpty();
+            assertThatIllegalStateException().isThrownBy(cursor::getObsPeriod);
+            assertThat(cursor.nextObs()).isTrue();
+            assertThat(cursor.getObsPeriodStartEpochSecond()).isEqualTo(1262304000L);
+            assertThat(cursor.getObsValueAsDouble()).isEqualTo(1.0);
+            assertThat(cursor.nextSeries()).isTrue();
+            assertThat(cursor.getSeriesKey()).isEqualTo(Key.parse("M.FR.INDUSTRY"));
+            assertThat(cursor.nextObs()).isTrue();
+            assertThat(cursor.nextObs()).isTrue();
+            assertThat(cursor.getObsValue()).isEqualTo(5.0);
+            assertThat(cursor.nextObs()).isFalse();
+            assertThat(cursor.nextSeries()).isFalse();
+        }
+
+        assertThatIOException()
+                .isThrownBy(() -> grouped.getCursorParser(RepoSamples.STRUCT).parseChars("DATAFLOW,FREQ\r\n"))
+                .withMessage("Invalid header size");
+    }
+
+    private static List<Series> readAll(SdmxPicocsvParser parser, String csv) throws IOException {
+        try (Stream<Series> stream = parser.getCursorParser(RepoSamples.STRUCT).parseChars(csv).asCloseableStream()) {
+            return stream.collect(toList());
+        }
+    }
+
+    private static final String HEADER = "DATAFLOW,FREQ,REGION,SECTOR,TIME,OBS_VALUE\r\n";
+
+    private static final String SORTED = HEADER
+            + "NBB:XYZ(v2.0),M,BE,INDUSTRY,2010-01-01T00:00:00,1\r\n"
+            + "NBB:XYZ(v2.0),M,BE,INDUSTRY,2010-02-01T00:00:00,2\r\n"
+            + "NBB:XYZ(v2.0),M,BE,INDUSTRY,2010-03-01T00:00:00,3\r\n"
+            + "NBB:XYZ(v2.0),M,FR,INDUSTRY,2010-01-01T00:00:00,4\r\n"
+            + "NBB:XYZ(v2.0),M,FR,INDUSTRY,2010-02-01T00:00:00,5\r\n";
+
+    private static final String UNSORTED = HEADER
+            + "NBB:XYZ(v2.0),M,FR,INDUSTRY,2010-01-01T00:00:00,4\r\n"
+            + "NBB:XYZ(v2.0),M,BE,INDUSTRY,2010-01-01T00:00:00,1\r\n"
+            + "NBB:XYZ(v2.0),M,FR,INDUSTRY,2010-02-01T00:00:00,5\r\n"
+            + "NBB:XYZ(v2.0),M,BE,INDUSTRY,2010-02-01T00:00:00,2\r\n"
+            + "NBB:XYZ(v2.0),M,BE,INDUSTRY,2010-03-01T00:00:00,3\r\n";
 }
@@ -490,6 +490,11 @@ final class KryoFileFormat<T extends HasPersistence> implements FileFormat<T> {
         public void write(Kryo kryo, Output output, Query t) {
             kryo.writeObject(output, t.getKey());
             kryo.writeObject(output, t.getDetail());
+            kryo.writeObjectOrNull(output, t.getStartPeriod(), LocalDateTime.class);
+            kryo.writeObjectOrNull(output, t.getEndPeriod(), LocalDateTime.class);
+            output.writeVarInt(t.getFirstNObservations(), true);
+            output.writeVarInt(t.getLastNObservations(), true);
+            kryo.writeObjectOrNull(output, t.getUpdatedAfter(), Instant.class);
         }
 
         @Override
@@ -498,6 +503,11 @@ final class KryoFileFormat<T extends HasPersistence> implements FileFormat<T> {
                     .builder()
                     .key(kryo.readObject(input, Key.class))
                     .detail(kryo.readObject(input, Detail.class))
+                    .startPeriod(kryo.readObjectOrNull(input, LocalDateTime.class))
+                    .endPeriod(kryo.readObjectOrNull(input, LocalDateTime.class))
+                    .firstNObservations(input.readVarInt(true))
+                    .lastNObservations(input.readVarInt(true))
+                    .updatedAfter(kryo.readObjectOrNull(input, Instant.class))
                     .build();
         }
     }
@@ -2,6 +2,8 @@ package sdmxdl.format.protobuf;
 
 import sdmxdl.*;
 
+import java.time.LocalDateTime;
+
 import static sdmxdl.format.protobuf.WellKnownTypes.*;
 
 @lombok.experimental.UtilityClass
@@ -201,11 +203,22 @@ public class ProtoApi {
     }
 
     public static QueryDto fromDataQuery(Query value) {
-        return QueryDto
+        QueryDto.Builder result = QueryDto
                 .newBuilder()
                 .setKey(value.getKey().toString())
                 .setDetail(fromDataDetail(value.getDetail()))
-                .build();
+                .setFirstNObservations(value.getFirstNObservations())
+                .setLastNObservations(value.getLastNObservations());
+        if (value.getStartPeriod() != null) {
+            result.setStartPeriod(value.getStartPeriod().toString());
+        }
+        if (value.getEndPeriod() != null) {
+            result.setEndPeriod(value.getEndPeriod().toString());
+        }
+        if (value.getUpdatedAfter() != null) {
+            result.setUpdatedAfter(fromInstant(value.getUpdatedAfter()));
+        }
+        return result.build();
     }
 
     public static Query toDataQuery(QueryDto value) {
@@ -213,6 +226,11 @@ public class ProtoApi {
                 .builder()
                 .key(Key.parse(value.getKey()))
                 .detail(toDataDetail(value.getDetail()))
+                .startPeriod(value.hasStartPeriod() ? LocalDateTime.parse(value.getStartPeriod()) : null)
+                .endPeriod(value.hasEndPeriod() ? LocalDateTime.parse(value.getEndPeriod()) : null)
+                .firstNObservations(value.getFirstNObservations())
+                .lastNObservations(value.getLastNObservations())
+                .updatedAfter(value.hasUpdatedAfter() ? toInstant(value.getUpdatedAfter()) : null)
                 .build();
     }
 
@@ -266,6 +284,12 @@ public class ProtoApi {
                 return FeatureDto.DATA_QUERY_ALL_KEYWORD;
             case DATA_QUERY_DETAIL:
                 return FeatureDto.DATA_QUERY_DETAIL;
+            case DATA_QUERY_PERIOD_RANGE:
+                return FeatureDto.DATA_QUERY_PERIOD_RANGE;
+            case DATA_QUERY_OBS_COUNT:
+                return FeatureDto.DATA_QUERY_OBS_COUNT;
+            case DATA_QUERY_UPDATED_AFTER:
+                return FeatureDto.DATA_QUERY_UPDATED_AFTER;
             default:
                 throw new RuntimeException();
         }
@@ -277,6 +301,12 @@ public class ProtoApi {
                 return Feature.DATA_QUERY_ALL_KEYWORD;
             case DATA_QUERY_DETAIL:
                 return Feature.DATA_QUERY_DETAIL;
+            case DATA_QUERY_PERIOD_RANGE:
+                return Feature.DATA_QUERY_PERIOD_RANGE;
+            case DATA_QUERY_OBS_COUNT:
+                return Feature.DATA_QUERY_OBS_COUNT;
+            case DATA_QUERY_UPDATED_AFTER:
+                return Feature.DATA_QUERY_UPDATED_AFTER;
             default:
                 throw new RuntimeException();
         }
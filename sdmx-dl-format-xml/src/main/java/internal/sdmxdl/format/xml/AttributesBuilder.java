@@ -18,6 +18,7 @@ package internal.sdmxdl.format.xml;
 
 import lombok.NonNull;
 import org.jspecify.annotations.Nullable;
+import sdmxdl.format.CodeDictionary;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,8 +28,11 @@ import java.util.Map;
  *
  * @author Philippe Charles
  */
+@lombok.RequiredArgsConstructor
 final class AttributesBuilder {
 
+    private final @NonNull CodeDictionary.Interner interner;
+
     private final Map<String, String> data = new HashMap<>();
 
     @NonNull
@@ -40,7 +44,7 @@ final class AttributesBuilder {
     @NonNull
     AttributesBuilder put(@Nullable String key, @Nullable String value) {
         if (key != null && value != null) {
-            data.put(key, value);
+            data.put(interner.intern(key), interner.intern(value));
         }
         return this;
     }
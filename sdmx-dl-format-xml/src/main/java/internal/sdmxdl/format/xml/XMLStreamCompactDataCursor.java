@@ -18,8 +18,11 @@ package internal.sdmxdl.format.xml;
 
 import lombok.NonNull;
 import nbbrd.io.WrappedIOException;
+import nbbrd.io.function.IOUnaryOperator;
 import org.jspecify.annotations.Nullable;
+import sdmxdl.Duration;
 import sdmxdl.Key;
+import sdmxdl.format.CodeDictionary;
 import sdmxdl.format.DataCursor;
 import sdmxdl.format.ObsParser;
 import sdmxdl.format.time.ObservationalTimePeriod;
@@ -45,24 +48,32 @@ public final class XMLStreamCompactDataCursor implements DataCursor {
     private final AttributesBuilder seriesAttributes;
     private final ObsParser obsParser;
     private final AttributesBuilder obsAttributes;
+    private final IOUnaryOperator<String> obsAttributeLookup;
     private final String timeDimensionId;
     private final String primaryMeasureId;
+    private final CodeDictionary.Interner interner;
     private boolean closed;
     private boolean hasSeries;
     private boolean hasObs;
 
     public XMLStreamCompactDataCursor(XMLStreamReader reader, Closeable onClose, Key.Builder keyBuilder, ObsParser obsParser, String timeDimensionId, String primaryMeasureId) {
+        this(reader, onClose, keyBuilder, obsParser, timeDimensionId, primaryMeasureId, CodeDictionary.EMPTY.newInterner());
+    }
+
+    public XMLStreamCompactDataCursor(XMLStreamReader reader, Closeable onClose, Key.Builder keyBuilder, ObsParser obsParser, String timeDimensionId, String primaryMeasureId, CodeDictionary.Interner interner) {
         if (!XMLStreamUtil.isNotNamespaceAware(reader)) {
             throw new IllegalArgumentException("Using XMLStreamReader with namespace awareness");
         }
         this.reader = reader;
         this.onClose = onClose;
         this.keyBuilder = keyBuilder;
-        this.seriesAttributes = new AttributesBuilder();
+        this.seriesAttributes = new AttributesBuilder(interner);
         this.obsParser = obsParser;
-        this.obsAttributes = new AttributesBuilder();
+        this.obsAttributes = new AttributesBuilder(interner);
+        this.obsAttributeLookup = obsAttributes::getAttribute;
         this.timeDimensionId = timeDimensionId;
         this.primaryMeasureId = primaryMeasureId;
+        this.interner = interner;
         this.closed = false;
         this.hasSeries = false;
         this.hasObs = false;
@@ -125,6 +136,24 @@ public final class XMLStreamCompactDataCursor implements DataCursor {
         return obsParser.parseValue();
     }
 
+    @Override
+    public long getObsPeriodStartEpochSecond() throws IOException {
+        checkObsState();
+        return obsParser.parsePeriodStartEpochSecond(obsAttributeLookup);
+    }
+
+    @Override
+    public @Nullable Duration getObsPeriodDuration() throws IOException {
+        checkObsState();
+        return obsParser.parsePeriodDuration();
+    }
+
+    @Override
+    public double getObsValueAsDouble() throws IOException {
+        checkObsState();
+        return obsParser.parseValueAsDouble();
+    }
+
     @Override
     public @NonNull Map<String, String> getObsAttributes() throws IOException {
         checkObsState();
@@ -187,7 +216,7 @@ public final class XMLStreamCompactDataCursor implements DataCursor {
         for (int i = 0; i < reader.getAttributeCount(); i++) {
             String id = reader.getAttributeName(i).getLocalPart();
             if (keyBuilder.isDimension(id)) {
-                keyBuilder.put(id, reader.getAttributeValue(i));
+                keyBuilder.put(id, interner.intern(reader.getAttributeValue(i)));
             } else {
                 seriesAttributes.put(id, reader.getAttributeValue(i));
             }
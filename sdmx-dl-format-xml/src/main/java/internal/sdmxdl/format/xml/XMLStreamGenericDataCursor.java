@@ -18,8 +18,11 @@ package internal.sdmxdl.format.xml;
 
 import lombok.NonNull;
 import nbbrd.io.WrappedIOException;
+import nbbrd.io.function.IOUnaryOperator;
 import org.jspecify.annotations.Nullable;
+import sdmxdl.Duration;
 import sdmxdl.Key;
+import sdmxdl.format.CodeDictionary;
 import sdmxdl.format.DataCursor;
 import sdmxdl.format.ObsParser;
 import sdmxdl.format.time.ObservationalTimePeriod;
@@ -38,11 +41,19 @@ import java.util.function.Consumer;
 public final class XMLStreamGenericDataCursor implements DataCursor {
 
     public static XMLStreamGenericDataCursor sdmx20(XMLStreamReader reader, Closeable onClose, Key.Builder keyBuilder, ObsParser obsParser) {
-        return new XMLStreamGenericDataCursor(reader, onClose, keyBuilder, obsParser, SeriesHeadParser.SDMX20);
+        return sdmx20(reader, onClose, keyBuilder, obsParser, CodeDictionary.EMPTY.newInterner());
+    }
+
+    public static XMLStreamGenericDataCursor sdmx20(XMLStreamReader reader, Closeable onClose, Key.Builder keyBuilder, ObsParser obsParser, CodeDictionary.Interner interner) {
+        return new XMLStreamGenericDataCursor(reader, onClose, keyBuilder, obsParser, SeriesHeadParser.SDMX20, interner);
     }
 
     public static XMLStreamGenericDataCursor sdmx21(XMLStreamReader reader, Closeable onClose, Key.Builder keyBuilder, ObsParser obsParser) {
-        return new XMLStreamGenericDataCursor(reader, onClose, keyBuilder, obsParser, SeriesHeadParser.SDMX21);
+        return sdmx21(reader, onClose, keyBuilder, obsParser, CodeDictionary.EMPTY.newInterner());
+    }
+
+    public static XMLStreamGenericDataCursor sdmx21(XMLStreamReader reader, Closeable onClose, Key.Builder keyBuilder, ObsParser obsParser, CodeDictionary.Interner interner) {
+        return new XMLStreamGenericDataCursor(reader, onClose, keyBuilder, obsParser, SeriesHeadParser.SDMX21, interner);
     }
 
     private static final String DATASET_TAG = "DataSet";
@@ -60,22 +71,26 @@ public final class XMLStreamGenericDataCursor implements DataCursor {
     private final AttributesBuilder seriesAttributes;
     private final ObsParser obsParser;
     private final AttributesBuilder obsAttributes;
+    private final IOUnaryOperator<String> obsAttributeLookup;
     private final SeriesHeadParser headParser;
+    private final CodeDictionary.Interner interner;
     private boolean closed;
     private boolean hasSeries;
     private boolean hasObs;
 
-    private XMLStreamGenericDataCursor(XMLStreamReader reader, Closeable onClose, Key.Builder keyBuilder, ObsParser obsParser, SeriesHeadParser headParser) {
+    private XMLStreamGenericDataCursor(XMLStreamReader reader, Closeable onClose, Key.Builder keyBuilder, ObsParser obsParser, SeriesHeadParser headParser, CodeDictionary.Interner interner) {
         if (!XMLStreamUtil.isNotNamespaceAware(reader)) {
             throw new IllegalArgumentException("Using XMLStreamReader with namespace awareness");
         }
         this.reader = reader;
         this.onClose = onClose;
         this.keyBuilder = keyBuilder;
-        this.seriesAttributes = new AttributesBuilder();
+        this.seriesAttributes = new AttributesBuilder(interner);
         this.obsParser = obsParser;
-        this.obsAttributes = new AttributesBuilder();
+        this.obsAttributes = new AttributesBuilder(interner);
+        this.obsAttributeLookup = obsAttributes::getAttribute;
         this.headParser = headParser;
+        this.interner = interner;
         this.closed = false;
         this.hasSeries = false;
         this.hasObs = false;
@@ -145,6 +160,24 @@ public final class XMLStreamGenericDataCursor implements DataCursor {
         return obsParser.parseValue();
     }
 
+    @Override
+    public long getObsPeriodStartEpochSecond() throws IOException {
+        checkObsState();
+        return obsParser.parsePeriodStartEpochSecond(obsAttributeLookup);
+    }
+
+    @Override
+    public @Nullable Duration getObsPeriodDuration() throws IOException {
+        checkObsState();
+        return obsParser.parsePeriodDuration();
+    }
+
+    @Override
+    public double getObsValueAsDouble() throws IOException {
+        checkObsState();
+        return obsParser.parseValueAsDouble();
+    }
+
     @Override
     public @NonNull Map<String, String> getObsAttributes() throws IOException {
         checkObsState();
@@ -239,10 +272,14 @@ public final class XMLStreamGenericDataCursor implements DataCursor {
     }
 
     private XMLStreamUtil.Status parseSeriesKeyValue() throws XMLStreamException {
-        headParser.parseValueElement(reader, keyBuilder::put);
+        headParser.parseValueElement(reader, this::putKeyValue);
         return XMLStreamUtil.Status.CONTINUE;
     }
 
+    private void putKeyValue(String id, String value) {
+        keyBuilder.put(id, interner.intern(value));
+    }
+
     private XMLStreamUtil.Status parseAttributesValue(AttributesBuilder builder) throws XMLStreamException {
         headParser.parseValueElement(reader, builder::put);
         return XMLStreamUtil.Status.CONTINUE;
@@ -22,6 +22,7 @@ import lombok.NonNull;
 import nbbrd.io.xml.Stax;
 import nbbrd.io.xml.Xml;
 import sdmxdl.*;
+import sdmxdl.format.CodeDictionary;
 import sdmxdl.format.DataCursor;
 import sdmxdl.format.MessageFooter;
 import sdmxdl.format.ObsParser;
@@ -36,30 +37,34 @@ import java.util.function.Supplier;
 public class SdmxXmlStreams {
 
     public Xml.@NonNull Parser<DataCursor> compactData20(@NonNull Structure dsd, @NonNull Supplier<ObsParser> df) {
+        CodeDictionary codes = CodeDictionary.of(dsd);
         return Stax.StreamParser.<DataCursor>builder()
                 .factory(ImmutableXMLInputFactory::getInputFactoryWithoutNamespace)
-                .handler((o, onClose) -> new XMLStreamCompactDataCursor(o, onClose, Key.builder(dsd), df.get(), dsd.getTimeDimensionId(), dsd.getPrimaryMeasureId()))
+                .handler((o, onClose) -> new XMLStreamCompactDataCursor(o, onClose, Key.builder(dsd), df.get(), dsd.getTimeDimensionId(), dsd.getPrimaryMeasureId(), codes.newInterner()))
                 .build();
     }
 
     public Xml.@NonNull Parser<DataCursor> compactData21(@NonNull Structure dsd, @NonNull Supplier<ObsParser> df) {
+        CodeDictionary codes = CodeDictionary.of(dsd);
         return Stax.StreamParser.<DataCursor>builder()
                 .factory(ImmutableXMLInputFactory::getInputFactoryWithoutNamespace)
-                .handler((o, onClose) -> new XMLStreamCompactDataCursor(o, onClose, Key.builder(dsd), df.get(), dsd.getTimeDimensionId(), dsd.getPrimaryMeasureId()))
+                .handler((o, onClose) -> new XMLStreamCompactDataCursor(o, onClose, Key.builder(dsd), df.get(), dsd.getTimeDimensionId(), dsd.getPrimaryMeasureId(), codes.newInterner()))
                 .build();
     }
 
     public Xml.@NonNull Parser<DataCursor> genericData20(@NonNull Structure dsd, @NonNull Supplier<ObsParser> df) {
+        CodeDictionary codes = CodeDictionary.of(dsd);
         return Stax.StreamParser.<DataCursor>builder()
                 .factory(ImmutableXMLInputFactory::getInputFactoryWithoutNamespace)
-                .handler((o, onClose) -> XMLStreamGenericDataCursor.sdmx20(o, onClose, Key.builder(dsd), df.get()))
+                .handler((o, onClose) -> XMLStreamGenericDataCursor.sdmx20(o, onClose, Key.builder(dsd), df.get(), codes.newInterner()))
                 .build();
     }
 
     public Xml.@NonNull Parser<DataCursor> genericData21(@NonNull Structure dsd, @NonNull Supplier<ObsParser> df) {
+        CodeDictionary codes = CodeDictionary.of(dsd);
         return Stax.StreamParser.<DataCursor>builder()
                 .factory(ImmutableXMLInputFactory::getInputFactoryWithoutNamespace)
-                .handler((o, onClose) -> XMLStreamGenericDataCursor.sdmx21(o, onClose, Key.builder(dsd), df.get()))
+                .handler((o, onClose) -> XMLStreamGenericDataCursor.sdmx21(o, onClose, Key.builder(dsd), df.get(), codes.newInterner()))
                 .build();
     }
 
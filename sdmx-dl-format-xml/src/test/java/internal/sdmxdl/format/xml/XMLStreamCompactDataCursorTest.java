@@ -20,6 +20,7 @@ import nbbrd.io.Resource;
 import org.junit.jupiter.api.Test;
 import sdmxdl.Detail;
 import sdmxdl.Key;
+import sdmxdl.Query;
 import sdmxdl.format.DataCursor;
 import sdmxdl.format.ObsParser;
 import sdmxdl.format.time.GregorianTimePeriod;
@@ -31,6 +32,7 @@ import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -134,6 +136,23 @@ public class XMLStreamCompactDataCursorTest {
         }
     }
 
+    @Test
+    public void testAsStreamWithObsRange() throws Exception {
+        ByteSource xml = SdmxXmlSources.OTHER_COMPACT21;
+        Key.Builder builder = Key.builder(asList("FREQ", "AME_REF_AREA", "AME_TRANSFORMATION", "AME_AGG_METHOD", "AME_UNIT", "AME_REFERENCE", "AME_ITEM"));
+        Query query = Query.builder().startPeriod(LocalDateTime.of(2000, 1, 1, 0, 0)).endPeriod(LocalDateTime.of(2009, 12, 31, 0, 0)).lastNObservations(3).build();
+
+        ObsParser obsParser = ObsParser.newDefault();
+        try (InputStream stream = xml.openStream();
+             DataCursor o = new XMLStreamCompactDataCursor(xif.createXMLStreamReader(stream), stream, builder, obsParser, "TIME_PERIOD", "OBS_VALUE")) {
+            assertThat(o.asStream(query))
+                    .singleElement()
+                    .satisfies(series -> assertThat(series.getObs())
+                            .extracting(obs -> obs.getPeriod().getStart().getYear())
+                            .containsExactly(2007, 2008, 2009));
+        }
+    }
+
     @Test
     public void testMissingSeriesHeader() throws IOException, XMLStreamException {
         ByteSource xml = () -> Resource.newInputStream(XMLStreamCompactDataCursorTest.class, "10100139_187.xml");
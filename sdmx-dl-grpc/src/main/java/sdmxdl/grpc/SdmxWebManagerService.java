@@ -5,11 +5,15 @@ import io.quarkus.grpc.GrpcService;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Response;
+import nbbrd.io.Resource;
+import nbbrd.io.function.IORunnable;
+import nbbrd.io.function.IOSupplier;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.ExampleObject;
 import org.eclipse.microprofile.openapi.annotations.parameters.RequestBody;
@@ -25,7 +29,9 @@ import sdmxdl.web.WebSource;
 import sdmxdl.web.WebSources;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static sdmxdl.DatabaseRef.NO_DATABASE_KEYWORD;
@@ -73,13 +79,8 @@ public class SdmxWebManagerService implements sdmxdl.grpc.SdmxWebManager {
     @Path("/monitorReport")
     @Override
     public Uni<MonitorReportDto> getMonitorReport(SourceRequestDto request) {
-        try {
-            return Uni.createFrom()
-                    .item(manager.getMonitorReport(request.getSource()))
-                    .map(ProtoWeb::fromMonitorReport);
-        } catch (IOException ex) {
-            return Uni.createFrom().failure(ex);
-        }
+        return blocking(() -> manager.getMonitorReport(request.getSource()))
+                .map(ProtoWeb::fromMonitorReport);
     }
 
     @RequestBody(
@@ -98,13 +99,8 @@ public class SdmxWebManagerService implements sdmxdl.grpc.SdmxWebManager {
     @Path("/databases")
     @Override
     public Multi<DatabaseDto> getDatabases(SourceRequestDto request) {
-        try {
-            return Multi.createFrom()
-                    .iterable(manager.usingName(request.getSource()).getDatabases(ProtoGrpc.toSourceRequest(request)))
-                    .map(ProtoApi::fromDatabase);
-        } catch (IOException ex) {
-            return Multi.createFrom().failure(ex);
-        }
+        return blockingIterable(() -> manager.usingName(request.getSource()).getDatabases(ProtoGrpc.toSourceRequest(request)))
+                .map(ProtoApi::fromDatabase);
     }
 
     @RequestBody(
@@ -124,13 +120,8 @@ public class SdmxWebManagerService implements sdmxdl.grpc.SdmxWebManager {
     @Path("/meta")
     @Override
     public Uni<MetaSetDto> getMeta(FlowRequestDto request) {
-        try {
-            return Uni.createFrom()
-                    .item(manager.usingName(request.getSource()).getMeta(ProtoGrpc.toFlowRequest(request)))
-                    .map(ProtoApi::fromMetaSet);
-        } catch (IOException ex) {
-            return Uni.createFrom().failure(ex);
-        }
+        return blocking(() -> manager.usingName(request.getSource()).getMeta(ProtoGrpc.toFlowRequest(request)))
+                .map(ProtoApi::fromMetaSet);
     }
 
     @RequestBody(
@@ -151,13 +142,8 @@ public class SdmxWebManagerService implements sdmxdl.grpc.SdmxWebManager {
     @Path("/data")
     @Override
     public Uni<DataSetDto> getData(KeyRequestDto request) {
-        try {
-            return Uni.createFrom()
-                    .item(manager.usingName(request.getSource()).getData(ProtoGrpc.toKeyRequest(request)))
-                    .map(ProtoApi::fromDataSet);
-        } catch (IOException ex) {
-            return Uni.createFrom().failure(ex);
-        }
+        return blocking(() -> manager.usingName(request.getSource()).getData(ProtoGrpc.toKeyRequest(request)))
+                .map(ProtoApi::fromDataSet);
     }
 
     @POST
@@ -323,13 +309,8 @@ public class SdmxWebManagerService implements sdmxdl.grpc.SdmxWebManager {
     @Path("/flows")
     @Override
     public Multi<FlowDto> getFlows(DatabaseRequestDto request) {
-        try {
-            return Multi.createFrom()
-                    .iterable(manager.usingName(request.getSource()).getFlows(ProtoGrpc.toDatabaseRequest(request)))
-                    .map(ProtoApi::fromDataflow);
-        } catch (IOException ex) {
-            return Multi.createFrom().failure(ex);
-        }
+        return blockingIterable(() -> manager.usingName(request.getSource()).getFlows(ProtoGrpc.toDatabaseRequest(request)))
+                .map(ProtoApi::fromDataflow);
     }
 
     @RequestBody(
@@ -350,12 +331,19 @@ public class SdmxWebManagerService implements sdmxdl.grpc.SdmxWebManager {
     @Path("/dataStream")
     @Override
     public Multi<SeriesDto> getDataStream(KeyRequestDto request) {
+        return blockingStream(() -> openDataStream(ProtoGrpc.toKeyRequest(request), request.getSource()))
+                .map(ProtoApi::fromSeries);
+    }
+
+    private Stream<Series> openDataStream(KeyRequest request, String source) throws IOException {
+        Connection connection = manager.getConnection(source, request.getLanguages());
         try {
-            return Multi.createFrom()
-                    .iterable(manager.usingName(request.getSource()).getData(ProtoGrpc.toKeyRequest(request)))
-                    .map(ProtoApi::fromSeries);
-        } catch (IOException ex) {
-            return Multi.createFrom().failure(ex);
+            return connection
+                    .getDataStream(request.getDatabase(), request.getFlow(), request.toQuery())
+                    .onClose(IORunnable.unchecked(connection::close));
+        } catch (IOException | RuntimeException ex) {
+            Resource.ensureClosed(ex, connection);
+            throw ex;
         }
     }
 
@@ -378,16 +366,51 @@ public class SdmxWebManagerService implements sdmxdl.grpc.SdmxWebManager {
     @Path("/availability")
     @Override
     public Multi<DimensionCodesDto> getAvailability(KeyDimensionRequestDto request) {
-        DatabaseRef databaseRef = request.hasDatabase() ? DatabaseRef.parse(request.getDatabase()) : DatabaseRef.NO_DATABASE;
-        FlowRef flowRef = FlowRef.parse(request.getFlow());
-        Key key = Key.parse(request.getKey());
-        Languages languages = request.hasLanguages() ? Languages.parse(request.getLanguages()) : Languages.ANY;
-        try (Connection connection = manager.getConnection(request.getSource(), languages)) {
-            return Multi.createFrom()
-                    .items(connection.getAvailableDimensionCodes(databaseRef, flowRef, key, request.getDimension()))
-                    .map(codes -> DimensionCodesDto.newBuilder().addAllCodes(codes).build());
-        } catch (IOException ex) {
-            return Multi.createFrom().failure(ex);
-        }
+        return blocking(() -> {
+            DatabaseRef databaseRef = request.hasDatabase() ? DatabaseRef.parse(request.getDatabase()) : DatabaseRef.NO_DATABASE;
+            FlowRef flowRef = FlowRef.parse(request.getFlow());
+            Key key = Key.parse(request.getKey());
+            Languages languages = request.hasLanguages() ? Languages.parse(request.getLanguages()) : Languages.ANY;
+            try (Connection connection = manager.getConnection(request.getSource(), languages)) {
+                return connection.getAvailableDimensionCodes(databaseRef, flowRef, key, request.getDimension());
+            }
+        })
+                .toMulti()
+                .map(codes -> DimensionCodesDto.newBuilder().addAllCodes(codes).build());
+    }
+
+    // blocking I/O is moved off the caller thread, which is an event loop for gRPC and REST
+    private static <T> Uni<T> blocking(IOSupplier<T> supplier) {
+        return Uni.createFrom()
+                .<T>deferred(() -> {
+                    try {
+                        return Uni.createFrom().item(supplier.getWithIO());
+                    } catch (IOException ex) {
+                        return Uni.createFrom().failure(ex);
+                    }
+                })
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    private static <T> Multi<T> blockingIterable(IOSupplier<? extends Iterable<T>> supplier) {
+        return blocking(supplier)
+                .onItem().transformToMulti(items -> Multi.createFrom().iterable(items));
+    }
+
+    // items are pulled on demand and the stream is closed on completion, failure or cancellation
+    static <T> Multi<T> blockingStream(IOSupplier<? extends Stream<T>> supplier) {
+        return Multi.createFrom()
+                .<T>deferred(() -> {
+                    try {
+                        Stream<T> stream = supplier.getWithIO();
+                        return Multi.createFrom()
+                                .iterable(stream::iterator)
+                                .onTermination().invoke(stream::close);
+                    } catch (IOException ex) {
+                        return Multi.createFrom().failure(ex);
+                    }
+                })
+                .onFailure(UncheckedIOException.class).transform(Throwable::getCause)
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
     }
 }
@@ -3,13 +3,17 @@ package sdmxdl.grpc;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.protobuf.util.JsonFormat;
+import io.grpc.StatusRuntimeException;
 import io.quarkiverse.mcp.server.Content;
 import io.quarkiverse.mcp.server.ToolResponse;
 import io.quarkiverse.mcp.server.test.McpAssured;
 import io.quarkus.grpc.GrpcClient;
 import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import nbbrd.io.function.IORunnable;
 import org.junit.jupiter.api.Test;
-import sdmxdl.Confidentiality;
+import sdmxdl.*;
 import sdmxdl.format.protobuf.ProtoApi;
 import sdmxdl.format.protobuf.ProtoWeb;
 import sdmxdl.format.protobuf.web.WebSourceDto;
@@ -19,8 +23,14 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.InstanceOfAssertFactories.STRING;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 
@@ -40,6 +50,53 @@ public class SdmxWebManagerServiceTest {
                 .contains("ECB");
     }
 
+    @Test
+    public void testGetDataStream() {
+        KeyRequestDto request = KeyRequestDto.newBuilder().setSource("UNKNOWN").setFlow("EXR").setKey("all").build();
+        assertThatExceptionOfType(StatusRuntimeException.class)
+                .isThrownBy(() -> grpc.getDataStream(request).collect().asList().await().atMost(Duration.ofSeconds(5)))
+                .withMessageContaining("UNKNOWN");
+
+        KeyRequestDto rng = KeyRequestDto.newBuilder().setSource("RNG").setFlow("RNG").setKey("all").build();
+        assertThat(grpc.getDataStream(rng).collect().asList().await().atMost(Duration.ofSeconds(5)))
+                .isNotEmpty()
+                .containsExactlyElementsOf(grpc.getData(rng).await().atMost(Duration.ofSeconds(5)).getDataList());
+    }
+
+    @Test
+    public void testBlockingStream() throws IOException {
+        AtomicInteger pulled = new AtomicInteger();
+        Set<Thread> pullingThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch closed = new CountDownLatch(1);
+
+        Multi<Series> x = SdmxWebManagerService.blockingStream(() -> {
+            Connection connection = sdmxdl.web.SdmxWebManager.ofServiceLoader().getConnection("RNG", Languages.ANY);
+            return connection
+                    .getDataStream(DatabaseRef.NO_DATABASE, FlowRef.parse("RNG"), Query.ALL)
+                    .peek(series -> {
+                        pulled.incrementAndGet();
+                        pullingThreads.add(Thread.currentThread());
+                    })
+                    .onClose(IORunnable.unchecked(connection::close))
+                    .onClose(closed::countDown);
+        });
+
+        assertThat(pulled).hasValue(0);
+
+        AssertSubscriber<Series> subscriber = x.subscribe().withSubscriber(AssertSubscriber.create(2));
+        subscriber.awaitItems(2).cancel();
+
+        assertThat(await(closed))
+                .describedAs("Stream should be closed on cancellation")
+                .isTrue();
+        assertThat(pulled.get())
+                .describedAs("Series should be pulled on demand")
+                .isBetween(2, 3);
+        assertThat(pullingThreads)
+                .describedAs("Series should be pulled off the caller thread")
+                .doesNotContain(Thread.currentThread());
+    }
+
     @Test
     public void mcpAbout() {
         McpAssured.newConnectedStreamableClient()
@@ -74,6 +131,15 @@ public class SdmxWebManagerServiceTest {
                 .thenAssertResults();
     }
 
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private static String toJson(Message message) {
         try {
             return JsonFormat.printer().print(message);
@@ -0,0 +1,43 @@
+package sdmxdl.provider;
+
+import lombok.NonNull;
+import nbbrd.io.function.IOFunction;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Result of a conditional request.
+ * It is either a new value with its validators or a notification that the previous value was not modified.
+ *
+ * @param <T> the type of the value
+ */
+@lombok.Value(staticConstructor = "of")
+public class Conditional<T> {
+
+    @NonNull
+    public static <T> Conditional<T> notModified() {
+        return of(null, "");
+    }
+
+    /**
+     * Value of the response, null if not modified.
+     */
+    @Nullable
+    T value;
+
+    /**
+     * Opaque validators of the value that can be used in the next conditional request.
+     */
+    @lombok.NonNull
+    String validators;
+
+    public boolean isNotModified() {
+        return value == null;
+    }
+
+    @NonNull
+    public <R> Conditional<R> map(@NonNull IOFunction<? super T, ? extends R> function) throws IOException {
+        return value != null ? of(function.applyWithIO(value), validators) : notModified();
+    }
+}
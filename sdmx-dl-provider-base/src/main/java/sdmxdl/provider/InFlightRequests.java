@@ -0,0 +1,89 @@
+package sdmxdl.provider;
+
+import nbbrd.design.ThreadSafe;
+import nbbrd.design.VisibleForTesting;
+import nbbrd.io.function.IOSupplier;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Requests that are being executed, by key.
+ * A request on a key that is already in flight waits for the outcome of the first one instead of being executed again.
+ *
+ * @param <K> the type of key
+ */
+@ThreadSafe
+class InFlightRequests<K> {
+
+    private final ConcurrentMap<K, CompletableFuture<Object>> requests = new ConcurrentHashMap<>();
+
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Executes a request unless another one is in flight on the same key.
+     * The outcome of the request in flight is used if the validator accepts it, otherwise the request is executed.
+     * A failure of the request in flight is rethrown as is.
+     *
+     * @param key       a non-null key
+     * @param request   a non-null request
+     * @param validator a non-null predicate that checks if the outcome of another request can be used
+     * @param <T>       the type of outcome
+     * @return the outcome of the request
+     * @throws IOException if the request fails
+     */
+    <T> T execute(K key, IOSupplier<T> request, Predicate<? super T> validator) throws IOException {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = requests.putIfAbsent(key, created);
+        if (inFlight != null) {
+            onWait(key);
+            T result = await(inFlight);
+            if (validator.test(result)) {
+                coalescedCount.increment();
+                return result;
+            }
+            return request.getWithIO();
+        }
+        try {
+            T result = request.getWithIO();
+            created.complete(result);
+            return result;
+        } catch (IOException | RuntimeException | Error ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            requests.remove(key, created);
+        }
+    }
+
+    long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    @VisibleForTesting
+    void onWait(K key) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T await(CompletableFuture<Object> inFlight) throws IOException {
+        try {
+            return (T) inFlight.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            // NB: the original exception is rethrown so that waiters can handle it like the first request
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package sdmxdl.provider;
+
+import lombok.NonNull;
+import nbbrd.design.NonNegative;
+import nbbrd.io.function.IOFunction;
+import sdmxdl.Key;
+import sdmxdl.Obs;
+import sdmxdl.Series;
+import sdmxdl.TimeInterval;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Parsing of independent sources of series, such as the entries of an archive, on a bounded pool of threads.
+ */
+@lombok.experimental.UtilityClass
+public class ParallelParsing {
+
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Parses some sources concurrently.
+     *
+     * @param sources     a non-null list of sources
+     * @param parser      a non-null function that parses a source
+     * @param parallelism the maximum number of sources parsed at the same time
+     * @param <T>         the type of the sources
+     * @return a non-null list of the series of each source, in the order of the sources
+     * @throws IOException if a source cannot be parsed
+     */
+    public static <T> @NonNull List<List<Series>> parseAll(
+            @NonNull List<T> sources,
+            @NonNull IOFunction<? super T, ? extends Stream<Series>> parser,
+            @NonNegative int parallelism) throws IOException {
+
+        if (parallelism <= 1 || sources.size() <= 1) {
+            List<List<Series>> result = new ArrayList<>(sources.size());
+            for (T source : sources) {
+                result.add(parse(source, parser));
+            }
+            return result;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, sources.size()), ParallelParsing::newDaemonThread);
+        try {
+            List<Future<List<Series>>> tasks = new ArrayList<>(sources.size());
+            for (T source : sources) {
+                tasks.add(executor.submit(() -> parse(source, parser)));
+            }
+            List<List<Series>> result = new ArrayList<>(sources.size());
+            for (Future<List<Series>> task : tasks) {
+                result.add(getResult(task));
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Merges the revisions of some series by key.
+     * The observations of a revision replace the observations of the previous revisions that have the same period.
+     *
+     * @param revisions a non-null list of the series of each revision, from the oldest to the latest
+     * @return a non-null stream of series in the order of the first appearance of their keys
+     */
+    public static @NonNull Stream<Series> mergeRevisions(@NonNull List<List<Series>> revisions) {
+        Map<Key, List<Series>> seriesByKey = new LinkedHashMap<>();
+        for (List<Series> revision : revisions) {
+            for (Series series : revision) {
+                seriesByKey.computeIfAbsent(series.getKey(), ignore -> new ArrayList<>()).add(series);
+            }
+        }
+        return seriesByKey.values().stream().map(ParallelParsing::combineObservationsByPeriod);
+    }
+
+    private static Series combineObservationsByPeriod(List<Series> list) {
+        Map<TimeInterval, Obs> result = new LinkedHashMap<>();
+        for (Series series : list) {
+            for (Obs obs : series.getObs()) {
+                result.put(obs.getPeriod(), obs);
+            }
+        }
+        return list.get(0).toBuilder().clearObs().obs(result.values()).build();
+    }
+
+    private static <T> List<Series> parse(T source, IOFunction<? super T, ? extends Stream<Series>> parser) throws IOException {
+        try (Stream<Series> stream = parser.applyWithIO(source)) {
+            return stream.collect(toList());
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static List<Series> getResult(Future<List<Series>> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException result = new InterruptedIOException("Interrupted while parsing");
+            result.initCause(ex);
+            throw result;
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    private static Thread newDaemonThread(Runnable runnable) {
+        Thread result = new Thread(runnable, "sdmxdl-parsing");
+        result.setDaemon(true);
+        return result;
+    }
+}
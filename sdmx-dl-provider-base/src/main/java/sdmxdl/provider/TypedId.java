@@ -32,6 +32,8 @@ import java.net.URLEncoder;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -86,12 +88,210 @@ public final class TypedId<T> {
     public T load(@NonNull Cache<DataRepository> cache, @NonNull IOSupplier<T> factory, @NonNull Function<? super T, Duration> ttl, @NonNull Predicate<? super T> validator) throws IOException {
         T result = peek(cache);
         if (result == null || !validator.test(result)) {
-            result = factory.getWithIO();
-            cache.put(content.toString(), storer.apply(result).toBuilder().ttl(cache.getClock().instant(), ttl.apply(result)).build());
+            result = fetch(cache, () -> store(cache, factory.getWithIO(), ttl), validator);
         }
         return result;
     }
 
+    /**
+     * Loads a value that is refreshed incrementally.
+     * The value is kept in the cache during the retention period but is only considered fresh during the TTL.
+     * Once stale, it is refreshed with the updates that occurred since its creation time minus a margin that absorbs
+     * a clock skew with the server. If the refresh fails, the whole value is loaded again.
+     *
+     * @param cache     a non-null cache
+     * @param factory   a non-null supplier of the whole value
+     * @param refresher a non-null function that refreshes a stale value
+     * @param ttl       a non-null duration of freshness
+     * @param retention a non-null duration of storage
+     * @param validator a non-null predicate that checks if a cached value can be used
+     * @return a non-null value
+     * @throws IOException if the value cannot be retrieved
+     */
+    @NonNull
+    public T loadIncrementally(
+            @NonNull Cache<DataRepository> cache,
+            @NonNull IOSupplier<T> factory,
+            @NonNull Refresher<T> refresher,
+            @NonNull Duration ttl,
+            @NonNull Duration retention,
+            @NonNull Predicate<? super T> validator) throws IOException {
+        DataRepository repo = cache.get(content.toString());
+        T stale = repo != null ? loader.apply(repo) : null;
+        if (stale == null || !validator.test(stale)) {
+            return fetch(cache, () -> storeIncrementally(cache, factory, retention), validator);
+        }
+        if (!cache.getClock().instant().isAfter(repo.getCreationTime().plus(ttl))) {
+            return stale;
+        }
+        Instant updatedAfter = repo.getCreationTime().minus(CLOCK_SKEW_MARGIN);
+        return fetch(cache, () -> storeIncrementally(cache, () -> refreshOrReload(stale, updatedAfter, factory, refresher), retention), validator);
+    }
+
+    /**
+     * Loads a value that is revalidated with a conditional request.
+     * The value is kept in the cache during the retention period but is only considered fresh during the TTL.
+     * Once stale, it is revalidated with the validators stored next to it and is only fetched again if it was modified.
+     *
+     * @param cache       a non-null cache
+     * @param revalidator a non-null function that fetches the value unless it was not modified
+     * @param ttl         a non-null duration of freshness
+     * @param retention   a non-null duration of storage
+     * @return a non-null value
+     * @throws IOException if the value cannot be retrieved
+     */
+    @NonNull
+    public T loadConditionally(
+            @NonNull Cache<DataRepository> cache,
+            @NonNull Revalidator<T> revalidator,
+            @NonNull Duration ttl,
+            @NonNull Duration retention) throws IOException {
+        DataRepository repo = cache.get(content.toString());
+        T stale = repo != null ? loader.apply(repo) : null;
+        if (stale == null) {
+            return fetch(cache, () -> storeConditionally(cache, revalidator, null, retention), o -> true);
+        }
+        if (!cache.getClock().instant().isAfter(repo.getCreationTime().plus(ttl))) {
+            return stale;
+        }
+        return fetch(cache, () -> storeConditionally(cache, revalidator, repo, retention), o -> true);
+    }
+
+    /**
+     * Gets the number of requests that have been served by an in-flight request on the same content.
+     *
+     * @return a non-negative number
+     */
+    public static long getCoalescedRequestCount() {
+        return IN_FLIGHT_REQUESTS.getCoalescedCount();
+    }
+
+    @FunctionalInterface
+    public interface Refresher<T> {
+
+        /**
+         * Refreshes a stale value with the updates that occurred after an instant.
+         *
+         * @param stale        a non-null stale value
+         * @param updatedAfter a non-null instant
+         * @return a non-null refreshed value
+         * @throws IOException if the updates cannot be retrieved
+         */
+        @NonNull
+        T refresh(@NonNull T stale, @NonNull Instant updatedAfter) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Revalidator<T> {
+
+        /**
+         * Fetches a value unless it was not modified since the validators were issued.
+         *
+         * @param validators non-null validators of the stale value, empty if there is no stale value
+         * @return a non-null conditional value
+         * @throws IOException if the value cannot be retrieved
+         */
+        @NonNull
+        Conditional<T> revalidate(@NonNull String validators) throws IOException;
+    }
+
+    /**
+     * Gets the number of requests that have been served by revalidating a stale value.
+     *
+     * @return a non-negative number
+     */
+    public static long getNotModifiedRequestCount() {
+        return NOT_MODIFIED_REQUEST_COUNT.sum();
+    }
+
+    /**
+     * Gets the number of requests that have been served by merging updates into a stale value.
+     *
+     * @return a non-negative number
+     */
+    public static long getIncrementalRequestCount() {
+        return INCREMENTAL_REQUEST_COUNT.sum();
+    }
+
+    private T fetch(Cache<DataRepository> cache, IOSupplier<T> storingFactory, Predicate<? super T> validator) throws IOException {
+        return IN_FLIGHT_REQUESTS.execute(new InFlightKey(cache, content.toString()), storingFactory, validator);
+    }
+
+    private T store(Cache<DataRepository> cache, T result, Function<? super T, Duration> ttl) {
+        cache.put(content.toString(), storer.apply(result).toBuilder().ttl(cache.getClock().instant(), ttl.apply(result)).build());
+        return result;
+    }
+
+    private T storeIncrementally(Cache<DataRepository> cache, IOSupplier<T> factory, Duration retention) throws IOException {
+        // the creation time is taken before the request so that concurrent updates are not missed
+        Instant creationTime = cache.getClock().instant();
+        T result = factory.getWithIO();
+        cache.put(content.toString(), storer.apply(result).toBuilder().ttl(creationTime, retention).build());
+        return result;
+    }
+
+    private static <T> T refreshOrReload(T stale, Instant updatedAfter, IOSupplier<T> factory, Refresher<T> refresher) throws IOException {
+        T result;
+        try {
+            result = refresher.refresh(stale, updatedAfter);
+        } catch (IOException ex) {
+            // some servers reject or mishandle updatedAfter queries
+            return factory.getWithIO();
+        }
+        INCREMENTAL_REQUEST_COUNT.increment();
+        return result;
+    }
+
+    private T storeConditionally(Cache<DataRepository> cache, Revalidator<T> revalidator, @Nullable DataRepository stale, Duration retention) throws IOException {
+        String key = content.toString();
+        String validatorsKey = key + VALIDATORS_SUFFIX;
+        DataRepository validators = stale != null ? cache.get(validatorsKey) : null;
+        Instant creationTime = cache.getClock().instant();
+        Conditional<T> result = revalidator.revalidate(validators != null ? validators.getName() : "");
+        if (result.isNotModified()) {
+            if (stale == null || validators == null) {
+                throw new IOException("Unexpected not modified response for '" + key + "'");
+            }
+            NOT_MODIFIED_REQUEST_COUNT.increment();
+            cache.put(key, stale.toBuilder().ttl(creationTime, retention).build());
+            cache.put(validatorsKey, validators.toBuilder().ttl(creationTime, retention).build());
+            return loader.apply(stale);
+        }
+        T value = result.getValue();
+        cache.put(key, storer.apply(value).toBuilder().ttl(creationTime, retention).build());
+        cache.put(validatorsKey, DataRepository.builder().name(result.getValidators()).ttl(creationTime, retention).build());
+        return value;
+    }
+
+    private static final InFlightRequests<InFlightKey> IN_FLIGHT_REQUESTS = new InFlightRequests<>();
+
+    @lombok.RequiredArgsConstructor
+    private static final class InFlightKey {
+
+        // compared by identity because distinct caches might hold different values for the same content
+        private final Cache<DataRepository> cache;
+        private final String content;
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || (obj instanceof InFlightKey && ((InFlightKey) obj).cache == cache && ((InFlightKey) obj).content.equals(content));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(cache) + content.hashCode();
+        }
+    }
+
+    private static final LongAdder INCREMENTAL_REQUEST_COUNT = new LongAdder();
+
+    // the overlap is harmless because the updates are merged into the stale value
+    private static final Duration CLOCK_SKEW_MARGIN = Duration.ofMinutes(5);
+
+    private static final LongAdder NOT_MODIFIED_REQUEST_COUNT = new LongAdder();
+
+    private static final String VALIDATORS_SUFFIX = "#validators";
+
     public static URI resolveURI(URI base, String... items) {
         return URI.create(Stream.of(items)
                 .map(URIs::encode)
@@ -25,10 +25,12 @@ import sdmxdl.provider.DataRef;
 import sdmxdl.provider.Marker;
 import sdmxdl.provider.TypedId;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static sdmxdl.DataSet.toDataSet;
@@ -36,22 +38,49 @@ import static sdmxdl.DataSet.toDataSet;
 /**
  * @author Philippe Charles
  */
-@lombok.RequiredArgsConstructor
 public final class CachedFileClient implements FileClient {
 
     public static @NonNull CachedFileClient of(
             @NonNull FileClient client, @NonNull Cache<DataRepository> cache,
             @NonNull FileSource source, @NonNull Languages languages) {
-        return new CachedFileClient(client, cache, getBase(source, languages));
+        return new CachedFileClient(client, cache, getBase(source, languages), () -> getStamp(source));
     }
 
     private static URI getBase(FileSource source, Languages languages) {
         return TypedId.resolveURI(URI.create("cache:file"), source.getData().toString() + source.getStructure(), languages.toString());
     }
 
-    // TODO: replace ttl with file last modification time
+    /**
+     * Gets a stamp made of the last modification time and size of the files of a source.
+     *
+     * @param source a non-null source
+     * @return a non-null stamp that is empty if the data file is missing
+     */
+    public static @NonNull String getStamp(@NonNull FileSource source) {
+        File data = source.getData();
+        File structure = source.getStructure();
+        if (!data.isFile()) {
+            return NO_STAMP;
+        }
+        return structure != null && structure.isFile()
+                ? getStamp(data) + "_" + getStamp(structure)
+                : getStamp(data);
+    }
+
+    private static String getStamp(File file) {
+        return file.lastModified() + "-" + file.length();
+    }
+
+    private static final String NO_STAMP = "";
+
     public static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(5);
 
+    /**
+     * Time to live of the entries whose key contains the stamp of the files.
+     * Since a modified file has a new stamp, these entries can be kept much longer.
+     */
+    public static final Duration STAMPED_CACHE_TTL = Duration.ofDays(7);
+
     @lombok.NonNull
     private final FileClient delegate;
 
@@ -61,6 +90,20 @@ public final class CachedFileClient implements FileClient {
     @lombok.NonNull
     private final URI base;
 
+    @lombok.NonNull
+    private final Supplier<String> stamp;
+
+    CachedFileClient(@NonNull FileClient delegate, @NonNull Cache<DataRepository> cache, @NonNull URI base) {
+        this(delegate, cache, base, () -> NO_STAMP);
+    }
+
+    CachedFileClient(@NonNull FileClient delegate, @NonNull Cache<DataRepository> cache, @NonNull URI base, @NonNull Supplier<String> stamp) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.base = base;
+        this.stamp = stamp;
+    }
+
     @lombok.Getter(lazy = true)
     private final TypedId<FileInfo> idOfDecode = initIdOfDecode(base);
 
@@ -94,18 +137,27 @@ public final class CachedFileClient implements FileClient {
 
     @Override
     public @NonNull FileInfo decode() throws IOException {
-        return getIdOfDecode().load(cache, delegate::decode, this::getTtl);
+        String currentStamp = stamp.get();
+        return withStamp(getIdOfDecode(), currentStamp).load(cache, delegate::decode, o -> getTtl(currentStamp));
     }
 
     @Override
     public @NonNull Stream<Series> loadData(@NonNull FileInfo entry, @NonNull DataRef dataRef) throws IOException {
-        return dataRef.getQuery().getDetail().isIgnoreData()
-                ? getIdOfLoadData().load(cache, () -> copyAllNoData(entry, dataRef.getFlowRef()), this::getTtl).getDataStream(dataRef.getQuery())
-                : delegate.loadData(entry, dataRef);
+        if (dataRef.getQuery().getDetail().isIgnoreData()) {
+            String currentStamp = stamp.get();
+            return withStamp(getIdOfLoadData(), currentStamp)
+                    .load(cache, () -> copyAllNoData(entry, dataRef.getFlowRef()), o -> getTtl(currentStamp))
+                    .getDataStream(dataRef.getQuery());
+        }
+        return delegate.loadData(entry, dataRef);
+    }
+
+    private static <T> TypedId<T> withStamp(TypedId<T> id, String stamp) {
+        return stamp.equals(NO_STAMP) ? id : id.with(stamp);
     }
 
-    private Duration getTtl(Object o) {
-        return DEFAULT_CACHE_TTL;
+    private static Duration getTtl(String stamp) {
+        return stamp.equals(NO_STAMP) ? DEFAULT_CACHE_TTL : STAMPED_CACHE_TTL;
     }
 
     private DataSet copyAllNoData(FileInfo entry, FlowRef flowRef) throws IOException {
@@ -28,11 +28,16 @@ import sdmxdl.web.WebSource;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
 import static sdmxdl.DataSet.toDataSet;
 
 /**
@@ -43,8 +48,8 @@ final class CachedRestClient implements RestClient {
 
     static @NonNull RestClient of(
             @NonNull RestClient client, @NonNull Cache<DataRepository> cache, long ttlInMillis,
-            @NonNull WebSource source, @NonNull Languages languages) {
-        return new CachedRestClient(client, cache, getBase(source, languages), Duration.ofMillis(ttlInMillis));
+            @NonNull WebSource source, @NonNull Languages languages, boolean dataCaching, long incrementalTtlInMillis, long conditionalTtlInMillis) {
+        return new CachedRestClient(client, cache, getBase(source, languages), Duration.ofMillis(ttlInMillis), dataCaching, Duration.ofMillis(incrementalTtlInMillis), Duration.ofMillis(conditionalTtlInMillis));
     }
 
     @VisibleForTesting
@@ -64,6 +69,14 @@ final class CachedRestClient implements RestClient {
     @lombok.NonNull
     private final Duration ttl;
 
+    private final boolean dataCaching;
+
+    @lombok.NonNull
+    private final Duration incrementalTtl;
+
+    @lombok.NonNull
+    private final Duration conditionalTtl;
+
     @lombok.Getter(lazy = true)
     private final TypedId<List<Flow>> idOfFlows = initIdOfFlows(base);
 
@@ -76,6 +89,12 @@ final class CachedRestClient implements RestClient {
     @lombok.Getter(lazy = true)
     private final TypedId<DataSet> idOfNoData = initIdOfNoData(base);
 
+    @lombok.Getter(lazy = true)
+    private final TypedId<DataSet> idOfDataOnly = initIdOfDataOnly(base);
+
+    @lombok.Getter(lazy = true)
+    private final TypedId<DataSet> idOfFull = initIdOfFull(base);
+
     private static TypedId<List<Flow>> initIdOfFlows(URI base) {
         return TypedId.of(base,
                 DataRepository::getFlows,
@@ -104,6 +123,20 @@ final class CachedRestClient implements RestClient {
         ).with("noData");
     }
 
+    private static TypedId<DataSet> initIdOfDataOnly(URI base) {
+        return TypedId.of(base,
+                repo -> repo.getDataSets().stream().findFirst().orElse(null),
+                dataSet -> DataRepository.builder().dataSet(dataSet).build()
+        ).with("dataOnly");
+    }
+
+    private static TypedId<DataSet> initIdOfFull(URI base) {
+        return TypedId.of(base,
+                repo -> repo.getDataSets().stream().findFirst().orElse(null),
+                dataSet -> DataRepository.builder().dataSet(dataSet).build()
+        ).with("full");
+    }
+
     @Override
     public @NonNull Marker getMarker() {
         return delegate.getMarker();
@@ -121,12 +154,13 @@ final class CachedRestClient implements RestClient {
 
     @Override
     public @NonNull Stream<Series> getData(@NonNull DataRef ref, @NonNull Structure dsd) throws IOException {
-        if (!ref.getQuery().getDetail().isIgnoreData()) {
+        Detail detail = ref.getQuery().getDetail();
+        if ((!detail.isIgnoreData() && !dataCaching) || ref.getQuery().getUpdatedAfter() != null) {
             return delegate.getData(ref, dsd);
         }
-        DataSet result = ref.getQuery().getDetail().isIgnoreMeta()
-                ? loadSeriesKeysOnlyWithCache(ref, dsd)
-                : loadNoDataWithCache(ref, dsd);
+        DataSet result = detail.isIgnoreData()
+                ? (detail.isIgnoreMeta() ? loadSeriesKeysOnlyWithCache(ref, dsd) : loadNoDataWithCache(ref, dsd))
+                : (detail.isIgnoreMeta() ? loadDataOnlyWithCache(ref, dsd) : loadFullWithCache(ref, dsd));
         return result.getDataStream(ref.getQuery());
     }
 
@@ -147,26 +181,92 @@ final class CachedRestClient implements RestClient {
     }
 
     private List<Flow> loadDataflowsWithCache() throws IOException {
-        return getIdOfFlows().load(cache, delegate::getFlows, this::getTtl);
+        return isConditionalRequest()
+                ? getIdOfFlows().loadConditionally(cache, ((ConditionalRestClient) delegate)::getFlows, ttl, conditionalTtl)
+                : getIdOfFlows().load(cache, delegate::getFlows, this::getTtl);
     }
 
     private Structure loadDataStructureWithCache(StructureRef ref) throws IOException {
         TypedId<Structure> id = getIdOfStruct().with(ref);
-        return id.load(cache, () -> delegate.getStructure(ref), this::getTtl);
+        return isConditionalRequest()
+                ? id.loadConditionally(cache, validators -> ((ConditionalRestClient) delegate).getStructure(ref, validators), ttl, conditionalTtl)
+                : id.load(cache, () -> delegate.getStructure(ref), this::getTtl);
+    }
+
+    private boolean isConditionalRequest() {
+        return conditionalTtl.compareTo(ttl) > 0 && delegate instanceof ConditionalRestClient;
     }
 
     private DataSet loadSeriesKeysOnlyWithCache(DataRef ref, Structure dsd) throws IOException {
         TypedId<DataSet> id = getIdOfSeriesKeysOnly().with(ref.getFlowRef());
-        return id.load(cache, () -> copyData(ref, dsd), this::getTtl, o -> isNarrowerRequest(ref.getQuery().getKey(), o.getQuery()));
+        return id.load(cache, () -> copyData(ref, dsd), this::getTtl, o -> isNarrowerRequest(ref.getQuery(), o.getQuery()));
     }
 
     private DataSet loadNoDataWithCache(DataRef ref, Structure dsd) throws IOException {
         TypedId<DataSet> id = getIdOfNoData().with(ref.getFlowRef());
-        return id.load(cache, () -> copyData(ref, dsd), this::getTtl, o -> isNarrowerRequest(ref.getQuery().getKey(), o.getQuery()));
+        return id.load(cache, () -> copyData(ref, dsd), this::getTtl, o -> isNarrowerRequest(ref.getQuery(), o.getQuery()));
     }
 
-    private boolean isNarrowerRequest(Key key, Query query) {
-        return !key.supersedes(query.getKey()) && query.getKey().contains(key);
+    private DataSet loadDataOnlyWithCache(DataRef ref, Structure dsd) throws IOException {
+        return loadDataWithCache(getIdOfDataOnly().with(ref.getFlowRef()), ref, dsd);
+    }
+
+    private DataSet loadFullWithCache(DataRef ref, Structure dsd) throws IOException {
+        return loadDataWithCache(getIdOfFull().with(ref.getFlowRef()), ref, dsd);
+    }
+
+    private DataSet loadDataWithCache(TypedId<DataSet> id, DataRef ref, Structure dsd) throws IOException {
+        return isIncrementalRefresh()
+                ? id.loadIncrementally(cache, () -> copyData(ref, dsd), (stale, updatedAfter) -> refreshData(stale, updatedAfter, dsd), ttl, incrementalTtl, o -> isNarrowerRequest(ref.getQuery(), o.getQuery()))
+                : id.load(cache, () -> copyData(ref, dsd), this::getTtl, o -> isNarrowerRequest(ref.getQuery(), o.getQuery()));
+    }
+
+    private boolean isIncrementalRefresh() throws IOException {
+        return incrementalTtl.compareTo(ttl) > 0 && delegate.getSupportedFeatures().contains(Feature.DATA_QUERY_UPDATED_AFTER);
+    }
+
+    private DataSet refreshData(DataSet stale, Instant updatedAfter, Structure dsd) throws IOException {
+        DataRef ref = DataRef.of(stale.getRef(), stale.getQuery().toBuilder().updatedAfter(updatedAfter).build());
+        try (Stream<Series> stream = delegate.getData(ref, dsd)) {
+            return mergeByPeriod(stale, stream.collect(toList()));
+        }
+    }
+
+    @VisibleForTesting
+    static DataSet mergeByPeriod(DataSet stale, List<Series> updates) {
+        if (updates.isEmpty()) {
+            return stale;
+        }
+        Map<Key, Series> result = new LinkedHashMap<>();
+        stale.getData().forEach(series -> result.put(series.getKey(), series));
+        updates.forEach(series -> result.merge(series.getKey(), series, CachedRestClient::combineObservationsByPeriod));
+        return stale.toBuilder().clearData().data(result.values()).build();
+    }
+
+    private static Series combineObservationsByPeriod(Series stale, Series update) {
+        Map<TimeInterval, Obs> result = new LinkedHashMap<>();
+        stale.getObs().forEach(obs -> result.put(obs.getPeriod(), obs));
+        update.getObs().forEach(obs -> result.put(obs.getPeriod(), obs));
+        return update.toBuilder().clearObs().obs(result.values()).build();
+    }
+
+    private boolean isNarrowerRequest(Query request, Query cached) {
+        Key key = request.getKey();
+        return !key.supersedes(cached.getKey()) && cached.getKey().contains(key) && isNarrowerObsRange(request, cached);
+    }
+
+    private static boolean isNarrowerObsRange(Query request, Query cached) {
+        if (!cached.isObsRestricted()) {
+            return true;
+        }
+        if (cached.getFirstNObservations() > 0 || cached.getLastNObservations() > 0) {
+            return request.getFirstNObservations() == cached.getFirstNObservations()
+                    && request.getLastNObservations() == cached.getLastNObservations()
+                    && Objects.equals(request.getStartPeriod(), cached.getStartPeriod())
+                    && Objects.equals(request.getEndPeriod(), cached.getEndPeriod());
+        }
+        return (cached.getStartPeriod() == null || (request.getStartPeriod() != null && !request.getStartPeriod().isBefore(cached.getStartPeriod())))
+                && (cached.getEndPeriod() == null || (request.getEndPeriod() != null && !request.getEndPeriod().isAfter(cached.getEndPeriod())));
     }
 
     private DataSet copyData(DataRef ref, Structure structure) throws IOException {
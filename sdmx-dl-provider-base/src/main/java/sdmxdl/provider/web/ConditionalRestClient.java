@@ -0,0 +1,23 @@
+package sdmxdl.provider.web;
+
+import lombok.NonNull;
+import sdmxdl.Flow;
+import sdmxdl.Structure;
+import sdmxdl.StructureRef;
+import sdmxdl.provider.Conditional;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Rest client that is able to revalidate its structural resources with conditional requests.
+ * The validators are opaque and are only meant to be sent back to the same client.
+ */
+public interface ConditionalRestClient extends RestClient {
+
+    @NonNull
+    Conditional<List<Flow>> getFlows(@NonNull String validators) throws IOException;
+
+    @NonNull
+    Conditional<Structure> getStructure(@NonNull StructureRef ref, @NonNull String validators) throws IOException;
+}
@@ -62,6 +62,41 @@ public class DriverProperties {
     public static final LongProperty CACHE_TTL_PROPERTY =
             LongProperty.of(DRIVER_PROPERTY_PREFIX + ".cacheTtl", TimeUnit.HOURS.toMillis(1));
 
+    /**
+     * Defines if data queries with observations (full detail and data only)
+     * are stored in the cache. Narrower queries are then served from a cached
+     * wider query. Default value is false.
+     */
+    @PropertyDefinition
+    public static final BooleanProperty DATA_CACHING_PROPERTY =
+            BooleanProperty.of(DRIVER_PROPERTY_PREFIX + ".dataCaching", false);
+
+    /**
+     * Defines the duration (in milliseconds) during which a cached data query
+     * is kept to be refreshed incrementally once its cache TTL has expired.
+     * Only the observations updated after the previous retrieval (minus a
+     * few minutes to absorb clock skew) are then requested and merged into
+     * the cached data. The whole data is requested again if this fails. This
+     * requires data caching and a source that supports updatedAfter queries.
+     * A duration of zero disables incremental refresh. Default value is zero.
+     */
+    @PropertyDefinition
+    public static final LongProperty INCREMENTAL_TTL_PROPERTY =
+            LongProperty.of(DRIVER_PROPERTY_PREFIX + ".incrementalTtl", 0);
+
+    /**
+     * Defines the duration (in milliseconds) during which cached flows and
+     * structures are kept to be revalidated once their cache TTL has expired.
+     * A conditional request is then sent with the validators (ETag and
+     * Last-Modified) of the cached response and the content is only
+     * downloaded again if it was modified. This requires a driver that
+     * supports conditional requests. A duration of zero disables
+     * revalidation. Default value is zero.
+     */
+    @PropertyDefinition
+    public static final LongProperty CONDITIONAL_TTL_PROPERTY =
+            LongProperty.of(DRIVER_PROPERTY_PREFIX + ".conditionalTtl", 0);
+
     /**
      * Defines the max number of redirects to be followed by HTTP client. This
      * limit is intended to prevent infinite loop. Default value is 5.
@@ -77,6 +112,27 @@ public class DriverProperties {
     public static final BooleanProperty DETAIL_SUPPORTED_PROPERTY =
             BooleanProperty.of(DRIVER_PROPERTY_PREFIX + ".detailSupported", false);
 
+    /**
+     * Defines if time range query (start and end periods) is supported. Default value is false.
+     */
+    @PropertyDefinition
+    public static final BooleanProperty PERIOD_RANGE_SUPPORTED_PROPERTY =
+            BooleanProperty.of(DRIVER_PROPERTY_PREFIX + ".periodRangeSupported", false);
+
+    /**
+     * Defines if observation count query (first and last N observations) is supported. Default value is false.
+     */
+    @PropertyDefinition
+    public static final BooleanProperty OBS_COUNT_SUPPORTED_PROPERTY =
+            BooleanProperty.of(DRIVER_PROPERTY_PREFIX + ".obsCountSupported", false);
+
+    /**
+     * Defines if updated-after query is supported. Default value is false.
+     */
+    @PropertyDefinition
+    public static final BooleanProperty UPDATED_AFTER_SUPPORTED_PROPERTY =
+            BooleanProperty.of(DRIVER_PROPERTY_PREFIX + ".updatedAfterSupported", false);
+
     /**
      * Defines if trailing slash is required in queries. Default value is false.
      */
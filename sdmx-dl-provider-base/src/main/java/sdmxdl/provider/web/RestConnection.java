@@ -23,6 +23,7 @@ import sdmxdl.provider.CommonSdmxExceptions;
 import sdmxdl.provider.ConnectionSupport;
 import sdmxdl.provider.DataRef;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Collection;
@@ -37,9 +38,17 @@ import java.util.stream.Stream;
 @lombok.RequiredArgsConstructor(staticName = "of")
 final class RestConnection implements Connection {
 
+    static @NonNull RestConnection of(@NonNull RestClient client) {
+        return of(client, () -> {
+        });
+    }
+
     @lombok.NonNull
     private final RestClient client;
 
+    @lombok.NonNull
+    private final Closeable lease;
+
     private boolean closed = false;
 
     @Override
@@ -83,7 +92,8 @@ final class RestConnection implements Connection {
 
         Stream<Series> result = client.getData(DataRef.of(meta.getFlow().getRef(), realQuery), meta.getStructure());
 
-        return realQuery.equals(query) ? result : query.execute(result);
+        // NB: observations are always restricted on the client side because some servers silently ignore these parameters
+        return realQuery.equals(query) && !query.isObsRestricted() ? result : query.execute(result);
     }
 
     @Override
@@ -92,10 +102,19 @@ final class RestConnection implements Connection {
     }
 
     private static Query deriveDataQuery(Query query, Set<Feature> features, Structure dsd) {
+        boolean periodRange = features.contains(Feature.DATA_QUERY_PERIOD_RANGE);
+        // obs count must be applied after the time range so it cannot be pushed alone
+        boolean obsCount = features.contains(Feature.DATA_QUERY_OBS_COUNT)
+                && (periodRange || (query.getStartPeriod() == null && query.getEndPeriod() == null));
         return Query
                 .builder()
                 .key(features.contains(Feature.DATA_QUERY_ALL_KEYWORD) || !Key.ALL.equals(query.getKey()) ? query.getKey() : alternateAllOf(dsd))
                 .detail(features.contains(Feature.DATA_QUERY_DETAIL) ? query.getDetail() : Detail.FULL)
+                .startPeriod(periodRange ? query.getStartPeriod() : null)
+                .endPeriod(periodRange ? query.getEndPeriod() : null)
+                .firstNObservations(obsCount ? query.getFirstNObservations() : 0)
+                .lastNObservations(obsCount ? query.getLastNObservations() : 0)
+                .updatedAfter(features.contains(Feature.DATA_QUERY_UPDATED_AFTER) ? query.getUpdatedAfter() : null)
                 .build();
     }
 
@@ -115,8 +134,11 @@ final class RestConnection implements Connection {
     }
 
     @Override
-    public void close() {
-        closed = true;
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            lease.close();
+        }
     }
 
     private void checkState() throws IOException {
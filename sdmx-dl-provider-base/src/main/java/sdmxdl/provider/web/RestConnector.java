@@ -6,9 +6,13 @@ import sdmxdl.Languages;
 import sdmxdl.web.WebSource;
 import sdmxdl.web.spi.WebContext;
 
+import java.io.Closeable;
 import java.io.IOException;
 
 import static sdmxdl.provider.web.DriverProperties.CACHE_TTL_PROPERTY;
+import static sdmxdl.provider.web.DriverProperties.CONDITIONAL_TTL_PROPERTY;
+import static sdmxdl.provider.web.DriverProperties.DATA_CACHING_PROPERTY;
+import static sdmxdl.provider.web.DriverProperties.INCREMENTAL_TTL_PROPERTY;
 
 @lombok.Builder
 public final class RestConnector implements WebConnector {
@@ -22,7 +26,13 @@ public final class RestConnector implements WebConnector {
 
     @Override
     public @NonNull Connection connect(@NonNull WebSource source, @NonNull Languages languages, @NonNull WebContext context) throws IOException {
-        return RestConnection.of(getClient(source, languages, context));
+        Closeable lease = context.leaseClients(source);
+        try {
+            return RestConnection.of(getClient(source, languages, context), lease);
+        } catch (IOException | RuntimeException ex) {
+            lease.close();
+            throw ex;
+        }
     }
 
     private RestClient getClient(WebSource source, Languages languages, WebContext context) throws IOException {
@@ -31,6 +41,9 @@ public final class RestConnector implements WebConnector {
                 context.getDriverCache(source),
                 CACHE_TTL_PROPERTY.get(source.getProperties()),
                 source,
-                languages);
+                languages,
+                DATA_CACHING_PROPERTY.get(source.getProperties()),
+                INCREMENTAL_TTL_PROPERTY.get(source.getProperties()),
+                CONDITIONAL_TTL_PROPERTY.get(source.getProperties()));
     }
 }
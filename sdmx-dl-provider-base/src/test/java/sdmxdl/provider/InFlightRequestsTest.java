@@ -0,0 +1,133 @@
+package sdmxdl.provider;
+
+import nbbrd.io.function.IOSupplier;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InFlightRequestsTest {
+
+    @Test
+    public void testCoalescing() throws Exception {
+        CountDownLatch waiting = new CountDownLatch(1);
+        InFlightRequests<String> x = new WaitingRequests(waiting);
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IOSupplier<Integer> request = () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 42;
+        };
+
+        FutureTask<Integer> first = new FutureTask<>(() -> x.execute("key", request, o -> true));
+        FutureTask<Integer> second = new FutureTask<>(() -> x.execute("key", request, o -> true));
+
+        new Thread(first).start();
+        started.await();
+        new Thread(second).start();
+        waiting.await();
+        release.countDown();
+
+        assertThat(first.get()).isEqualTo(42);
+        assertThat(second.get()).isEqualTo(42);
+        assertThat(calls).hasValue(1);
+        assertThat(x.getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        CountDownLatch waiting = new CountDownLatch(1);
+        InFlightRequests<String> x = new WaitingRequests(waiting);
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IOSupplier<Integer> request = () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            throw new FileNotFoundException("missing");
+        };
+
+        FutureTask<Integer> first = new FutureTask<>(() -> x.execute("key", request, o -> true));
+        FutureTask<Integer> second = new FutureTask<>(() -> x.execute("key", request, o -> true));
+
+        new Thread(first).start();
+        started.await();
+        new Thread(second).start();
+        waiting.await();
+        release.countDown();
+
+        assertThatThrownBy(first::get)
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(FileNotFoundException.class);
+        assertThatThrownBy(second::get)
+                .as("Waiter should get the original exception type")
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(FileNotFoundException.class);
+        assertThat(calls).hasValue(1);
+        assertThat(x.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    public void testRejectedOutcome() throws Exception {
+        CountDownLatch waiting = new CountDownLatch(1);
+        InFlightRequests<String> x = new WaitingRequests(waiting);
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IOSupplier<Integer> request = () -> {
+            int result = calls.getAndIncrement();
+            started.countDown();
+            await(release);
+            return result;
+        };
+
+        FutureTask<Integer> first = new FutureTask<>(() -> x.execute("key", request, o -> true));
+        FutureTask<Integer> second = new FutureTask<>(() -> x.execute("key", request, o -> o > 0));
+
+        new Thread(first).start();
+        started.await();
+        new Thread(second).start();
+        waiting.await();
+        release.countDown();
+
+        assertThat(first.get()).isEqualTo(0);
+        assertThat(second.get()).isEqualTo(1);
+        assertThat(calls).hasValue(2);
+        assertThat(x.getCoalescedCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) throws InterruptedIOException {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            throw new InterruptedIOException();
+        }
+    }
+
+    @lombok.RequiredArgsConstructor
+    private static final class WaitingRequests extends InFlightRequests<String> {
+
+        private final CountDownLatch waiting;
+
+        @Override
+        void onWait(String key) {
+            waiting.countDown();
+        }
+    }
+}
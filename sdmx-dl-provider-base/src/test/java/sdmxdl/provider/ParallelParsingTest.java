@@ -0,0 +1,79 @@
+package sdmxdl.provider;
+
+import org.junit.jupiter.api.Test;
+import sdmxdl.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.*;
+
+public class ParallelParsingTest {
+
+    @Test
+    public void testParseAll() throws IOException {
+        List<Integer> sources = IntStream.range(0, 20).boxed().collect(toList());
+
+        for (int parallelism : new int[]{0, 1, 4, 100}) {
+            assertThat(ParallelParsing.parseAll(sources, i -> Stream.of(seriesOf(Integer.toString(i), obsOf(1, i))), parallelism))
+                    .describedAs("Results must follow the order of the sources")
+                    .extracting(list -> list.get(0).getKey())
+                    .containsExactlyElementsOf(sources.stream().map(i -> Key.of(Integer.toString(i))).collect(toList()));
+        }
+
+        assertThat(ParallelParsing.parseAll(emptyList(), i -> Stream.empty(), 4)).isEmpty();
+
+        assertThatIOException()
+                .isThrownBy(() -> ParallelParsing.parseAll(sources, i -> {
+                    if (i == 10) throw new IOException("boom");
+                    return Stream.empty();
+                }, 4))
+                .withMessage("boom");
+
+        assertThatIOException()
+                .isThrownBy(() -> ParallelParsing.parseAll(sources, i -> Stream.<Series>empty().onClose(() -> {
+                    if (i == 3) throw new UncheckedIOException(new IOException("closing"));
+                }), 4))
+                .withMessage("closing");
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> ParallelParsing.parseAll(sources, i -> {
+                    throw new IllegalStateException("runtime");
+                }, 4));
+    }
+
+    @Test
+    public void testMergeRevisions() {
+        List<Series> first = Arrays.asList(seriesOf("A", obsOf(1, 1), obsOf(2, 2)), seriesOf("B", obsOf(1, 10)));
+        List<Series> second = Arrays.asList(seriesOf("C", obsOf(1, 100)), seriesOf("A", obsOf(2, 20), obsOf(3, 30)));
+
+        assertThat(ParallelParsing.mergeRevisions(Arrays.asList(first, second)))
+                .containsExactly(
+                        seriesOf("A", obsOf(1, 1), obsOf(2, 20), obsOf(3, 30)),
+                        seriesOf("B", obsOf(1, 10)),
+                        seriesOf("C", obsOf(1, 100))
+                );
+
+        assertThat(ParallelParsing.mergeRevisions(singletonList(first)))
+                .containsExactlyElementsOf(first);
+
+        assertThat(ParallelParsing.mergeRevisions(emptyList()))
+                .isEmpty();
+    }
+
+    private static Series seriesOf(String key, Obs... obs) {
+        return Series.builder().key(Key.of(key)).obs(Arrays.asList(obs)).build();
+    }
+
+    private static Obs obsOf(int month, double value) {
+        return Obs.builder().period(TimeInterval.of(LocalDateTime.of(2010, month, 1, 0, 0), Duration.P1M)).value(value).build();
+    }
+}
@@ -8,8 +8,11 @@ import sdmxdl.format.MemCache;
 import tests.sdmxdl.ext.FakeClock;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,4 +51,37 @@ public class TypedIdTest {
         assertThat(id.load(cache, factory, data -> Duration.ofMillis(10)))
                 .isEqualTo(1);
     }
+
+    @Test
+    public void testSingleFlightByCache() throws Exception {
+        TypedId<Integer> id = TypedId.of(
+                URI.create("cache://singleFlightByCache"),
+                repo -> Integer.parseInt(repo.getName()),
+                data -> DataRepository.builder().name(Integer.toString(data)).build()
+        );
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IOSupplier<Integer> blockingFactory = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                throw new InterruptedIOException();
+            }
+            return 1;
+        };
+
+        FutureTask<Integer> first = new FutureTask<>(() -> id.load(MemCache.<DataRepository>builder().build(), blockingFactory, data -> Duration.ofMillis(10)));
+        new Thread(first).start();
+        started.await();
+        try {
+            assertThat(id.load(MemCache.<DataRepository>builder().build(), () -> 2, data -> Duration.ofMillis(10)))
+                    .as("Other cache should not wait for the in-flight request")
+                    .isEqualTo(2);
+        } finally {
+            release.countDown();
+        }
+        assertThat(first.get()).isEqualTo(1);
+    }
 }
@@ -17,6 +17,8 @@ import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static _test.sdmxdl.util.CachingAssert.*;
@@ -49,6 +51,26 @@ public class CachedFileClientTest {
         checkCacheHit(this::getClient, x, new HamcrestCondition<>(equalTo(XRepoFileClient.infoOf(REPO))), decodeKey, ttl);
     }
 
+    @Test
+    public void testDecodeWithStamp() throws IOException {
+        AtomicReference<String> stamp = new AtomicReference<>("123-456");
+        Function<CachingAssert.Context, CachedFileClient> factory = ctx -> new CachedFileClient(new XCountingFileClient(new XRepoFileClient(REPO), ctx.getCount()), ctx.newCache(), base, stamp::get);
+        Method<FileInfo> x = CachedFileClient::decode;
+
+        checkCacheHit(factory, x, new HamcrestCondition<>(equalTo(XRepoFileClient.infoOf(REPO))), base + "/decode/123-456", CachedFileClient.STAMPED_CACHE_TTL);
+
+        Context ctx = new Context();
+        CachedFileClient client = factory.apply(ctx);
+        client.decode();
+        client.decode();
+        assertThat(ctx.getCount()).hasValue(1);
+
+        stamp.set("789-456");
+        client.decode();
+        assertThat(ctx.getCount()).hasValue(2);
+        assertThat(ctx.getMap()).containsKeys(base + "/decode/123-456", base + "/decode/789-456");
+    }
+
     @Test
     public void testLoadData() throws IOException {
         String loadDataKey = base + "/loadData";
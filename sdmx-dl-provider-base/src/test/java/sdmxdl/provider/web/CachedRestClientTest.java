@@ -24,6 +24,7 @@ import nbbrd.io.function.IOFunction;
 import org.assertj.core.api.HamcrestCondition;
 import org.junit.jupiter.api.Test;
 import sdmxdl.*;
+import sdmxdl.provider.Conditional;
 import sdmxdl.provider.DataRef;
 import sdmxdl.provider.TypedId;
 import sdmxdl.web.WebSource;
@@ -32,11 +33,16 @@ import tests.sdmxdl.api.RepoSamples;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static _test.sdmxdl.util.CachingAssert.*;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -59,11 +65,37 @@ public class CachedRestClientTest {
     private final String structId = TypedId.resolveURI(base, "struct", STRUCT_REF.toString()).toString();
     private final String seriesKeysOnlyId = TypedId.resolveURI(base, "seriesKeysOnly", FLOW_REF.toString()).toString();
     private final String noDataId = TypedId.resolveURI(base, "noData", FLOW_REF.toString()).toString();
+    private final String dataOnlyId = TypedId.resolveURI(base, "dataOnly", FLOW_REF.toString()).toString();
+    private final String fullId = TypedId.resolveURI(base, "full", FLOW_REF.toString()).toString();
 
     private CachedRestClient getClient(CachingAssert.Context ctx) {
         RestClient original = XRepoRestClient.of(RepoSamples.REPO);
         RestClient counting = XCountingRestClient.of(original, ctx.getCount());
-        return new CachedRestClient(counting, ctx.newCache(), base, ttl);
+        return new CachedRestClient(counting, ctx.newCache(), base, ttl, false, Duration.ZERO, Duration.ZERO);
+    }
+
+    private CachedRestClient getDataCachingClient(CachingAssert.Context ctx) {
+        RestClient original = XRepoRestClient.of(RepoSamples.REPO);
+        RestClient counting = XCountingRestClient.of(original, ctx.getCount());
+        return new CachedRestClient(counting, ctx.newCache(), base, ttl, true, Duration.ZERO, Duration.ZERO);
+    }
+
+    private CachedRestClient getIncrementalClient(CachingAssert.Context ctx) {
+        RestClient original = XRepoRestClient.of(RepoSamples.REPO);
+        RestClient counting = XCountingRestClient.of(original, ctx.getCount());
+        return new CachedRestClient(counting, ctx.newCache(), base, ttl, true, ttl.multipliedBy(10), Duration.ZERO);
+    }
+
+    private CachedRestClient getRejectingIncrementalClient(CachingAssert.Context ctx, List<Instant> updatedAfters) {
+        RestClient original = new XUpdatedAfterRejectingRestClient(XRepoRestClient.of(RepoSamples.REPO), updatedAfters);
+        RestClient counting = XCountingRestClient.of(original, ctx.getCount());
+        return new CachedRestClient(counting, ctx.newCache(), base, ttl, true, ttl.multipliedBy(10), Duration.ZERO);
+    }
+
+    private CachedRestClient getConditionalClient(CachingAssert.Context ctx, AtomicInteger notModifiedCount) {
+        RestClient original = XRepoRestClient.of(RepoSamples.REPO);
+        RestClient counting = XCountingRestClient.of(original, ctx.getCount());
+        return new CachedRestClient(new XConditionalRestClient(counting, notModifiedCount), ctx.newCache(), base, ttl, false, Duration.ZERO, ttl.multipliedBy(10));
     }
 
     @FunctionalInterface
@@ -112,12 +144,47 @@ public class CachedRestClientTest {
         }
     }
 
+    @Test
+    public void testGetDataWithDataCaching() throws IOException {
+        for (Key key : keys("all", "M.BE.INDUSTRY", ".BE.INDUSTRY", "A.BE.INDUSTRY")) {
+            for (Detail filter : Detail.values()) {
+                DataRef ref = DataRef.of(FLOW_REF, Query.builder().key(key).detail(filter).build());
+
+                Method<Collection<Series>> x = client -> {
+                    try (Stream<Series> cursor = client.getData(ref, STRUCT)) {
+                        return cursor.collect(toList());
+                    }
+                };
+
+                HamcrestCondition<Collection<Series>> validator = new HamcrestCondition<>(equalTo(DATA_SET.getDataStream(ref.getQuery()).collect(toList())));
+
+                switch (filter) {
+                    case SERIES_KEYS_ONLY:
+                        checkCacheHit(this::getDataCachingClient, x, validator, seriesKeysOnlyId, ttl);
+                        break;
+                    case NO_DATA:
+                        checkCacheHit(this::getDataCachingClient, x, validator, noDataId, ttl);
+                        break;
+                    case DATA_ONLY:
+                        checkCacheHit(this::getDataCachingClient, x, validator, dataOnlyId, ttl);
+                        break;
+                    case FULL:
+                        checkCacheHit(this::getDataCachingClient, x, validator, fullId, ttl);
+                        break;
+                }
+            }
+        }
+    }
+
     @Test
     public void testNarrowerRequest() throws IOException {
         Context ctx = new Context();
-        CachedRestClient client = getClient(ctx);
+        checkNarrowerRequest(ctx, getClient(ctx), Detail.SERIES_KEYS_ONLY, Detail.NO_DATA);
+        checkNarrowerRequest(ctx, getDataCachingClient(ctx), Detail.values());
+    }
 
-        for (Detail filter : new Detail[]{Detail.SERIES_KEYS_ONLY, Detail.NO_DATA}) {
+    private static void checkNarrowerRequest(Context ctx, CachedRestClient client, Detail... filters) throws IOException {
+        for (Detail filter : filters) {
             IOConsumer<Key> method = key -> client.getData(DataRef.of(FLOW_REF, Query.builder().key(key).detail(filter).build()), STRUCT).close();
 
             ctx.reset();
@@ -162,6 +229,142 @@ public class CachedRestClientTest {
         }
     }
 
+    @Test
+    public void testGetDataWithIncrementalRefresh() throws IOException {
+        Context ctx = new Context();
+        CachedRestClient client = getIncrementalClient(ctx);
+        DataRef ref = DataRef.of(FLOW_REF, Query.ALL);
+        List<Series> expected = DATA_SET.getDataStream(ref.getQuery()).collect(toList());
+        Method<Collection<Series>> x = target -> {
+            try (Stream<Series> cursor = target.getData(ref, STRUCT)) {
+                return cursor.collect(toList());
+            }
+        };
+
+        ctx.reset();
+        assertThat(x.applyWithIO(client)).isEqualTo(expected);
+        assertThat(ctx.getCount()).hasValue(1);
+        DataRepository first = ctx.getMap().get(fullId);
+        assertThat(first.getCreationTime()).isEqualTo(ctx.getClock().instant());
+
+        // fresh content
+        ctx.getClock().plus(ttl.toMillis());
+        assertThat(x.applyWithIO(client)).isEqualTo(expected);
+        assertThat(ctx.getCount()).hasValue(1);
+
+        // stale content
+        long incremental = TypedId.getIncrementalRequestCount();
+        ctx.getClock().plus(1);
+        assertThat(x.applyWithIO(client)).isEqualTo(expected);
+        assertThat(ctx.getCount()).hasValue(2);
+        assertThat(TypedId.getIncrementalRequestCount()).isEqualTo(incremental + 1);
+        assertThat(ctx.getMap().get(fullId).getCreationTime()).isAfter(first.getCreationTime());
+
+        // retention expired
+        ctx.getClock().plus(ttl.multipliedBy(10).toMillis());
+        assertThat(x.applyWithIO(client)).isEqualTo(expected);
+        assertThat(ctx.getCount()).hasValue(3);
+        assertThat(TypedId.getIncrementalRequestCount()).isEqualTo(incremental + 1);
+    }
+
+    @Test
+    public void testGetDataWithRejectedIncrementalRefresh() throws IOException {
+        Context ctx = new Context();
+        List<Instant> updatedAfters = new ArrayList<>();
+        CachedRestClient client = getRejectingIncrementalClient(ctx, updatedAfters);
+        DataRef ref = DataRef.of(FLOW_REF, Query.ALL);
+        List<Series> expected = DATA_SET.getDataStream(ref.getQuery()).collect(toList());
+        Method<Collection<Series>> x = target -> {
+            try (Stream<Series> cursor = target.getData(ref, STRUCT)) {
+                return cursor.collect(toList());
+            }
+        };
+
+        ctx.reset();
+        assertThat(x.applyWithIO(client)).isEqualTo(expected);
+        assertThat(ctx.getCount()).hasValue(1);
+        DataRepository first = ctx.getMap().get(fullId);
+
+        // stale content
+        long incremental = TypedId.getIncrementalRequestCount();
+        ctx.getClock().plus(ttl.toMillis() + 1);
+        assertThat(x.applyWithIO(client)).isEqualTo(expected);
+        assertThat(ctx.getCount()).hasValue(3);
+        assertThat(TypedId.getIncrementalRequestCount()).isEqualTo(incremental);
+        assertThat(updatedAfters)
+                .singleElement()
+                .satisfies(updatedAfter -> assertThat(updatedAfter).isBefore(first.getCreationTime()));
+        assertThat(ctx.getMap().get(fullId).getCreationTime()).isAfter(first.getCreationTime());
+    }
+
+    @Test
+    public void testGetFlowsWithConditionalRequest() throws IOException {
+        Context ctx = new Context();
+        AtomicInteger notModifiedCount = new AtomicInteger();
+        CachedRestClient client = getConditionalClient(ctx, notModifiedCount);
+
+        ctx.reset();
+        assertThat(client.getFlows()).contains(FLOW);
+        assertThat(ctx.getCount()).hasValue(1);
+        DataRepository first = ctx.getMap().get(flowsId);
+
+        // fresh content
+        ctx.getClock().plus(ttl.toMillis());
+        assertThat(client.getFlows()).contains(FLOW);
+        assertThat(ctx.getCount()).hasValue(1);
+        assertThat(notModifiedCount).hasValue(0);
+
+        // stale content
+        long notModified = TypedId.getNotModifiedRequestCount();
+        ctx.getClock().plus(1);
+        assertThat(client.getFlows()).contains(FLOW);
+        assertThat(ctx.getCount()).hasValue(1);
+        assertThat(notModifiedCount).hasValue(1);
+        assertThat(TypedId.getNotModifiedRequestCount()).isEqualTo(notModified + 1);
+        assertThat(ctx.getMap().get(flowsId).getCreationTime()).isAfter(first.getCreationTime());
+
+        // retention expired
+        ctx.getClock().plus(ttl.multipliedBy(10).toMillis());
+        assertThat(client.getFlows()).contains(FLOW);
+        assertThat(ctx.getCount()).hasValue(2);
+        assertThat(notModifiedCount).hasValue(1);
+    }
+
+    @Test
+    public void testGetStructureWithConditionalRequest() throws IOException {
+        Context ctx = new Context();
+        AtomicInteger notModifiedCount = new AtomicInteger();
+        CachedRestClient client = getConditionalClient(ctx, notModifiedCount);
+
+        ctx.reset();
+        assertThat(client.getStructure(STRUCT_REF)).isEqualTo(STRUCT);
+        assertThat(ctx.getCount()).hasValue(1);
+
+        ctx.getClock().plus(ttl.toMillis() + 1);
+        assertThat(client.getStructure(STRUCT_REF)).isEqualTo(STRUCT);
+        assertThat(ctx.getCount()).hasValue(1);
+        assertThat(notModifiedCount).hasValue(1);
+    }
+
+    @Test
+    public void testMergeByPeriod() {
+        Obs jan = Obs.builder().period(TimeInterval.parse("2010-01-01T00:00:00/P1M")).value(1).build();
+        Obs feb = Obs.builder().period(TimeInterval.parse("2010-02-01T00:00:00/P1M")).value(2).build();
+        Obs revisedFeb = feb.toBuilder().value(3).build();
+        Obs mar = Obs.builder().period(TimeInterval.parse("2010-03-01T00:00:00/P1M")).value(4).build();
+        Series s1 = Series.builder().key(Key.parse("M.BE")).obs(jan).obs(feb).build();
+        Series s2 = Series.builder().key(Key.parse("M.FR")).obs(jan).build();
+        Series s3 = Series.builder().key(Key.parse("M.DE")).obs(mar).build();
+        DataSet stale = DataSet.builder().ref(FLOW_REF).series(s1).series(s2).build();
+
+        assertThat(CachedRestClient.mergeByPeriod(stale, emptyList()))
+                .isSameAs(stale);
+
+        DataSet merged = CachedRestClient.mergeByPeriod(stale, asList(Series.builder().key(Key.parse("M.BE")).obs(revisedFeb).obs(mar).build(), s3));
+        assertThat(merged.getQuery()).isEqualTo(stale.getQuery());
+        assertThat(merged.getData()).containsExactly(Series.builder().key(Key.parse("M.BE")).obs(jan).obs(revisedFeb).obs(mar).build(), s2, s3);
+    }
+
     @Test
     public void testGetBase() {
         WebSource s1 = WebSource
@@ -182,4 +385,54 @@ public class CachedRestClientTest {
                 .isNotEqualTo(getBase(s1.toBuilder().property("k", "v").build(), ANY))
         ;
     }
+
+    @lombok.RequiredArgsConstructor
+    private static final class XUpdatedAfterRejectingRestClient implements RestClient {
+
+        @lombok.experimental.Delegate(excludes = DataClient.class)
+        private final RestClient delegate;
+
+        private final List<Instant> updatedAfters;
+
+        @Override
+        public Stream<Series> getData(DataRef ref, Structure dsd) throws IOException {
+            if (ref.getQuery().getUpdatedAfter() != null) {
+                updatedAfters.add(ref.getQuery().getUpdatedAfter());
+                throw new IOException("updatedAfter not supported");
+            }
+            return delegate.getData(ref, dsd);
+        }
+    }
+
+    private interface DataClient {
+
+        Stream<Series> getData(DataRef ref, Structure dsd) throws IOException;
+    }
+
+    @lombok.RequiredArgsConstructor
+    private static final class XConditionalRestClient implements ConditionalRestClient {
+
+        @lombok.experimental.Delegate
+        private final RestClient delegate;
+
+        private final AtomicInteger notModifiedCount;
+
+        @Override
+        public Conditional<List<Flow>> getFlows(String validators) throws IOException {
+            if (validators.equals("v1")) {
+                notModifiedCount.incrementAndGet();
+                return Conditional.notModified();
+            }
+            return Conditional.of(delegate.getFlows(), "v1");
+        }
+
+        @Override
+        public Conditional<Structure> getStructure(StructureRef ref, String validators) throws IOException {
+            if (validators.equals("v1")) {
+                notModifiedCount.incrementAndGet();
+                return Conditional.notModified();
+            }
+            return Conditional.of(delegate.getStructure(ref), "v1");
+        }
+    }
 }
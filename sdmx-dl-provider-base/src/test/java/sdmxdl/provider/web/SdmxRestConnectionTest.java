@@ -17,11 +17,20 @@
 package sdmxdl.provider.web;
 
 import _test.sdmxdl.util.XRepoRestClient;
+import lombok.NonNull;
 import org.junit.jupiter.api.Test;
-import sdmxdl.DataRepository;
+import sdmxdl.*;
+import sdmxdl.provider.DataRef;
 import tests.sdmxdl.api.ConnectionAssert;
 import tests.sdmxdl.api.RepoSamples;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sdmxdl.DatabaseRef.NO_DATABASE;
+
 /**
  * @author Philippe Charles
  */
@@ -41,4 +50,31 @@ public class SdmxRestConnectionTest {
                         .build()
         );
     }
+
+    @Test
+    public void testObsRestrictionIgnoredByServer() throws IOException {
+        Query query = Query.builder().key(RepoSamples.K1).startPeriod(LocalDateTime.of(2010, 2, 1, 0, 0)).build();
+        try (Connection conn = RestConnection.of(new IgnoringQueryClient(XRepoRestClient.of(RepoSamples.REPO)))) {
+            assertThat(conn.getDataStream(NO_DATABASE, RepoSamples.FLOW_REF, query))
+                    .singleElement()
+                    .satisfies(series -> assertThat(series.getObs()).containsExactly(RepoSamples.OBS2));
+        }
+    }
+
+    @lombok.AllArgsConstructor
+    private static final class IgnoringQueryClient implements RestClient {
+
+        @lombok.experimental.Delegate(excludes = DataClient.class)
+        private final RestClient delegate;
+
+        @Override
+        public @NonNull Stream<Series> getData(@NonNull DataRef ref, @NonNull Structure dsd) throws IOException {
+            return delegate.getData(DataRef.of(ref.getFlowRef(), Query.ALL), dsd);
+        }
+    }
+
+    private interface DataClient {
+
+        Stream<Series> getData(DataRef ref, Structure dsd) throws IOException;
+    }
 }
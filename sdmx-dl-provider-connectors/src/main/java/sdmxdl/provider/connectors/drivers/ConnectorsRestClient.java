@@ -44,6 +44,10 @@ import sdmxdl.web.spi.WebContext;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -81,7 +85,7 @@ public final class ConnectorsRestClient implements RestClient {
                 RestSdmxClient client = supplier.get();
                 client.setEndpoint(source.getEndpoint());
                 configure(client, source, context);
-                return new ConnectorsRestClient(HasMarker.of(source), client, obsFactory);
+                return new ConnectorsRestClient(HasMarker.of(source), client, obsFactory, getOptionalFeatures(source));
             } catch (URISyntaxException ex) {
                 throw new RuntimeException(ex);
             }
@@ -96,7 +100,7 @@ public final class ConnectorsRestClient implements RestClient {
         return (source, languages, context) -> {
             RestSdmxClient client = supplier.get(source.getEndpoint(), source.getProperties());
             configure(client, source, context);
-            return new ConnectorsRestClient(HasMarker.of(source), client, obsFactory);
+            return new ConnectorsRestClient(HasMarker.of(source), client, obsFactory, getOptionalFeatures(source));
         };
     }
 
@@ -109,6 +113,9 @@ public final class ConnectorsRestClient implements RestClient {
     @lombok.NonNull
     private final Supplier<ObsParser> dataFactory;
 
+    @lombok.NonNull
+    private final Set<Feature> optionalFeatures;
+
     @Override
     public @NonNull Marker getMarker() {
         return marker;
@@ -165,10 +172,12 @@ public final class ConnectorsRestClient implements RestClient {
 
     @Override
     public @NonNull Set<Feature> getSupportedFeatures() {
-        return connector instanceof HasDetailSupported
+        Set<Feature> result = connector instanceof HasDetailSupported
                 && ((HasDetailSupported) connector).isDetailSupported()
                 ? EnumSet.of(Feature.DATA_QUERY_ALL_KEYWORD, Feature.DATA_QUERY_DETAIL)
                 : EnumSet.of(Feature.DATA_QUERY_ALL_KEYWORD);
+        result.addAll(optionalFeatures);
+        return result;
     }
 
     @NonNull
@@ -185,16 +194,44 @@ public final class ConnectorsRestClient implements RestClient {
     public static final List<String> CONNECTORS_CONNECTION_PROPERTIES = BaseProperty.keysOf(
             CONNECT_TIMEOUT_PROPERTY,
             READ_TIMEOUT_PROPERTY,
-            MAX_REDIRECTS_PROPERTY
+            MAX_REDIRECTS_PROPERTY,
+            DATA_CACHING_PROPERTY,
+            INCREMENTAL_TTL_PROPERTY,
+            PERIOD_RANGE_SUPPORTED_PROPERTY,
+            UPDATED_AFTER_SUPPORTED_PROPERTY
     );
 
+    private static Set<Feature> getOptionalFeatures(WebSource source) {
+        Set<Feature> result = EnumSet.noneOf(Feature.class);
+        if (PERIOD_RANGE_SUPPORTED_PROPERTY.get(source.getProperties())) {
+            result.add(Feature.DATA_QUERY_PERIOD_RANGE);
+        }
+        if (UPDATED_AFTER_SUPPORTED_PROPERTY.get(source.getProperties())) {
+            result.add(Feature.DATA_QUERY_UPDATED_AFTER);
+        }
+        return result;
+    }
+
     private static List<PortableTimeSeries<Double>> getData(RestSdmxClient connector, DataRef ref, Structure dsd) throws SdmxException {
         return connector.getTimeSeries(
                 Connectors.fromFlowQuery(ref.getFlowRef(), dsd.getRef()),
                 Connectors.fromStructure(dsd), ref.getQuery().getKey().toString(),
-                null, null,
+                formatPeriod(ref.getQuery().getStartPeriod()), formatPeriod(ref.getQuery().getEndPeriod()),
                 ref.getQuery().getDetail().equals(Detail.SERIES_KEYS_ONLY),
-                null, false);
+                formatInstant(ref.getQuery().getUpdatedAfter()), false);
+    }
+
+    private static @Nullable String formatPeriod(@Nullable LocalDateTime period) {
+        if (period == null) {
+            return null;
+        }
+        return period.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? period.toLocalDate().toString()
+                : period.toString();
+    }
+
+    private static @Nullable String formatInstant(@Nullable Instant instant) {
+        return instant != null ? instant.truncatedTo(ChronoUnit.SECONDS).toString() : null;
     }
 
     private static IOException wrap(SdmxException ex, String format, Object... args) {
@@ -39,6 +39,7 @@ import java.util.Set;
 import static sdmxdl.Confidentiality.PUBLIC;
 import static sdmxdl.provider.SdmxFix.Category.QUERY;
 import static sdmxdl.provider.ri.drivers.RiHttpUtils.RI_CONNECTION_PROPERTIES;
+import static sdmxdl.provider.web.DriverProperties.PERIOD_RANGE_SUPPORTED_PROPERTY;
 
 /**
  * @author Philippe Charles
@@ -56,6 +57,7 @@ public final class BbkDialectDriver implements Driver {
             .rank(NATIVE_DRIVER_RANK)
             .connector(RestConnector.of(BbkDialectDriver::newClient))
             .properties(RI_CONNECTION_PROPERTIES)
+            .propertyOf(PERIOD_RANGE_SUPPORTED_PROPERTY)
             .source(WebSource
                     .builder()
                     .id("BBK")
@@ -80,13 +82,21 @@ public final class BbkDialectDriver implements Driver {
                 BbkQueries.INSTANCE,
                 Sdmx21RestParsers.DEFAULT,
                 Sdmx21RestErrors.DEFAULT,
-                BBK_FEATURES
+                getSupportedFeatures(s)
         );
     }
 
     @SdmxFix(id = 6, category = QUERY, cause = "Data key parameter does not support 'all' keyword")
     private static final Set<Feature> BBK_FEATURES = EnumSet.of(Feature.DATA_QUERY_DETAIL);
 
+    private static Set<Feature> getSupportedFeatures(WebSource s) {
+        Set<Feature> result = EnumSet.copyOf(BBK_FEATURES);
+        if (PERIOD_RANGE_SUPPORTED_PROPERTY.get(s.getProperties())) {
+            result.add(Feature.DATA_QUERY_PERIOD_RANGE);
+        }
+        return result;
+    }
+
     @VisibleForTesting
     static final class BbkQueries extends Sdmx21RestQueries {
 
@@ -63,6 +63,7 @@ import static sdmxdl.provider.SdmxFix.Category.PROTOCOL;
 import static sdmxdl.provider.SdmxFix.Category.QUERY;
 import static sdmxdl.provider.ri.drivers.RiHttpUtils.RI_CONNECTION_PROPERTIES;
 import static sdmxdl.provider.ri.drivers.Sdmx21RestParsers.withCharset;
+import static sdmxdl.provider.web.DriverProperties.PERIOD_RANGE_SUPPORTED_PROPERTY;
 
 /**
  * @author Philippe Charles
@@ -88,6 +89,7 @@ public final class EstatDialectDriver implements Driver {
             .rank(NATIVE_DRIVER_RANK)
             .connector(RestConnector.of(EstatDialectDriver::newClient))
             .properties(RI_CONNECTION_PROPERTIES)
+            .propertyOf(PERIOD_RANGE_SUPPORTED_PROPERTY)
             .propertyOf(ASYNC_MAX_RETRIES_PROPERTY)
             .propertyOf(ASYNC_SLEEP_TIME_PROPERTY)
             .source(WebSource
@@ -160,18 +162,26 @@ public final class EstatDialectDriver implements Driver {
                 Sdmx21RestQueries.DEFAULT,
                 Sdmx21RestParsers.DEFAULT,
                 Sdmx21RestErrors.DEFAULT,
-                ESTAT_FEATURES
+                getSupportedFeatures(s)
         );
     }
 
     @SdmxFix(id = 4, category = QUERY, cause = "Data key parameter does not support 'all' keyword")
     private static final Set<Feature> ESTAT_FEATURES = EnumSet.of(Feature.DATA_QUERY_DETAIL);
 
+    private static Set<Feature> getSupportedFeatures(WebSource s) {
+        Set<Feature> result = EnumSet.copyOf(ESTAT_FEATURES);
+        if (PERIOD_RANGE_SUPPORTED_PROPERTY.get(s.getProperties())) {
+            result.add(Feature.DATA_QUERY_PERIOD_RANGE);
+        }
+        return result;
+    }
+
     private static HttpClient getHttpClient(WebSource s, WebContext c) {
         int asyncMaxRetries = ASYNC_MAX_RETRIES_PROPERTY.get(s.getProperties());
         long asyncSleepTime = ASYNC_SLEEP_TIME_PROPERTY.get(s.getProperties());
         return new InterceptingClient(
-                RiHttpUtils.newClient(s, RiHttpUtils.newContext(s, c)),
+                RiHttpUtils.newClient(s, c),
                 (client, request, response) -> checkCodesInMessageFooter(client, response, asyncSleepTime, asyncMaxRetries)
         );
     }
@@ -34,6 +34,7 @@ import sdmxdl.format.time.ObservationalTimePeriod;
 import sdmxdl.format.time.StandardReportingFormat;
 import sdmxdl.format.time.TimeFormats;
 import sdmxdl.format.xml.XmlMediaTypes;
+import sdmxdl.provider.Conditional;
 import sdmxdl.provider.HasMarker;
 import sdmxdl.provider.SdmxFix;
 import sdmxdl.provider.ri.drivers.*;
@@ -47,12 +48,16 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.EnumSet;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import static sdmxdl.Confidentiality.PUBLIC;
 import static sdmxdl.format.time.TimeFormats.IGNORE_ERROR;
 import static sdmxdl.provider.SdmxFix.Category.*;
 import static sdmxdl.provider.ri.drivers.RiHttpUtils.RI_CONNECTION_PROPERTIES;
+import static sdmxdl.provider.web.DriverProperties.OBS_COUNT_SUPPORTED_PROPERTY;
+import static sdmxdl.provider.web.DriverProperties.PERIOD_RANGE_SUPPORTED_PROPERTY;
+import static sdmxdl.provider.web.DriverProperties.UPDATED_AFTER_SUPPORTED_PROPERTY;
 
 /**
  * @author Philippe Charles
@@ -71,6 +76,9 @@ public final class InseeDialectDriver implements Driver {
             .connector(RestConnector.of(InseeRestClient::new))
             .properties(RI_CONNECTION_PROPERTIES)
             .propertyOf(NO_COMMA_ENCODING_PROPERTY)
+            .propertyOf(PERIOD_RANGE_SUPPORTED_PROPERTY)
+            .propertyOf(OBS_COUNT_SUPPORTED_PROPERTY)
+            .propertyOf(UPDATED_AFTER_SUPPORTED_PROPERTY)
             .source(WebSource
                     .builder()
                     .id("INSEE")
@@ -124,13 +132,35 @@ public final class InseeDialectDriver implements Driver {
                             : InseeRestQueries.DEFAULT,
                     InseeRestParsers.INSTANCE,
                     Sdmx21RestErrors.DEFAULT,
-                    EnumSet.of(Feature.DATA_QUERY_ALL_KEYWORD, Feature.DATA_QUERY_DETAIL)
+                    getSupportedFeatures(s)
             );
         }
 
+        private static Set<Feature> getSupportedFeatures(WebSource s) {
+            Set<Feature> result = EnumSet.of(Feature.DATA_QUERY_ALL_KEYWORD, Feature.DATA_QUERY_DETAIL);
+            if (PERIOD_RANGE_SUPPORTED_PROPERTY.get(s.getProperties())) {
+                result.add(Feature.DATA_QUERY_PERIOD_RANGE);
+            }
+            if (OBS_COUNT_SUPPORTED_PROPERTY.get(s.getProperties())) {
+                result.add(Feature.DATA_QUERY_OBS_COUNT);
+            }
+            if (UPDATED_AFTER_SUPPORTED_PROPERTY.get(s.getProperties())) {
+                result.add(Feature.DATA_QUERY_UPDATED_AFTER);
+            }
+            return result;
+        }
+
         @Override
         public @NonNull Structure getStructure(@NonNull StructureRef ref) throws IOException {
-            Structure dsd = super.getStructure(ref);
+            return fixStructure(super.getStructure(ref));
+        }
+
+        @Override
+        public @NonNull Conditional<Structure> getStructure(@NonNull StructureRef ref, @NonNull String validators) throws IOException {
+            return super.getStructure(ref, validators).map(this::fixStructure);
+        }
+
+        private Structure fixStructure(Structure dsd) throws IOException {
             Structure.Builder result = dsd.toBuilder().clearDimensions();
             for (Dimension dimension : dsd.getDimensions()) {
                 result.dimension(fixDimensionCodes(fixDimensionId(dimension), super::getCodelist));
@@ -45,7 +45,6 @@ import java.util.zip.ZipFile;
 import static java.util.Arrays.asList;
 import static java.util.function.Function.identity;
 import static java.util.regex.Pattern.compile;
-import static java.util.stream.Collectors.toMap;
 import static sdmxdl.Confidentiality.PUBLIC;
 import static sdmxdl.DataSet.toDataSet;
 import static sdmxdl.provider.ri.drivers.RiHttpUtils.RI_CONNECTION_PROPERTIES;
@@ -83,20 +82,26 @@ public final class StatCanDialectDriver implements Driver {
             .build();
 
     private static @NonNull Connection newConnection(@NonNull WebSource source, @NonNull Languages languages, @NonNull WebContext context) throws IOException {
-        StatCanClient client = new DefaultStatCanClient(
-                HasMarker.of(source),
-                source.getEndpoint().toURL(),
-                languages,
-                newClient(source, context)
-        );
+        Closeable lease = context.leaseClients(source);
+        try {
+            StatCanClient client = new DefaultStatCanClient(
+                    HasMarker.of(source),
+                    source.getEndpoint().toURL(),
+                    languages,
+                    newClient(source, context)
+            );
 
-        StatCanClient cachedClient = CachedStatCanClient.of(
-                client,
-                context.getDriverCache(source), CACHE_TTL_PROPERTY.get(source.getProperties()),
-                source, languages
-        );
+            StatCanClient cachedClient = CachedStatCanClient.of(
+                    client,
+                    context.getDriverCache(source), CACHE_TTL_PROPERTY.get(source.getProperties()),
+                    source, languages
+            );
 
-        return new StatCanConnection(cachedClient);
+            return new StatCanConnection(cachedClient, lease);
+        } catch (IOException | RuntimeException ex) {
+            lease.close();
+            throw ex;
+        }
     }
 
     @lombok.AllArgsConstructor
@@ -105,6 +110,9 @@ public final class StatCanDialectDriver implements Driver {
         @lombok.NonNull
         private final StatCanClient client;
 
+        @lombok.NonNull
+        private final Closeable lease;
+
         @Override
         public @NonNull Collection<Database> getDatabases() throws IOException {
             return Collections.emptyList();
@@ -177,7 +185,8 @@ public final class StatCanDialectDriver implements Driver {
         }
 
         @Override
-        public void close() {
+        public void close() throws IOException {
+            lease.close();
         }
     }
 
@@ -491,19 +500,16 @@ public final class StatCanDialectDriver implements Driver {
             FileParser<Stream<Series>> parser = SdmxXmlStreams.compactData21(dsd, ObsParser::newDefault)
                     .andThen(DataCursor::asCloseableStream);
 
-            try {
-                return file.stream()
-                        .filter(entry -> !isDataStructure(entry))
-                        .sorted(Comparator.comparingInt(Converter::getRevisionNumber))
-                        .map(entry -> asSource(file, entry))
-                        .flatMap(IOFunction.unchecked(parser::parseStream))
-                        .collect(Collectors.groupingBy(Series::getKey))
-                        .values()
-                        .stream()
-                        .map(Converter::combineObservationsByPeriod);
-            } catch (UncheckedIOException ex) {
-                throw ex.getCause();
-            }
+            List<ZipEntry> revisions = file.stream()
+                    .filter(entry -> !isDataStructure(entry))
+                    .sorted(Comparator.comparingInt(Converter::getRevisionNumber))
+                    .collect(Collectors.toList());
+
+            return ParallelParsing.mergeRevisions(ParallelParsing.parseAll(
+                    revisions,
+                    entry -> parser.parseStream(asSource(file, entry)),
+                    ParallelParsing.DEFAULT_PARALLELISM
+            ));
         }
 
         private static int getRevisionNumber(ZipEntry entry) {
@@ -511,13 +517,6 @@ public final class StatCanDialectDriver implements Driver {
             return Integer.parseInt(name.substring(name.indexOf('_') + 1, name.indexOf('.')));
         }
 
-        private static Series combineObservationsByPeriod(List<Series> list) {
-            Map<TimeInterval, Obs> result = list.stream()
-                    .flatMap(series -> series.getObs().stream())
-                    .collect(toMap(Obs::getPeriod, identity(), (ignore, latest) -> latest, LinkedHashMap::new));
-            return list.get(0).toBuilder().clearObs().obs(result.values()).build();
-        }
-
         private static boolean isDataStructure(ZipEntry entry) {
             return entry.getName().endsWith("_Structure.xml");
         }
@@ -28,6 +28,7 @@ import sdmxdl.web.WebSource;
 import sdmxdl.web.spi.Driver;
 import sdmxdl.web.spi.WebContext;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
@@ -115,7 +116,13 @@ public final class PxWebDriver implements Driver {
     }
 
     private static @NonNull Connection newConnection(@NonNull WebSource source, @NonNull Languages languages, @NonNull WebContext context) throws IOException {
-        return new PxWebConnection(newClient(source, languages, context));
+        Closeable lease = context.leaseClients(source);
+        try {
+            return new PxWebConnection(newClient(source, languages, context), lease);
+        } catch (IOException | RuntimeException ex) {
+            lease.close();
+            throw ex;
+        }
     }
 
     private static String resolveVersion(WebSource source) {
@@ -141,6 +148,9 @@ public final class PxWebDriver implements Driver {
         @NonNull
         private final PxWebClient client;
 
+        @NonNull
+        private final Closeable lease;
+
         @Override
         public @NonNull Optional<URI> testConnection() throws IOException {
             try {
@@ -184,7 +194,7 @@ public final class PxWebDriver implements Driver {
             String tableId = Converter.flowRefToTableId(flowRef);
             Structure dsd = client.getMeta(database.getId(), tableId);
             DataCursor dataCursor = client.getData(database.getId(), tableId, dsd, query.getKey());
-            return query.execute(dataCursor.asCloseableStream());
+            return dataCursor.asCloseableStream(query);
         }
 
         @Override
@@ -198,7 +208,8 @@ public final class PxWebDriver implements Driver {
         }
 
         @Override
-        public void close() {
+        public void close() throws IOException {
+            lease.close();
         }
 
         private void checkDatabase(DatabaseRef database) throws IOException {
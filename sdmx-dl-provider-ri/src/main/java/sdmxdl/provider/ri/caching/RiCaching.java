@@ -5,6 +5,8 @@ import nbbrd.design.DirectImpl;
 import nbbrd.design.VisibleForTesting;
 import nbbrd.io.text.BooleanProperty;
 import nbbrd.io.text.Formatter;
+import nbbrd.io.text.IntProperty;
+import nbbrd.io.text.LongProperty;
 import nbbrd.io.text.Parser;
 import nbbrd.io.text.Property;
 import nbbrd.service.ServiceProvider;
@@ -15,6 +17,8 @@ import sdmxdl.ext.Persistence;
 import sdmxdl.file.FileSource;
 import sdmxdl.file.spi.FileCaching;
 import sdmxdl.format.DiskCache;
+import sdmxdl.format.DiskCacheCodec;
+import sdmxdl.format.DiskCacheSweeper;
 import sdmxdl.format.DiskCachingSupport;
 import sdmxdl.format.MemCache;
 import sdmxdl.format.design.PropertyDefinition;
@@ -52,6 +56,11 @@ public final class RiCaching implements FileCaching, WebCaching {
     public static final BooleanProperty NO_COMPRESSION_PROPERTY
             = BooleanProperty.of("sdmxdl.caching.noCompression", false);
 
+    // Set cache compression codec (NONE, GZIP, LZ4 or ZSTD)
+    @PropertyDefinition
+    public static final Property<DiskCacheCodec> CODEC_PROPERTY
+            = Property.of("sdmxdl.caching.codec", DiskCacheCodec.GZIP, Parser.onEnum(DiskCacheCodec.class), Formatter.onEnum());
+
     // Set cache persistence backend
     @PropertyDefinition
     public static final Property<String> PERSISTENCE_ID_PROPERTY
@@ -62,6 +71,26 @@ public final class RiCaching implements FileCaching, WebCaching {
     public static final Property<Confidentiality> MAX_CONFIDENTIALITY_PROPERTY
             = Property.of("sdmxdl.caching.maxConfidentiality", Confidentiality.RESTRICTED, Parser.onEnum(Confidentiality.class), Formatter.onEnum());
 
+    // Set max size (in bytes) of the memory tier shared by all connections; zero disables it
+    @PropertyDefinition
+    public static final LongProperty MEMORY_MAX_SIZE_PROPERTY
+            = LongProperty.of("sdmxdl.caching.memoryMaxSize", DiskCachingSupport.DEFAULT_MEMORY_MAX_SIZE);
+
+    // Keep the data sets of the memory tier in a compact form
+    @PropertyDefinition
+    public static final BooleanProperty COMPACT_MEMORY_PROPERTY
+            = BooleanProperty.of("sdmxdl.caching.compactMemory", false);
+
+    // Set max size (in bytes) of the cache folder; zero disables the quota
+    @PropertyDefinition
+    public static final LongProperty MAX_SIZE_PROPERTY
+            = LongProperty.of("sdmxdl.caching.maxSize", DiskCacheSweeper.DEFAULT_MAX_SIZE);
+
+    // Set max number of entries of the cache folder; zero disables the quota
+    @PropertyDefinition
+    public static final IntProperty MAX_ENTRIES_PROPERTY
+            = IntProperty.of("sdmxdl.caching.maxEntries", DiskCacheSweeper.DEFAULT_MAX_ENTRIES);
+
     private static final String ID = "RI_CACHING";
 
     private static final int RANK = 100;
@@ -70,8 +99,13 @@ public final class RiCaching implements FileCaching, WebCaching {
             NO_CACHE_PROPERTY,
             CACHE_FOLDER_PROPERTY,
             NO_COMPRESSION_PROPERTY,
+            CODEC_PROPERTY,
             PERSISTENCE_ID_PROPERTY,
-            MAX_CONFIDENTIALITY_PROPERTY
+            MAX_CONFIDENTIALITY_PROPERTY,
+            MEMORY_MAX_SIZE_PROPERTY,
+            COMPACT_MEMORY_PROPERTY,
+            MAX_SIZE_PROPERTY,
+            MAX_ENTRIES_PROPERTY
     );
 
     @Override
@@ -180,7 +214,12 @@ public final class RiCaching implements FileCaching, WebCaching {
                 .rank(RANK)
                 .root(getCacheFolder(properties))
                 .noCompression(isNoCompression(properties))
+                .codec(getCodec(properties))
                 .persistenceId(getPersistenceId(properties))
+                .memoryMaxSize(getMemoryMaxSize(properties))
+                .compactMemory(isCompactMemory(properties))
+                .maxSize(getMaxSize(properties))
+                .maxEntries(getMaxEntries(properties))
                 .build();
     }
 
@@ -202,6 +241,26 @@ public final class RiCaching implements FileCaching, WebCaching {
         return NO_COMPRESSION_PROPERTY.get(properties);
     }
 
+    private static DiskCacheCodec getCodec(Function<? super String, ? extends CharSequence> properties) {
+        return requireNonNull(CODEC_PROPERTY.get(properties));
+    }
+
+    private static long getMemoryMaxSize(Function<? super String, ? extends CharSequence> properties) {
+        return MEMORY_MAX_SIZE_PROPERTY.get(properties);
+    }
+
+    private static boolean isCompactMemory(Function<? super String, ? extends CharSequence> properties) {
+        return COMPACT_MEMORY_PROPERTY.get(properties);
+    }
+
+    private static long getMaxSize(Function<? super String, ? extends CharSequence> properties) {
+        return MAX_SIZE_PROPERTY.get(properties);
+    }
+
+    private static int getMaxEntries(Function<? super String, ? extends CharSequence> properties) {
+        return MAX_ENTRIES_PROPERTY.get(properties);
+    }
+
     private static String getPersistenceId(Function<? super String, ? extends CharSequence> properties) {
         String result = PERSISTENCE_ID_PROPERTY.get(properties);
         return result != null ? result : "";
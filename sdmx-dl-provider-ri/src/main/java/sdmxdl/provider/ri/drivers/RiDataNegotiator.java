@@ -0,0 +1,326 @@
+package sdmxdl.provider.ri.drivers;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import nbbrd.design.ThreadSafe;
+import nbbrd.design.VisibleForTesting;
+import nbbrd.io.FileParser;
+import nbbrd.io.net.MediaType;
+import nbbrd.io.text.BooleanProperty;
+import nbbrd.io.text.Property;
+import org.jspecify.annotations.Nullable;
+import sdmxdl.Duration;
+import sdmxdl.Key;
+import sdmxdl.Structure;
+import sdmxdl.format.DataCursor;
+import sdmxdl.format.ObsParser;
+import sdmxdl.format.design.PropertyDefinition;
+import sdmxdl.format.time.ObservationalTimePeriod;
+import sdmxdl.web.WebSource;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static sdmxdl.provider.web.DriverProperties.commaSeparatedProperty;
+import static sdmxdl.web.spi.Driver.DRIVER_PROPERTY_PREFIX;
+
+/**
+ * Content negotiation of data responses.
+ * The accepted media types are sent in order of preference with decreasing quality values.
+ * When learning is enabled, the throughput of each media type is measured on the responses
+ * and the fastest one is preferred once all of them have been measured.
+ */
+@ThreadSafe
+@lombok.RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+final class RiDataNegotiator {
+
+    /**
+     * Defines the media types accepted for data responses, in order of preference.
+     * Quality values are added according to this order unless they are explicitly set.
+     * Default value is empty and uses the media types of the driver.
+     */
+    @PropertyDefinition
+    static final Property<List<String>> DATA_TYPES_PROPERTY =
+            commaSeparatedProperty(DRIVER_PROPERTY_PREFIX + ".dataTypes", emptyList());
+
+    /**
+     * Defines if the fastest media type of data responses is learned and preferred.
+     * Default value is false.
+     */
+    @PropertyDefinition
+    static final BooleanProperty DATA_TYPES_LEARNING_PROPERTY =
+            BooleanProperty.of(DRIVER_PROPERTY_PREFIX + ".dataTypesLearning", false);
+
+    /**
+     * Applies the content negotiation of a source to some parsers.
+     * The parsers are returned as is if neither the media types nor the learning are configured.
+     * Learned throughputs are kept by source id for the lifetime of the process.
+     *
+     * @param source  a non-null source
+     * @param parsers non-null parsers
+     * @return non-null parsers
+     */
+    static @NonNull RiRestParsers negotiate(@NonNull WebSource source, @NonNull RiRestParsers parsers) {
+        List<MediaType> preferences = DATA_TYPES_PROPERTY.get(source.getProperties())
+                .stream()
+                .map(RiDataNegotiator::parseMediaTypeOrNull)
+                .filter(Objects::nonNull)
+                .collect(toList());
+        boolean learning = DATA_TYPES_LEARNING_PROPERTY.get(source.getProperties());
+        if (preferences.isEmpty() && !learning) {
+            return parsers;
+        }
+        return new RiDataNegotiator(
+                preferences.isEmpty() ? parsers.getDataTypes() : preferences,
+                learning,
+                System::nanoTime,
+                learning ? LEARNED_THROUGHPUTS.computeIfAbsent(source.getId(), ignore -> new ConcurrentHashMap<>()) : new ConcurrentHashMap<>())
+                .apply(parsers);
+    }
+
+    // NB: not stored in the client registry of the context because its entries are released when idle
+    private static final ConcurrentMap<String, ConcurrentMap<MediaType, Throughput>> LEARNED_THROUGHPUTS = new ConcurrentHashMap<>();
+
+    private static @Nullable MediaType parseMediaTypeOrNull(String text) {
+        try {
+            return MediaType.parse(text.trim());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private final @NonNull List<MediaType> preferences;
+
+    private final boolean learning;
+
+    private final @NonNull LongSupplier nanoTime;
+
+    private final @NonNull ConcurrentMap<MediaType, Throughput> throughputs;
+
+    @NonNull
+    RiRestParsers apply(@NonNull RiRestParsers parsers) {
+        return new NegotiatingParsers(parsers, this);
+    }
+
+    @NonNull
+    List<MediaType> getAcceptedTypes() {
+        return withQualityValues(learning ? sortByThroughput() : preferences);
+    }
+
+    @NonNull
+    FileParser<DataCursor> measure(@NonNull MediaType responseType, @NonNull FileParser<DataCursor> parser) {
+        if (!learning) {
+            return parser;
+        }
+        MediaType preference = getPreference(responseType);
+        if (preference == null) {
+            return parser;
+        }
+        Throughput throughput = throughputs.computeIfAbsent(preference, ignore -> new Throughput());
+        long start = nanoTime.getAsLong();
+        return parser.andThen(cursor -> new MeasuringDataCursor(cursor, obsCount -> throughput.add(obsCount, nanoTime.getAsLong() - start)));
+    }
+
+    private @Nullable MediaType getPreference(MediaType responseType) {
+        return preferences
+                .stream()
+                .filter(responseType::isCompatibleWithoutParameters)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private List<MediaType> sortByThroughput() {
+        List<MediaType> unmeasured = preferences.stream().filter(type -> !isMeasured(type)).collect(toList());
+        if (!unmeasured.isEmpty() && unmeasured.size() < preferences.size()) {
+            // explores the unmeasured types first
+            List<MediaType> result = new ArrayList<>(unmeasured);
+            preferences.stream().filter(this::isMeasured).forEach(result::add);
+            return result;
+        }
+        return preferences
+                .stream()
+                .sorted(Comparator.comparingDouble(this::getObsPerNano).reversed())
+                .collect(toList());
+    }
+
+    private boolean isMeasured(MediaType type) {
+        Throughput throughput = throughputs.get(type);
+        return throughput != null && throughput.isMeasured();
+    }
+
+    private double getObsPerNano(MediaType type) {
+        Throughput throughput = throughputs.get(type);
+        return throughput != null ? throughput.getObsPerNano() : 0;
+    }
+
+    @VisibleForTesting
+    static List<MediaType> withQualityValues(List<MediaType> types) {
+        List<MediaType> result = new ArrayList<>(types.size());
+        for (int i = 0; i < types.size(); i++) {
+            MediaType type = types.get(i);
+            result.add(i == 0 || type.getParameters().containsKey(QUALITY_PARAMETER) ? type : withQualityValue(type, Math.max(10 - i, 1)));
+        }
+        return result;
+    }
+
+    private static MediaType withQualityValue(MediaType type, int tenths) {
+        return MediaType
+                .builder()
+                .type(type.getType())
+                .subtype(type.getSubtype())
+                .parameters(type.getParameters())
+                .parameter(QUALITY_PARAMETER, singletonList(tenths == 10 ? "1" : "0." + tenths))
+                .build();
+    }
+
+    private static final String QUALITY_PARAMETER = "q";
+
+    @lombok.RequiredArgsConstructor
+    private static final class NegotiatingParsers implements RiRestParsers {
+
+        @lombok.experimental.Delegate(excludes = DataParsers.class)
+        private final @NonNull RiRestParsers delegate;
+
+        private final @NonNull RiDataNegotiator negotiator;
+
+        @Override
+        public @NonNull List<MediaType> getDataTypes() {
+            return negotiator.getAcceptedTypes();
+        }
+
+        @Override
+        public @NonNull FileParser<DataCursor> getDataParser(@NonNull MediaType mediaType, @NonNull Structure dsd, @NonNull Supplier<ObsParser> dataFactory) {
+            return negotiator.measure(mediaType, delegate.getDataParser(mediaType, dsd, dataFactory));
+        }
+    }
+
+    private interface DataParsers {
+
+        List<MediaType> getDataTypes();
+
+        FileParser<DataCursor> getDataParser(MediaType mediaType, Structure dsd, Supplier<ObsParser> dataFactory);
+    }
+
+    static final class Throughput {
+
+        private final LongAdder obsCount = new LongAdder();
+
+        private final LongAdder nanos = new LongAdder();
+
+        void add(long obs, long elapsed) {
+            obsCount.add(obs);
+            nanos.add(Math.max(elapsed, 1));
+        }
+
+        boolean isMeasured() {
+            return obsCount.sum() > 0;
+        }
+
+        double getObsPerNano() {
+            long elapsed = nanos.sum();
+            return elapsed > 0 ? (double) obsCount.sum() / elapsed : 0;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ObsCountListener {
+
+        void onClose(long obsCount);
+    }
+
+    @lombok.RequiredArgsConstructor
+    private static final class MeasuringDataCursor implements DataCursor {
+
+        private final @NonNull DataCursor delegate;
+
+        private final @NonNull ObsCountListener listener;
+
+        private long obsCount = 0;
+
+        private boolean closed = false;
+
+        @Override
+        public boolean nextSeries() throws IOException {
+            return delegate.nextSeries();
+        }
+
+        @Override
+        public Key getSeriesKey() throws IOException, IllegalStateException {
+            return delegate.getSeriesKey();
+        }
+
+        @Override
+        public String getSeriesAttribute(@NonNull String key) throws IOException, IllegalStateException {
+            return delegate.getSeriesAttribute(key);
+        }
+
+        @Override
+        public Map<String, String> getSeriesAttributes() throws IOException, IllegalStateException {
+            return delegate.getSeriesAttributes();
+        }
+
+        @Override
+        public boolean nextObs() throws IOException, IllegalStateException {
+            boolean result = delegate.nextObs();
+            if (result) {
+                obsCount++;
+            }
+            return result;
+        }
+
+        @Override
+        public ObservationalTimePeriod getObsPeriod() throws IOException, IllegalStateException {
+            return delegate.getObsPeriod();
+        }
+
+        @Override
+        public Double getObsValue() throws IOException, IllegalStateException {
+            return delegate.getObsValue();
+        }
+
+        @Override
+        public long getObsPeriodStartEpochSecond() throws IOException, IllegalStateException {
+            return delegate.getObsPeriodStartEpochSecond();
+        }
+
+        @Override
+        public Duration getObsPeriodDuration() throws IOException, IllegalStateException {
+            return delegate.getObsPeriodDuration();
+        }
+
+        @Override
+        public double getObsValueAsDouble() throws IOException, IllegalStateException {
+            return delegate.getObsValueAsDouble();
+        }
+
+        @Override
+        public Map<String, String> getObsAttributes() throws IOException, IllegalStateException {
+            return delegate.getObsAttributes();
+        }
+
+        @Override
+        public String getObsAttribute(@NonNull String key) throws IOException, IllegalStateException {
+            return delegate.getObsAttribute(key);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                delegate.close();
+            } finally {
+                if (!closed) {
+                    closed = true;
+                    listener.onClose(obsCount);
+                }
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package sdmxdl.provider.ri.drivers;
 
 import lombok.NonNull;
+import nbbrd.design.VisibleForTesting;
 import nbbrd.io.http.*;
 import nbbrd.io.http.ext.DumpingClient;
 import nbbrd.io.net.MediaType;
@@ -35,7 +36,9 @@ import sdmxdl.web.spi.Network;
 import sdmxdl.web.spi.WebContext;
 
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.PasswordAuthentication;
 import java.net.Proxy;
 import java.net.URL;
@@ -45,6 +48,8 @@ import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static sdmxdl.provider.ri.drivers.AuthSchemes.*;
 import static sdmxdl.provider.web.DriverProperties.*;
 import static sdmxdl.web.spi.Driver.DRIVER_PROPERTY_PREFIX;
@@ -62,13 +67,31 @@ public class RiHttpUtils {
     public static final Property<File> DUMP_FOLDER_PROPERTY =
             Property.of(DRIVER_PROPERTY_PREFIX + ".dumpFolder", null, Parser.onFile(), Formatter.onFile());
 
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String DEFLATE_ENCODING = "deflate";
+
+    /**
+     * Defines the content encodings accepted for compressed transfer, in order of preference.
+     * Supported values are <code>gzip</code> and <code>deflate</code>; unsupported values are ignored.
+     * Default value is <code>gzip,deflate</code>; an empty value disables compression.
+     */
+    @PropertyDefinition
+    public static final Property<List<String>> ENCODINGS_PROPERTY =
+            commaSeparatedProperty(DRIVER_PROPERTY_PREFIX + ".encodings", asList(GZIP_ENCODING, DEFLATE_ENCODING));
+
     public static final List<String> RI_CONNECTION_PROPERTIES = BaseProperty.keysOf(
             CONNECT_TIMEOUT_PROPERTY,
             READ_TIMEOUT_PROPERTY,
             MAX_REDIRECTS_PROPERTY,
             AUTH_SCHEME_PROPERTY,
             USER_AGENT_PROPERTY,
-            DUMP_FOLDER_PROPERTY
+            DUMP_FOLDER_PROPERTY,
+            ENCODINGS_PROPERTY,
+            RiDataNegotiator.DATA_TYPES_PROPERTY,
+            RiDataNegotiator.DATA_TYPES_LEARNING_PROPERTY,
+            DATA_CACHING_PROPERTY,
+            INCREMENTAL_TTL_PROPERTY,
+            CONDITIONAL_TTL_PROPERTY
     );
 
     public static @NonNull HttpRequest newRequest(@NonNull URL query, @NonNull List<MediaType> mediaTypes, @NonNull Languages langs) {
@@ -80,8 +103,18 @@ public class RiHttpUtils {
                 .build();
     }
 
+    /**
+     * Gets the HTTP client of a source.
+     * This client is shared by all the connections of the context in order to reuse its network settings,
+     * such as its SSL socket factory and proxy selector.
+     * Note that it is not closeable: its HTTP connections are pooled by the JDK and releasing it only drops its reference.
+     *
+     * @param source  a non-null source
+     * @param context a non-null context
+     * @return a non-null client
+     */
     public static @NonNull HttpClient newClient(@NonNull WebSource source, @NonNull WebContext context) {
-        return newClient(source, newContext(source, context));
+        return context.getClient(source, HttpClient.class, o -> newClient(o, newContext(o, context)));
     }
 
     public static @NonNull HttpClient newClient(@NonNull WebSource source, @NonNull HttpContext context) {
@@ -93,6 +126,7 @@ public class RiHttpUtils {
     public static @NonNull HttpContext newContext(@NonNull WebSource source, @NonNull WebContext context) {
         Network network = context.getNetwork(source);
         EventListener eventListener = context.getEventListener(source);
+        HttpEventListener listener = eventListener != null ? new RiHttpEventListener(eventListener.asConsumer("RI_HTTP")) : HttpEventListener.noOp();
         return HttpContext
                 .builder()
                 .readTimeout(READ_TIMEOUT_PROPERTY.get(source.getProperties()))
@@ -102,8 +136,10 @@ public class RiHttpUtils {
                 .proxySelector(network::getProxySelector)
                 .sslSocketFactory(() -> network.getSSLFactory().getSSLSocketFactory())
                 .hostnameVerifier(() -> network.getSSLFactory().getHostnameVerifier())
-                .urlConnectionFactory(() -> network.getURLConnectionFactory()::openConnection)
-                .listener(eventListener != null ? new RiHttpEventListener(eventListener.asConsumer("RI_HTTP")) : HttpEventListener.noOp())
+                .urlConnectionFactory(() -> RiHttpValidators.withValidators(network.getURLConnectionFactory()::openConnection))
+                .listener(listener)
+                .clearDecoders()
+                .decoders(newDecoders(ENCODINGS_PROPERTY.get(source.getProperties()), listener))
                 .authenticator(new RiHttpAuthenticator(source, context.getAuthenticators(), eventListener))
                 .userAgent(USER_AGENT_PROPERTY.get(source.getProperties()))
                 .build();
@@ -121,6 +157,27 @@ public class RiHttpUtils {
         return HttpAuthScheme.NONE;
     }
 
+    @VisibleForTesting
+    static List<StreamDecoder> newDecoders(List<String> encodings, HttpEventListener listener) {
+        return encodings
+                .stream()
+                .map(RiHttpUtils::getDecoderOrNull)
+                .filter(Objects::nonNull)
+                .map(decoder -> new ReportingDecoder(decoder, listener))
+                .collect(toList());
+    }
+
+    private static @Nullable StreamDecoder getDecoderOrNull(String encoding) {
+        switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+            case GZIP_ENCODING:
+                return StreamDecoder.gzip();
+            case DEFLATE_ENCODING:
+                return StreamDecoder.deflate();
+            default:
+                return null;
+        }
+    }
+
     private static DumpingClient newDumpingClient(HttpContext context, HttpClient client, File dumpFolder) {
         return new DumpingClient(dumpFolder.toPath(), client, file -> context.getListener().onEvent("Dumping " + file.toUri()));
     }
@@ -160,6 +217,83 @@ public class RiHttpUtils {
         }
     }
 
+    @lombok.AllArgsConstructor
+    private static final class ReportingDecoder implements StreamDecoder {
+
+        private final @NonNull StreamDecoder delegate;
+
+        private final @NonNull HttpEventListener listener;
+
+        @Override
+        public @NonNull String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public @NonNull InputStream decode(@NonNull InputStream stream) throws IOException {
+            CountingInputStream encoded = new CountingInputStream(stream, null);
+            return new CountingInputStream(delegate.decode(encoded), decoded -> listener.onEvent(String.format(Locale.ROOT,
+                    "Decoded '%s' content from %d to %d bytes", delegate.getName(), encoded.getCount(), decoded.getCount())));
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final @Nullable Consumer<CountingInputStream> onClose;
+
+        @lombok.Getter
+        private long count = 0;
+
+        private boolean closed = false;
+
+        private CountingInputStream(InputStream stream, @Nullable Consumer<CountingInputStream> onClose) {
+            super(stream);
+            this.onClose = onClose;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result != -1) {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+            if (result != -1) {
+                count += result;
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long result = super.skip(n);
+            count += result;
+            return result;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!closed && onClose != null) {
+                    onClose.accept(this);
+                }
+                closed = true;
+            }
+        }
+    }
+
     @lombok.AllArgsConstructor
     private static final class RiHttpAuthenticator implements HttpAuthenticator {
 
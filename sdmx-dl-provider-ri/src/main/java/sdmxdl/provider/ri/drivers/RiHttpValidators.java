@@ -0,0 +1,141 @@
+package sdmxdl.provider.ri.drivers;
+
+import lombok.NonNull;
+import nbbrd.design.VisibleForTesting;
+import nbbrd.io.function.IOFunction;
+import nbbrd.io.http.HttpClient;
+import nbbrd.io.http.HttpRequest;
+import nbbrd.io.http.HttpResponse;
+import nbbrd.io.http.URLConnectionFactory;
+import org.jspecify.annotations.Nullable;
+import sdmxdl.provider.Conditional;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URLConnection;
+
+/**
+ * Support of HTTP conditional requests (RFC 7232).
+ * <p>
+ * Since the HTTP client has no access to the headers, the validators are exchanged
+ * through the connections opened on the current thread by the URL connection factory.
+ * A not-modified response is reported by the client as a redirection without location
+ * and is therefore recovered from the response code of the last connection.
+ */
+@lombok.experimental.UtilityClass
+class RiHttpValidators {
+
+    static final String ETAG_HEADER = "ETag";
+    static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+
+    static @NonNull URLConnectionFactory withValidators(@NonNull URLConnectionFactory factory) {
+        return (url, proxy) -> {
+            URLConnection result = factory.openConnection(url, proxy);
+            Exchange exchange = EXCHANGE.get();
+            if (exchange != null) {
+                exchange.onOpen(result);
+            }
+            return result;
+        };
+    }
+
+    static <T> @NonNull Conditional<T> send(
+            @NonNull HttpClient client,
+            @NonNull HttpRequest request,
+            @NonNull String validators,
+            @NonNull IOFunction<HttpResponse, T> parser) throws IOException {
+        Exchange exchange = new Exchange(Validators.parse(validators));
+        try {
+            EXCHANGE.set(exchange);
+            try (HttpResponse response = client.send(request)) {
+                String newValidators = exchange.getResponseValidators().format();
+                return Conditional.of(parser.applyWithIO(response), newValidators);
+            } catch (IOException ex) {
+                if (exchange.isNotModified()) {
+                    return Conditional.notModified();
+                }
+                throw ex;
+            }
+        } finally {
+            // NB: the exchange must never leak to the next connections opened on this thread
+            EXCHANGE.remove();
+        }
+    }
+
+    private static final ThreadLocal<Exchange> EXCHANGE = new ThreadLocal<>();
+
+    @lombok.RequiredArgsConstructor
+    private static final class Exchange {
+
+        private final Validators requestValidators;
+
+        private @Nullable URLConnection connection;
+
+        void onOpen(URLConnection connection) {
+            this.connection = connection;
+            if (requestValidators.getEntityTag() != null) {
+                connection.setRequestProperty(IF_NONE_MATCH_HEADER, requestValidators.getEntityTag());
+            }
+            if (requestValidators.getLastModified() != null) {
+                connection.setRequestProperty(IF_MODIFIED_SINCE_HEADER, requestValidators.getLastModified());
+            }
+        }
+
+        Validators getResponseValidators() {
+            return connection != null
+                    ? new Validators(connection.getHeaderField(ETAG_HEADER), connection.getHeaderField(LAST_MODIFIED_HEADER))
+                    : Validators.NONE;
+        }
+
+        boolean isNotModified() {
+            if (!requestValidators.isEmpty() && connection instanceof HttpURLConnection) {
+                try {
+                    return ((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED;
+                } catch (IOException ex) {
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+
+    @VisibleForTesting
+    @lombok.Value
+    static class Validators {
+
+        static final Validators NONE = new Validators(null, null);
+
+        @Nullable
+        String entityTag;
+
+        @Nullable
+        String lastModified;
+
+        boolean isEmpty() {
+            return entityTag == null && lastModified == null;
+        }
+
+        String format() {
+            return isEmpty() ? "" : nullToEmpty(entityTag) + SEPARATOR + nullToEmpty(lastModified);
+        }
+
+        static Validators parse(String text) {
+            int index = text.indexOf(SEPARATOR);
+            return index != -1
+                    ? new Validators(emptyToNull(text.substring(0, index)), emptyToNull(text.substring(index + 1)))
+                    : NONE;
+        }
+
+        private static final char SEPARATOR = '\n';
+
+        private static String nullToEmpty(String text) {
+            return text != null ? text : "";
+        }
+
+        private static String emptyToNull(String text) {
+            return text.isEmpty() ? null : text;
+        }
+    }
+}
@@ -23,10 +23,11 @@ import nbbrd.io.http.HttpResponse;
 import nbbrd.io.http.HttpResponseException;
 import sdmxdl.*;
 import sdmxdl.format.ObsParser;
+import sdmxdl.provider.Conditional;
 import sdmxdl.provider.DataRef;
 import sdmxdl.provider.HasMarker;
 import sdmxdl.provider.Marker;
-import sdmxdl.provider.web.RestClient;
+import sdmxdl.provider.web.ConditionalRestClient;
 import sdmxdl.web.WebSource;
 import sdmxdl.web.spi.WebContext;
 
@@ -49,7 +50,7 @@ import static sdmxdl.provider.web.RestErrorMapping.CLIENT_NO_RESULTS_FOUND;
  * @author Philippe Charles
  */
 @lombok.RequiredArgsConstructor
-public class RiRestClient implements RestClient {
+public class RiRestClient implements ConditionalRestClient {
 
     public static @NonNull RiRestClient of(@NonNull WebSource s, @NonNull Languages languages, @NonNull WebContext c,
                                            @NonNull RiRestQueries queries, @NonNull RiRestParsers parsers, @NonNull Set<Feature> supportedFeatures) throws IOException {
@@ -60,7 +61,7 @@ public class RiRestClient implements RestClient {
                 ObsParser::newDefault,
                 RiHttpUtils.newClient(s, c),
                 queries,
-                parsers,
+                RiDataNegotiator.negotiate(s, parsers),
                 Sdmx21RestErrors.DEFAULT,
                 supportedFeatures);
     }
@@ -91,6 +92,16 @@ public class RiRestClient implements RestClient {
         return getData(getDataQuery(ref, dsd.getRef()), dsd);
     }
 
+    @Override
+    public @NonNull Conditional<List<Flow>> getFlows(@NonNull String validators) throws IOException {
+        return getFlows(getFlowsQuery(), validators);
+    }
+
+    @Override
+    public @NonNull Conditional<Structure> getStructure(@NonNull StructureRef ref, @NonNull String validators) throws IOException {
+        return getStructure(getStructureQuery(ref), ref, validators);
+    }
+
     @Override
     public @NonNull Codelist getCodelist(@NonNull CodelistRef ref) throws IOException {
         return getCodelist(getCodelistQuery(ref), ref);
@@ -125,9 +136,7 @@ public class RiRestClient implements RestClient {
     protected List<Flow> getFlows(@NonNull URL url) throws IOException {
         HttpRequest request = RiHttpUtils.newRequest(url, parsers.getFlowsTypes(), langs);
         try (HttpResponse response = httpClient.send(request)) {
-            return parsers
-                    .getFlowsParser(response.getContentType(), langs)
-                    .parseStream(response::getBody);
+            return parseFlows(response);
         } catch (HttpResponseException ex) {
             if (errors.getFlowsError(ex) == CLIENT_NO_RESULTS_FOUND) {
                 return Collections.emptyList();
@@ -136,6 +145,25 @@ public class RiRestClient implements RestClient {
         }
     }
 
+    @NonNull
+    protected Conditional<List<Flow>> getFlows(@NonNull URL url, @NonNull String validators) throws IOException {
+        HttpRequest request = RiHttpUtils.newRequest(url, parsers.getFlowsTypes(), langs);
+        try {
+            return RiHttpValidators.send(httpClient, request, validators, this::parseFlows);
+        } catch (HttpResponseException ex) {
+            if (errors.getFlowsError(ex) == CLIENT_NO_RESULTS_FOUND) {
+                return Conditional.of(Collections.emptyList(), "");
+            }
+            throw ex;
+        }
+    }
+
+    private List<Flow> parseFlows(HttpResponse response) throws IOException {
+        return parsers
+                .getFlowsParser(response.getContentType(), langs)
+                .parseStream(response::getBody);
+    }
+
     @NonNull
     protected URL getStructureQuery(@NonNull StructureRef ref) throws IOException {
         return queries.getStructureQuery(endpoint, ref).build();
@@ -145,10 +173,7 @@ public class RiRestClient implements RestClient {
     protected Structure getStructure(@NonNull URL url, @NonNull StructureRef ref) throws IOException {
         HttpRequest request = RiHttpUtils.newRequest(url, parsers.getStructureTypes(), langs);
         try (HttpResponse response = httpClient.send(request)) {
-            return parsers
-                    .getStructureParser(response.getContentType(), langs, ref)
-                    .parseStream(response::getBody)
-                    .orElseThrow(() -> missingStructure(this, ref));
+            return parseStructure(response, ref);
         } catch (HttpResponseException ex) {
             if (errors.getStructureError(ex) == CLIENT_NO_RESULTS_FOUND) {
                 throw missingStructure(this, ref);
@@ -157,6 +182,26 @@ public class RiRestClient implements RestClient {
         }
     }
 
+    @NonNull
+    protected Conditional<Structure> getStructure(@NonNull URL url, @NonNull StructureRef ref, @NonNull String validators) throws IOException {
+        HttpRequest request = RiHttpUtils.newRequest(url, parsers.getStructureTypes(), langs);
+        try {
+            return RiHttpValidators.send(httpClient, request, validators, response -> parseStructure(response, ref));
+        } catch (HttpResponseException ex) {
+            if (errors.getStructureError(ex) == CLIENT_NO_RESULTS_FOUND) {
+                throw missingStructure(this, ref);
+            }
+            throw ex;
+        }
+    }
+
+    private Structure parseStructure(HttpResponse response, StructureRef ref) throws IOException {
+        return parsers
+                .getStructureParser(response.getContentType(), langs, ref)
+                .parseStream(response::getBody)
+                .orElseThrow(() -> missingStructure(this, ref));
+    }
+
     @NonNull
     protected URL getDataQuery(@NonNull DataRef ref, @NonNull StructureRef dsdRef) throws IOException {
         return queries.getDataQuery(endpoint, ref, dsdRef).build();
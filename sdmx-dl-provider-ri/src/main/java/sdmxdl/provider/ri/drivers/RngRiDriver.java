@@ -174,7 +174,8 @@ public final class RngRiDriver implements Driver {
 
         @Override
         public @NonNull Stream<Series> getDataStream(@NonNull DatabaseRef database, @NonNull FlowRef flowRef, @NonNull Query query) {
-            return Freq.stream().flatMap(freq -> newSeriesStream(freq, query));
+            Stream<Series> result = Freq.stream().flatMap(freq -> newSeriesStream(freq, query));
+            return query.isObsRestricted() ? query.execute(result) : result;
         }
 
         @Override
@@ -5,15 +5,23 @@ import lombok.NonNull;
 import nbbrd.design.VisibleForTesting;
 import nbbrd.io.FileParser;
 import nbbrd.io.function.IOFunction;
+import nbbrd.io.function.IOSupplier;
 import nbbrd.io.net.MediaType;
 import nbbrd.io.xml.Xml;
 import sdmxdl.*;
 import sdmxdl.format.DataCursor;
 import sdmxdl.format.ObsParser;
 import sdmxdl.format.xml.SdmxXmlStreams;
+import sdmxdl.format.xml.XmlMediaTypeProbe;
 
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.PushbackReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.List;
@@ -68,14 +76,17 @@ public class Sdmx21RestParsers implements RiRestParsers {
     @Override
     public @NonNull FileParser<DataCursor> getDataParser(@NonNull MediaType mediaType, @NonNull Structure dsd, @NonNull Supplier<ObsParser> dataFactory) {
 
+        Xml.Parser<DataCursor> generic = SdmxXmlStreams.genericData21(dsd, dataFactory);
+        Xml.Parser<DataCursor> structureSpecific = SdmxXmlStreams.compactData21(dsd, dataFactory);
+
         if (mediaType.isCompatibleWithoutParameters(GENERIC_DATA_21)) {
-            return withCharset(SdmxXmlStreams.genericData21(dsd, dataFactory), mediaType.getCharset());
+            return withCharset(new ProbingDataParser(generic, structureSpecific, generic), mediaType.getCharset());
         }
         if (mediaType.isCompatibleWithoutParameters(STRUCTURE_SPECIFIC_DATA_21)) {
-            return withCharset(SdmxXmlStreams.compactData21(dsd, dataFactory), mediaType.getCharset());
+            return withCharset(new ProbingDataParser(generic, structureSpecific, structureSpecific), mediaType.getCharset());
         }
         if (mediaType.isCompatibleWithoutParameters(APPLICATION_XML_UTF_8)) {
-            return withCharset(SdmxXmlStreams.genericData21(dsd, dataFactory), mediaType.getCharset());
+            return withCharset(new ProbingDataParser(generic, structureSpecific, generic), mediaType.getCharset());
         }
 
         return new UnsupportedParser<>(mediaType);
@@ -124,6 +135,134 @@ public class Sdmx21RestParsers implements RiRestParsers {
         }
     }
 
+    /**
+     * Parser of data that probes the head of the content to choose between the generic and the structure-specific formats,
+     * since some servers label one as the other.
+     * The parser of the declared media type is used if the head is not conclusive.
+     */
+    @VisibleForTesting
+    @lombok.AllArgsConstructor
+    static final class ProbingDataParser implements Xml.Parser<DataCursor> {
+
+        @VisibleForTesting
+        static final int PROBE_LIMIT = 64 * 1024;
+
+        @lombok.NonNull
+        private final Xml.Parser<DataCursor> generic;
+
+        @lombok.NonNull
+        private final Xml.Parser<DataCursor> structureSpecific;
+
+        @lombok.NonNull
+        private final Xml.Parser<DataCursor> fallback;
+
+        @Override
+        public boolean isIgnoreXXE() {
+            return fallback.isIgnoreXXE();
+        }
+
+        @Override
+        public @NonNull DataCursor parseReader(@NonNull Reader resource) throws IOException {
+            PushbackReader reader = new PushbackReader(resource, PROBE_LIMIT);
+            return getParser(probeReader(reader)).parseReader(reader);
+        }
+
+        @Override
+        public @NonNull DataCursor parseReader(@NonNull IOSupplier<? extends Reader> source) throws IOException {
+            return parseResource(source, resource -> {
+                PushbackReader reader = new PushbackReader(resource, PROBE_LIMIT);
+                return getParser(probeReader(reader)).parseReader(() -> reader);
+            });
+        }
+
+        @Override
+        public @NonNull DataCursor parseStream(@NonNull InputStream resource) throws IOException {
+            PushbackInputStream stream = new PushbackInputStream(resource, PROBE_LIMIT);
+            return getParser(probeStream(stream, null)).parseStream(stream);
+        }
+
+        @Override
+        public @NonNull DataCursor parseStream(@NonNull IOSupplier<? extends InputStream> source) throws IOException {
+            return parseResource(source, resource -> {
+                PushbackInputStream stream = new PushbackInputStream(resource, PROBE_LIMIT);
+                return getParser(probeStream(stream, null)).parseStream(() -> stream);
+            });
+        }
+
+        @Override
+        public @NonNull DataCursor parseStream(@NonNull InputStream resource, @NonNull Charset encoding) throws IOException {
+            PushbackInputStream stream = new PushbackInputStream(resource, PROBE_LIMIT);
+            return getParser(probeStream(stream, encoding)).parseStream(stream, encoding);
+        }
+
+        @Override
+        public @NonNull DataCursor parseStream(@NonNull IOSupplier<? extends InputStream> source, @NonNull Charset encoding) throws IOException {
+            return parseResource(source, resource -> {
+                PushbackInputStream stream = new PushbackInputStream(resource, PROBE_LIMIT);
+                return getParser(probeStream(stream, encoding)).parseStream(() -> stream, encoding);
+            });
+        }
+
+        private Xml.Parser<DataCursor> getParser(Optional<MediaType> probed) {
+            if (probed.filter(type -> type.isCompatibleWithoutParameters(STRUCTURE_SPECIFIC_DATA_21)).isPresent()) {
+                return structureSpecific;
+            }
+            if (probed.filter(type -> type.isCompatibleWithoutParameters(GENERIC_DATA_21)).isPresent()) {
+                return generic;
+            }
+            return fallback;
+        }
+
+        private static Optional<MediaType> probeReader(PushbackReader reader) throws IOException {
+            char[] head = new char[PROBE_LIMIT];
+            int length = 0;
+            int n;
+            while (length < head.length && (n = reader.read(head, length, head.length - length)) != -1) {
+                length += n;
+            }
+            reader.unread(head, 0, length);
+            Reader headReader = new CharArrayReader(head, 0, length);
+            return probe(() -> XmlMediaTypeProbe.of().parseReader(headReader));
+        }
+
+        private static Optional<MediaType> probeStream(PushbackInputStream stream, Charset encoding) throws IOException {
+            byte[] head = new byte[PROBE_LIMIT];
+            int length = 0;
+            int n;
+            while (length < head.length && (n = stream.read(head, length, head.length - length)) != -1) {
+                length += n;
+            }
+            stream.unread(head, 0, length);
+            InputStream headStream = new ByteArrayInputStream(head, 0, length);
+            return encoding != null
+                    ? probe(() -> XmlMediaTypeProbe.of().parseStream(headStream, encoding))
+                    : probe(() -> XmlMediaTypeProbe.of().parseStream(headStream));
+        }
+
+        private static Optional<MediaType> probe(IOSupplier<Optional<MediaType>> probe) {
+            try {
+                return probe.getWithIO();
+            } catch (IOException ex) {
+                // the head might be truncated
+                return Optional.empty();
+            }
+        }
+
+        private static <R extends Closeable> DataCursor parseResource(IOSupplier<? extends R> source, IOFunction<? super R, DataCursor> parser) throws IOException {
+            R resource = source.getWithIO();
+            try {
+                return parser.applyWithIO(resource);
+            } catch (IOException | RuntimeException ex) {
+                try {
+                    resource.close();
+                } catch (IOException suppressed) {
+                    ex.addSuppressed(suppressed);
+                }
+                throw ex;
+            }
+        }
+    }
+
     //    @MightBePromoted
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     public static <T> FileParser<T> withCharset(Xml.Parser<T> parser, Optional<Charset> charset) {
@@ -7,6 +7,9 @@ import sdmxdl.*;
 import sdmxdl.provider.DataRef;
 
 import java.net.URL;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 
 @lombok.AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class Sdmx21RestQueries implements RiRestQueries {
@@ -33,6 +36,7 @@ public class Sdmx21RestQueries implements RiRestQueries {
     public @NonNull URLQueryBuilder getDataQuery(@NonNull URL endpoint, @NonNull DataRef ref, @NonNull StructureRef dsdRef) {
         URLQueryBuilder result = onData(endpoint, DEFAULT_DATA_PATH, ref.getFlowRef(), ref.getQuery().getKey(), DEFAULT_PROVIDER_REF);
         applyFilter(ref.getQuery().getDetail(), result);
+        applyObsRange(ref.getQuery(), result);
         return result.trailingSlash(trailingSlashRequired);
     }
 
@@ -56,6 +60,30 @@ public class Sdmx21RestQueries implements RiRestQueries {
         }
     }
 
+    protected void applyObsRange(Query query, URLQueryBuilder result) {
+        if (query.getStartPeriod() != null) {
+            result.param(START_PERIOD_PARAM, formatPeriod(query.getStartPeriod()));
+        }
+        if (query.getEndPeriod() != null) {
+            result.param(END_PERIOD_PARAM, formatPeriod(query.getEndPeriod()));
+        }
+        if (query.getFirstNObservations() > 0) {
+            result.param(FIRST_N_OBSERVATIONS_PARAM, String.valueOf(query.getFirstNObservations()));
+        }
+        if (query.getLastNObservations() > 0) {
+            result.param(LAST_N_OBSERVATIONS_PARAM, String.valueOf(query.getLastNObservations()));
+        }
+        if (query.getUpdatedAfter() != null) {
+            result.param(UPDATED_AFTER_PARAM, query.getUpdatedAfter().truncatedTo(ChronoUnit.SECONDS).toString());
+        }
+    }
+
+    protected static String formatPeriod(LocalDateTime period) {
+        return period.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? period.toLocalDate().toString()
+                : period.toString();
+    }
+
     protected URLQueryBuilder onMeta(URL endpoint, String resourcePath, ResourceRef<?> ref) {
         return URLQueryBuilder
                 .of(endpoint)
@@ -83,6 +111,11 @@ public class Sdmx21RestQueries implements RiRestQueries {
 
     protected static final String REFERENCES_PARAM = "references";
     protected static final String DETAIL_PARAM = "detail";
+    protected static final String START_PERIOD_PARAM = "startPeriod";
+    protected static final String END_PERIOD_PARAM = "endPeriod";
+    protected static final String FIRST_N_OBSERVATIONS_PARAM = "firstNObservations";
+    protected static final String LAST_N_OBSERVATIONS_PARAM = "lastNObservations";
+    protected static final String UPDATED_AFTER_PARAM = "updatedAfter";
 
     protected static final FlowRef FLOWS = FlowRef.of("all", "all", "latest");
 }
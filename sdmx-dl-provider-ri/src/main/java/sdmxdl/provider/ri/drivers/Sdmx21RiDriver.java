@@ -34,7 +34,10 @@ import java.util.Set;
 import static sdmxdl.Confidentiality.PUBLIC;
 import static sdmxdl.provider.ri.drivers.RiHttpUtils.RI_CONNECTION_PROPERTIES;
 import static sdmxdl.provider.web.DriverProperties.DETAIL_SUPPORTED_PROPERTY;
+import static sdmxdl.provider.web.DriverProperties.OBS_COUNT_SUPPORTED_PROPERTY;
+import static sdmxdl.provider.web.DriverProperties.PERIOD_RANGE_SUPPORTED_PROPERTY;
 import static sdmxdl.provider.web.DriverProperties.TRAILING_SLASH_PROPERTY;
+import static sdmxdl.provider.web.DriverProperties.UPDATED_AFTER_SUPPORTED_PROPERTY;
 
 /**
  * @author Philippe Charles
@@ -53,6 +56,9 @@ public final class Sdmx21RiDriver implements Driver {
             .connector(RestConnector.of(Sdmx21RiDriver::newClient))
             .properties(RI_CONNECTION_PROPERTIES)
             .propertyOf(DETAIL_SUPPORTED_PROPERTY)
+            .propertyOf(PERIOD_RANGE_SUPPORTED_PROPERTY)
+            .propertyOf(OBS_COUNT_SUPPORTED_PROPERTY)
+            .propertyOf(UPDATED_AFTER_SUPPORTED_PROPERTY)
             .propertyOf(TRAILING_SLASH_PROPERTY)
             .source(WebSource
                     .builder()
@@ -98,6 +104,9 @@ public final class Sdmx21RiDriver implements Driver {
                     .confidentiality(PUBLIC)
                     .endpointOf("https://data-api.ecb.europa.eu/service")
                     .propertyOf(DETAIL_SUPPORTED_PROPERTY, true)
+                    .propertyOf(PERIOD_RANGE_SUPPORTED_PROPERTY, true)
+                    .propertyOf(OBS_COUNT_SUPPORTED_PROPERTY, true)
+                    .propertyOf(UPDATED_AFTER_SUPPORTED_PROPERTY, true)
                     .websiteOf("https://data.ecb.europa.eu/")
                     .monitorOf("upptime:/nbbrd/sdmx-upptime/ECB")
                     .monitorWebsiteOf("https://nbbrd.github.io/sdmx-upptime/history/ecb")
@@ -398,8 +407,19 @@ public final class Sdmx21RiDriver implements Driver {
     }
 
     private static Set<Feature> getSupportedFeatures(WebSource s) {
-        return DETAIL_SUPPORTED_PROPERTY.get(s.getProperties())
-                ? EnumSet.of(Feature.DATA_QUERY_ALL_KEYWORD, Feature.DATA_QUERY_DETAIL)
-                : EnumSet.of(Feature.DATA_QUERY_ALL_KEYWORD);
+        Set<Feature> result = EnumSet.of(Feature.DATA_QUERY_ALL_KEYWORD);
+        if (DETAIL_SUPPORTED_PROPERTY.get(s.getProperties())) {
+            result.add(Feature.DATA_QUERY_DETAIL);
+        }
+        if (PERIOD_RANGE_SUPPORTED_PROPERTY.get(s.getProperties())) {
+            result.add(Feature.DATA_QUERY_PERIOD_RANGE);
+        }
+        if (OBS_COUNT_SUPPORTED_PROPERTY.get(s.getProperties())) {
+            result.add(Feature.DATA_QUERY_OBS_COUNT);
+        }
+        if (UPDATED_AFTER_SUPPORTED_PROPERTY.get(s.getProperties())) {
+            result.add(Feature.DATA_QUERY_UPDATED_AFTER);
+        }
+        return result;
     }
 }
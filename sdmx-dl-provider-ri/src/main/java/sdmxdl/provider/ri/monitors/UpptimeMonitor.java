@@ -16,6 +16,7 @@ import sdmxdl.web.WebSource;
 import sdmxdl.web.spi.Monitor;
 import sdmxdl.web.spi.WebContext;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.text.NumberFormat;
 import java.time.Clock;
@@ -50,7 +51,9 @@ public final class UpptimeMonitor implements Monitor {
         MonitorReports reports = cache.get(key);
 
         if (reports == null) {
-            reports = createReports(RiHttpUtils.newClient(source, context), id, cache.getClock());
+            try (Closeable ignore = context.leaseClients(source)) {
+                reports = createReports(RiHttpUtils.newClient(source, context), id, cache.getClock());
+            }
             cache.put(key, reports);
         }
 
@@ -22,6 +22,7 @@ import sdmxdl.web.spi.WebContext;
 import javax.net.ssl.HttpsURLConnection;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
@@ -54,7 +55,9 @@ public final class UptimeRobotMonitor implements Monitor {
         UptimeRobotId id = UptimeRobotId.parse(source.getMonitor());
 
         Xml.Parser<MonitorReport> parser = Stax.StreamParser.valueOf(UptimeRobotMonitor::parseReport);
-        return post(url, id.toBody(), parser::parseReader, context, source, getMonitorId());
+        try (Closeable ignore = context.leaseClients(source)) {
+            return post(url, id.toBody(), parser::parseReader, context, source, getMonitorId());
+        }
     }
 
     @Override
@@ -20,24 +20,27 @@ import lombok.NonNull;
 import nbbrd.io.net.MediaType;
 import nbbrd.io.xml.Xml;
 import org.jspecify.annotations.Nullable;
-import sdmxdl.EventListener;
-import sdmxdl.Languages;
-import sdmxdl.Series;
-import sdmxdl.Structure;
+import sdmxdl.*;
+import sdmxdl.ext.Cache;
 import sdmxdl.file.FileSource;
 import sdmxdl.format.DataCursor;
+import sdmxdl.format.MappedFileInputStream;
 import sdmxdl.format.ObsParser;
 import sdmxdl.format.xml.SdmxXmlStreams;
 import sdmxdl.format.xml.XmlMediaTypes;
 import sdmxdl.provider.DataRef;
 import sdmxdl.provider.HasMarker;
 import sdmxdl.provider.Marker;
+import sdmxdl.provider.TypedId;
+import sdmxdl.provider.file.CachedFileClient;
 import sdmxdl.provider.file.FileClient;
 import sdmxdl.provider.file.FileInfo;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
+import java.util.BitSet;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -62,6 +65,20 @@ public class XmlFileClient implements FileClient {
 
     private final @Nullable EventListener listener;
 
+    /**
+     * Cache of the series index of the file; the index is not used if null.
+     */
+    private final @Nullable Cache<DataRepository> indexCache;
+
+    /**
+     * Reads the file through memory-mapped regions instead of read calls.
+     */
+    private final boolean mappedInput;
+
+    public XmlFileClient(@NonNull FileSource source, @NonNull Languages languages, @NonNull Decoder decoder, @Nullable Supplier<ObsParser> obsFactory, @Nullable EventListener listener) {
+        this(source, languages, decoder, obsFactory, listener, null, false);
+    }
+
     @Override
     public @NonNull Marker getMarker() {
         return HasMarker.of(source);
@@ -89,11 +106,48 @@ public class XmlFileClient implements FileClient {
         if (listener != null) {
             listener.accept(MARKER, "Loading data from file '" + source.getData() + "'");
         }
-        return dataRef.getQuery().execute(
-                getDataSupplier(info.getDataType(), info.getStructure())
-                        .parseFile(source.getData())
-                        .asCloseableStream()
-        );
+        Xml.Parser<DataCursor> parser = getDataSupplier(info.getDataType(), info.getStructure());
+        Query query = dataRef.getQuery();
+        if (indexCache != null && !query.getKey().equals(Key.ALL)) {
+            XmlSeriesIndex index = loadIndex(parser);
+            if (index.isUsable()) {
+                BitSet selection = index.select(query.getKey());
+                if (listener != null) {
+                    listener.accept(MARKER, "Parsing " + selection.cardinality() + "/" + index.size() + " series using index");
+                }
+                return parser
+                        .parseStream(() -> index.open(source.getData(), selection))
+                        .asCloseableStream(query);
+            }
+        }
+        return parseFile(parser, source.getData())
+                .asCloseableStream(query);
+    }
+
+    private DataCursor parseFile(Xml.Parser<DataCursor> parser, File file) throws IOException {
+        return mappedInput
+                ? parser.parseStream(() -> MappedFileInputStream.open(file.toPath()))
+                : parser.parseFile(file);
+    }
+
+    private XmlSeriesIndex loadIndex(Xml.Parser<DataCursor> parser) throws IOException {
+        String stamp = CachedFileClient.getStamp(source);
+        if (stamp.isEmpty()) {
+            return XmlSeriesIndex.EMPTY;
+        }
+        File file = source.getData();
+        return TypedId.of(
+                        TypedId.resolveURI(URI.create("cache:file"), file.toString() + source.getStructure(), "seriesIndex", stamp),
+                        repo -> repo.getDataSets().stream().findFirst().map(XmlSeriesIndex::fromDataSet).orElse(null),
+                        index -> DataRepository.builder().dataSet(index.toDataSet()).build())
+                .load(indexCache, () -> buildIndex(file, parser), o -> CachedFileClient.STAMPED_CACHE_TTL);
+    }
+
+    private XmlSeriesIndex buildIndex(File file, Xml.Parser<DataCursor> parser) throws IOException {
+        if (listener != null) {
+            listener.accept(MARKER, "Building series index of file '" + file + "'");
+        }
+        return XmlSeriesIndex.build(file, parser);
     }
 
     private Xml.Parser<DataCursor> getDataSupplier(MediaType dataType, Structure dsd) throws IOException {
@@ -2,12 +2,16 @@ package sdmxdl.provider.ri.readers;
 
 import nbbrd.design.DirectImpl;
 import lombok.NonNull;
+import nbbrd.io.text.BooleanProperty;
 import nbbrd.service.ServiceProvider;
 import sdmxdl.*;
+import sdmxdl.ext.Cache;
 import sdmxdl.file.FileSource;
 import sdmxdl.file.spi.FileContext;
 import sdmxdl.file.spi.Reader;
 import sdmxdl.format.ObsParser;
+import sdmxdl.format.design.PropertyDefinition;
+import sdmxdl.provider.PropertiesSupport;
 import sdmxdl.provider.file.CachedFileClient;
 import sdmxdl.provider.file.FileClient;
 import sdmxdl.provider.file.FileConnection;
@@ -15,11 +19,22 @@ import sdmxdl.provider.file.FileConnection;
 import java.io.File;
 import java.io.IOException;
 import java.util.Locale;
+import java.util.function.Function;
 
 @DirectImpl
 @ServiceProvider
 public final class XmlReader implements Reader {
 
+    // Index the positions of the series of the files in the reader cache to speed up key-filtered queries
+    @PropertyDefinition
+    public static final BooleanProperty SERIES_INDEX_PROPERTY
+            = BooleanProperty.of("sdmxdl.reader.xml.seriesIndex", false);
+
+    // Read the files through memory-mapped regions to benefit from the page cache on repeated reads
+    @PropertyDefinition
+    public static final BooleanProperty MAPPED_INPUT_PROPERTY
+            = BooleanProperty.of("sdmxdl.reader.xml.mappedInput", false);
+
     @Override
     public @NonNull String getReaderId() {
         return "XML";
@@ -54,14 +69,18 @@ public final class XmlReader implements Reader {
 
     private FileClient getClient(FileSource source, Languages languages, FileContext context) throws IOException {
         EventListener eventListener = context.getEventListener(source);
+        Function<? super String, ? extends CharSequence> properties = PropertiesSupport.asFunction(source);
+        Cache<DataRepository> cache = context.getReaderCache(source);
         FileClient client = new XmlFileClient(
                 source,
                 languages,
                 new XmlDecoder(eventListener),
                 ObsParser::newDefault,
-                eventListener
+                eventListener,
+                SERIES_INDEX_PROPERTY.get(properties) ? cache : null,
+                MAPPED_INPUT_PROPERTY.get(properties)
         );
-        return CachedFileClient.of(client, context.getReaderCache(source), source, languages);
+        return CachedFileClient.of(client, cache, source, languages);
     }
 
     private static final StructureRef EMPTY = StructureRef.of("", "", "");
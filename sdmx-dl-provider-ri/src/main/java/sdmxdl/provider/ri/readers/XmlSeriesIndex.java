@@ -0,0 +1,460 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package sdmxdl.provider.ri.readers;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import nbbrd.design.VisibleForTesting;
+import nbbrd.io.FileParser;
+import sdmxdl.*;
+import sdmxdl.format.DataCursor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Byte ranges of the series of an SDMX-ML data file.
+ * <p>
+ * The index maps the key of each series to the position of its element in the file
+ * and keeps a bitmap of the series per code of each dimension.
+ * It allows key-filtered queries to parse a document made of the header of the file,
+ * the selected series elements and the trailer of the file instead of the whole file.
+ * <p>
+ * An index is only usable if the series elements are contiguous,
+ * that is if they are only separated by whitespaces.
+ */
+@lombok.AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class XmlSeriesIndex {
+
+    static final XmlSeriesIndex EMPTY = new XmlSeriesIndex(new Key[0], new long[0], new long[0], Collections.emptyList());
+
+    private final Key[] keys;
+
+    private final long[] offsets;
+
+    private final long[] lengths;
+
+    private final List<Map<String, BitSet>> bitmaps;
+
+    public boolean isUsable() {
+        return keys.length > 0;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Selects the series whose key is contained in a key.
+     *
+     * @param key a non-null key
+     * @return a non-null bitmap of the indexes of the selected series
+     */
+    public @NonNull BitSet select(@NonNull Key key) {
+        BitSet result = new BitSet(keys.length);
+        if (key.equals(Key.ALL)) {
+            result.set(0, keys.length);
+            return result;
+        }
+        if (key.size() != bitmaps.size()) {
+            return result;
+        }
+        result.set(0, keys.length);
+        for (int i = 0; i < key.size() && !result.isEmpty(); i++) {
+            if (!key.isWildcard(i)) {
+                result.and(getBitmap(i, key.get(i)));
+            }
+        }
+        return result;
+    }
+
+    private BitSet getBitmap(int dimension, String multiCode) {
+        Map<String, BitSet> codes = bitmaps.get(dimension);
+        BitSet result = new BitSet(keys.length);
+        for (String code : multiCode.split("\\+", -1)) {
+            BitSet bitmap = codes.get(code);
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Opens a document made of the header of the file, the selected series elements and the trailer of the file.
+     *
+     * @param file      the indexed file
+     * @param selection the indexes of the selected series
+     * @return a non-null stream that must be closed after use
+     * @throws IOException if the file cannot be opened
+     */
+    public @NonNull InputStream open(@NonNull File file, @NonNull BitSet selection) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            long trailerStart = offsets[keys.length - 1] + lengths[keys.length - 1];
+            long[] ranges = new long[(selection.cardinality() + 2) * 2];
+            int count = 0;
+            ranges[count++] = 0;
+            ranges[count++] = offsets[0];
+            for (int i = selection.nextSetBit(0); i >= 0; i = selection.nextSetBit(i + 1)) {
+                ranges[count++] = offsets[i];
+                ranges[count++] = offsets[i] + lengths[i];
+            }
+            ranges[count++] = trailerStart;
+            ranges[count] = channel.size();
+            return new RangesInputStream(channel, ranges);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Builds the index of a file by scanning the positions of its series elements
+     * and by parsing their keys.
+     *
+     * @param file   a non-null file
+     * @param parser a non-null parser of the file
+     * @return a non-null index that is not usable if the file layout is not supported
+     * @throws IOException if the file cannot be read
+     */
+    public static @NonNull XmlSeriesIndex build(@NonNull File file, @NonNull FileParser<DataCursor> parser) throws IOException {
+        long[] ranges;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ranges = new SeriesScanner(channel).scan();
+        }
+        if (ranges == null) {
+            return EMPTY;
+        }
+        List<Key> keys = new ArrayList<>();
+        try (DataCursor cursor = parser.parseFile(file)) {
+            while (cursor.nextSeries()) {
+                keys.add(cursor.getSeriesKey());
+            }
+        }
+        if (keys.size() * 2 != ranges.length) {
+            return EMPTY;
+        }
+        long[] offsets = new long[keys.size()];
+        long[] lengths = new long[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            offsets[i] = ranges[i * 2];
+            lengths[i] = ranges[i * 2 + 1] - ranges[i * 2];
+        }
+        return of(keys.toArray(new Key[0]), offsets, lengths);
+    }
+
+    private static XmlSeriesIndex of(Key[] keys, long[] offsets, long[] lengths) {
+        if (keys.length == 0) {
+            return EMPTY;
+        }
+        int dimensionCount = keys[0].size();
+        List<Map<String, BitSet>> bitmaps = new ArrayList<>(dimensionCount);
+        for (int i = 0; i < dimensionCount; i++) {
+            bitmaps.add(new HashMap<>());
+        }
+        for (int index = 0; index < keys.length; index++) {
+            if (keys[index].size() != dimensionCount) {
+                return EMPTY;
+            }
+            for (int i = 0; i < dimensionCount; i++) {
+                bitmaps.get(i).computeIfAbsent(keys[index].get(i), ignore -> new BitSet()).set(index);
+            }
+        }
+        return new XmlSeriesIndex(keys, offsets, lengths, bitmaps);
+    }
+
+    @NonNull DataSet toDataSet() {
+        DataSet.Builder result = DataSet.builder().ref(INDEX_REF);
+        for (int i = 0; i < keys.length; i++) {
+            result.series(Series
+                    .builder()
+                    .key(keys[i])
+                    .meta(OFFSET_KEY, Long.toString(offsets[i]))
+                    .meta(LENGTH_KEY, Long.toString(lengths[i]))
+                    .build());
+        }
+        return result.build();
+    }
+
+    static @NonNull XmlSeriesIndex fromDataSet(@NonNull DataSet dataSet) {
+        List<Series> data = new ArrayList<>(dataSet.getData());
+        data.sort(Comparator.comparingLong(series -> Long.parseLong(series.getMeta().get(OFFSET_KEY))));
+        Key[] keys = new Key[data.size()];
+        long[] offsets = new long[data.size()];
+        long[] lengths = new long[data.size()];
+        for (int i = 0; i < data.size(); i++) {
+            Series series = data.get(i);
+            keys[i] = series.getKey();
+            offsets[i] = Long.parseLong(series.getMeta().get(OFFSET_KEY));
+            lengths[i] = Long.parseLong(series.getMeta().get(LENGTH_KEY));
+        }
+        return of(keys, offsets, lengths);
+    }
+
+    private static final FlowRef INDEX_REF = FlowRef.parse("index");
+    private static final String OFFSET_KEY = "offset";
+    private static final String LENGTH_KEY = "length";
+
+    /**
+     * Finds the byte ranges of the series elements of an XML document
+     * encoded in a charset compatible with ASCII.
+     */
+    @VisibleForTesting
+    static final class SeriesScanner {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long bufferOffset = 0;
+        private final StringBuilder name = new StringBuilder();
+
+        SeriesScanner(FileChannel channel) {
+            this.channel = channel;
+            buffer.flip();
+        }
+
+        /**
+         * Scans the document.
+         *
+         * @return the start and end positions of each series element, null if the document is not supported
+         * @throws IOException if the document cannot be read
+         */
+        long[] scan() throws IOException {
+            if (!isCompatibleWithAscii()) {
+                return null;
+            }
+            long[] result = new long[64];
+            int count = 0;
+            boolean inSeries = false;
+            boolean contiguous = true;
+            int c;
+            while ((c = next()) != EOF) {
+                if (c != '<') {
+                    if (!inSeries && !isWhitespace(c)) {
+                        contiguous = false;
+                    }
+                    continue;
+                }
+                long start = position() - 1;
+                c = next();
+                if (c == '!' || c == '?') {
+                    if (!skipMarkup(c)) {
+                        return null;
+                    }
+                    if (!inSeries) {
+                        contiguous = false;
+                    }
+                } else if (c == '/') {
+                    if (!readName(next()) || !skipTag()) {
+                        return null;
+                    }
+                    if (inSeries && isSeriesName()) {
+                        result[count++] = position();
+                        inSeries = false;
+                        contiguous = true;
+                    } else if (!inSeries) {
+                        contiguous = false;
+                    }
+                } else {
+                    if (!readName(c) || !skipTag()) {
+                        return null;
+                    }
+                    if (!inSeries && isSeriesName()) {
+                        if (count > 0 && !contiguous) {
+                            return null;
+                        }
+                        if (count + 2 > result.length) {
+                            result = Arrays.copyOf(result, result.length * 2);
+                        }
+                        result[count++] = start;
+                        if (lastNonWhitespace == '/') {
+                            result[count++] = position();
+                            contiguous = true;
+                        } else {
+                            inSeries = true;
+                        }
+                    } else if (!inSeries) {
+                        contiguous = false;
+                    }
+                }
+            }
+            return inSeries ? null : Arrays.copyOf(result, count);
+        }
+
+        private boolean isCompatibleWithAscii() throws IOException {
+            int first = next();
+            bufferOffset = 0;
+            buffer.clear().flip();
+            channel.position(0);
+            return first != EOF && first != 0x00 && first != 0xFE && first != 0xFF;
+        }
+
+        private int lastNonWhitespace;
+
+        private boolean readName(int c) throws IOException {
+            name.setLength(0);
+            while (c != EOF && c != '>' && c != '/' && !isWhitespace(c)) {
+                name.append((char) c);
+                c = next();
+            }
+            lastNonWhitespace = c;
+            return c != EOF && name.length() > 0;
+        }
+
+        private boolean isSeriesName() {
+            int colon = name.lastIndexOf(":");
+            return name.length() - colon - 1 == SERIES.length() && name.indexOf(SERIES, colon + 1) == colon + 1;
+        }
+
+        // skips the attributes of a tag whose name has been read
+        private boolean skipTag() throws IOException {
+            int c = lastNonWhitespace;
+            int quote = 0;
+            while (c != EOF) {
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '>') {
+                    return true;
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (!isWhitespace(c)) {
+                    lastNonWhitespace = c;
+                }
+                c = next();
+            }
+            return false;
+        }
+
+        // skips comments, CDATA sections, processing instructions and declarations
+        private boolean skipMarkup(int c) throws IOException {
+            if (c == '?') {
+                return skipUntil("?>");
+            }
+            c = next();
+            if (c == '-') {
+                return next() == '-' && skipUntil("-->");
+            }
+            if (c == '[') {
+                return skipUntil("]]>");
+            }
+            // declarations with an internal subset are not supported
+            while (c != EOF && c != '>') {
+                if (c == '[') {
+                    return false;
+                }
+                c = next();
+            }
+            return c == '>';
+        }
+
+        private boolean skipUntil(String delimiter) throws IOException {
+            int matched = 0;
+            int c;
+            while ((c = next()) != EOF) {
+                if (c == delimiter.charAt(matched)) {
+                    if (++matched == delimiter.length()) {
+                        return true;
+                    }
+                } else {
+                    matched = c == delimiter.charAt(0) ? 1 : 0;
+                }
+            }
+            return false;
+        }
+
+        private int next() throws IOException {
+            if (!buffer.hasRemaining()) {
+                bufferOffset += buffer.limit();
+                buffer.clear();
+                if (channel.read(buffer) <= 0) {
+                    buffer.flip();
+                    return EOF;
+                }
+                buffer.flip();
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        // position of the next byte
+        private long position() {
+            return bufferOffset + buffer.position();
+        }
+
+        private static boolean isWhitespace(int c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+        }
+
+        private static final String SERIES = "Series";
+        private static final int EOF = -1;
+        private static final int BUFFER_SIZE = 64 * 1024;
+    }
+
+    private static final class RangesInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long[] ranges;
+        private int range = 0;
+        private long position;
+
+        RangesInputStream(FileChannel channel, long[] ranges) {
+            this.channel = channel;
+            this.ranges = ranges;
+            this.position = ranges[0];
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] result = new byte[1];
+            return read(result, 0, 1) == 1 ? result[0] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (range < ranges.length && position >= ranges[range + 1]) {
+                range += 2;
+                if (range < ranges.length) {
+                    position = ranges[range];
+                }
+            }
+            if (range >= ranges.length) {
+                return -1;
+            }
+            int length = (int) Math.min(len, ranges[range + 1] - position);
+            int result = channel.read(ByteBuffer.wrap(b, off, length), position);
+            if (result < 0) {
+                throw new IOException("Unexpected end of file at position " + position);
+            }
+            position += result;
+            return result;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
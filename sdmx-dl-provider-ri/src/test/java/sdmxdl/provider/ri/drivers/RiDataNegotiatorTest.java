@@ -0,0 +1,121 @@
+package sdmxdl.provider.ri.drivers;
+
+import nbbrd.io.FileParser;
+import nbbrd.io.net.MediaType;
+import org.junit.jupiter.api.Test;
+import sdmxdl.Structure;
+import sdmxdl.format.DataCursor;
+import sdmxdl.format.ObsParser;
+import sdmxdl.format.xml.SdmxXmlStreams;
+import sdmxdl.web.WebSource;
+import tests.sdmxdl.format.xml.SdmxXmlSources;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static sdmxdl.Languages.ANY;
+import static sdmxdl.format.xml.XmlMediaTypes.GENERIC_DATA_21;
+import static sdmxdl.format.xml.XmlMediaTypes.STRUCTURE_SPECIFIC_DATA_21;
+
+public class RiDataNegotiatorTest {
+
+    @Test
+    public void testWithQualityValues() {
+        MediaType a = MediaType.parse("application/a");
+        MediaType b = MediaType.parse("application/b");
+        MediaType c = MediaType.parse("application/c; q=0.2");
+
+        assertThat(RiDataNegotiator.withQualityValues(asList(a, b, c)))
+                .containsExactly(a, MediaType.parse("application/b; q=0.9"), c);
+
+        assertThat(RiDataNegotiator.withQualityValues(asList(a, a, a, a, a, a, a, a, a, a, a, a)))
+                .last()
+                .isEqualTo(MediaType.parse("application/a; q=0.1"));
+    }
+
+    @Test
+    public void testNegotiate() throws IOException {
+        WebSource baseline = WebSource.builder().id("baseline").driver("test").endpointOf("http://localhost").build();
+        assertThat(RiDataNegotiator.negotiate(baseline, Sdmx21RestParsers.DEFAULT))
+                .describedAs("Baseline parsers should be used as is")
+                .isSameAs(Sdmx21RestParsers.DEFAULT);
+
+        WebSource configured = baseline.toBuilder().id("configured").property(RiDataNegotiator.DATA_TYPES_PROPERTY.getKey(), STRUCTURE_SPECIFIC_DATA_21.toString()).build();
+        assertThat(RiDataNegotiator.negotiate(configured, Sdmx21RestParsers.DEFAULT).getDataTypes())
+                .containsExactly(STRUCTURE_SPECIFIC_DATA_21);
+
+        WebSource learning = baseline.toBuilder().id("learning").property(RiDataNegotiator.DATA_TYPES_LEARNING_PROPERTY.getKey(), "true").build();
+        assertThat(RiDataNegotiator.negotiate(learning, Sdmx21RestParsers.DEFAULT).getDataTypes())
+                .containsExactlyElementsOf(RiDataNegotiator.withQualityValues(Sdmx21RestParsers.DEFAULT_DATA_TYPES));
+
+        try (DataCursor cursor = RiDataNegotiator.negotiate(learning, Sdmx21RestParsers.DEFAULT).getDataParser(GENERIC_DATA_21, getStructure(), ObsParser::newDefault).parseStream(SdmxXmlSources.ECB_DATA::openStream)) {
+            consume(cursor);
+        }
+        assertThat(RiDataNegotiator.negotiate(learning, Sdmx21RestParsers.DEFAULT).getDataTypes().get(0))
+                .describedAs("Learned throughputs should outlive the parsers")
+                .isEqualTo(STRUCTURE_SPECIFIC_DATA_21);
+    }
+
+    @Test
+    public void testWithoutLearning() throws IOException {
+        RiDataNegotiator x = new RiDataNegotiator(asList(STRUCTURE_SPECIFIC_DATA_21, GENERIC_DATA_21), false, new AtomicLong()::incrementAndGet, new ConcurrentHashMap<>());
+
+        assertThat(x.getAcceptedTypes())
+                .containsExactlyElementsOf(RiDataNegotiator.withQualityValues(asList(STRUCTURE_SPECIFIC_DATA_21, GENERIC_DATA_21)));
+
+        FileParser<DataCursor> parser = Sdmx21RestParsers.DEFAULT.getDataParser(GENERIC_DATA_21, getStructure(), ObsParser::newDefault);
+        assertThat(x.measure(GENERIC_DATA_21, parser)).isSameAs(parser);
+    }
+
+    @Test
+    public void testWithLearning() throws IOException {
+        AtomicLong clock = new AtomicLong();
+        RiDataNegotiator x = new RiDataNegotiator(asList(STRUCTURE_SPECIFIC_DATA_21, GENERIC_DATA_21), true, clock::get, new ConcurrentHashMap<>());
+        Structure structure = getStructure();
+
+        assertThat(x.getAcceptedTypes().get(0)).isEqualTo(STRUCTURE_SPECIFIC_DATA_21);
+
+        // slow structure-specific response
+        clock.set(0);
+        try (DataCursor cursor = x.measure(STRUCTURE_SPECIFIC_DATA_21, parserOf(structure, clock, 1000)).parseStream(SdmxXmlSources.ECB_DATA::openStream)) {
+            consume(cursor);
+        }
+
+        // unmeasured generic is explored first
+        assertThat(x.getAcceptedTypes().get(0)).isEqualTo(GENERIC_DATA_21);
+
+        // fast generic response
+        clock.set(0);
+        try (DataCursor cursor = x.measure(GENERIC_DATA_21, parserOf(structure, clock, 10)).parseStream(SdmxXmlSources.ECB_DATA::openStream)) {
+            consume(cursor);
+        }
+
+        assertThat(x.getAcceptedTypes())
+                .containsExactlyElementsOf(RiDataNegotiator.withQualityValues(asList(GENERIC_DATA_21, STRUCTURE_SPECIFIC_DATA_21)));
+    }
+
+    private static FileParser<DataCursor> parserOf(Structure structure, AtomicLong clock, long elapsed) {
+        return Sdmx21RestParsers.DEFAULT
+                .getDataParser(GENERIC_DATA_21, structure, ObsParser::newDefault)
+                .andThen(cursor -> {
+                    clock.addAndGet(elapsed);
+                    return cursor;
+                });
+    }
+
+    private static void consume(DataCursor cursor) throws IOException {
+        while (cursor.nextSeries()) {
+            while (cursor.nextObs()) {
+            }
+        }
+    }
+
+    private static Structure getStructure() throws IOException {
+        List<Structure> list = SdmxXmlStreams.struct21(ANY).parseStream(SdmxXmlSources.ECB_DATA_STRUCTURE::openStream);
+        return list.get(0);
+    }
+}
@@ -4,6 +4,7 @@ import lombok.NonNull;
 import nbbrd.io.http.HttpContext;
 import nbbrd.io.http.HttpEventListener;
 import nbbrd.io.http.HttpRequest;
+import nbbrd.io.http.StreamDecoder;
 import nbbrd.io.net.MediaType;
 import org.junit.jupiter.api.Test;
 import sdmxdl.provider.web.DriverProperties;
@@ -11,11 +12,18 @@ import sdmxdl.web.WebSource;
 import sdmxdl.web.spi.WebContext;
 import tests.sdmxdl.web.spi.DriverAssert;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import static java.net.Proxy.NO_PROXY;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static nbbrd.io.http.HttpAuthScheme.BASIC;
 import static nbbrd.io.http.HttpAuthScheme.NONE;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -102,6 +110,45 @@ public class RiHttpUtilsTest {
         assertThat(events.pop()).containsExactly(new Event(source, "Authenticating http://localhost with 'BASIC'"));
     }
 
+    @Test
+    public void testDecoders() throws IOException {
+        MockedSdmxWebListener events = new MockedSdmxWebListener();
+
+        WebContext webContext = WebContext
+                .builder()
+                .onEvent(source -> (marker, message) -> events.onSourceEvent(source, marker, message))
+                .build();
+
+        assertThat(RiHttpUtils.newContext(source, webContext).getDecoders())
+                .extracting(StreamDecoder::getName)
+                .containsExactly("gzip", "deflate");
+
+        assertThat(RiHttpUtils.newContext(source.toBuilder().property(RiHttpUtils.ENCODINGS_PROPERTY.getKey(), " DEFLATE ,br").build(), webContext).getDecoders())
+                .extracting(StreamDecoder::getName)
+                .containsExactly("deflate");
+
+        assertThat(RiHttpUtils.newContext(source.toBuilder().property(RiHttpUtils.ENCODINGS_PROPERTY.getKey(), "").build(), webContext).getDecoders())
+                .isEmpty();
+
+        byte[] content = String.join("", Collections.nCopies(100, "hello")).getBytes(UTF_8);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(encoded)) {
+            output.write(content);
+        }
+
+        StreamDecoder gzip = RiHttpUtils.newContext(source, webContext).getDecoders().get(0);
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        try (InputStream input = gzip.decode(new ByteArrayInputStream(encoded.toByteArray()))) {
+            byte[] buffer = new byte[64];
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                decoded.write(buffer, 0, n);
+            }
+        }
+        assertThat(decoded.toByteArray()).isEqualTo(content);
+        assertThat(events.pop()).containsExactly(new Event(source, "Decoded 'gzip' content from " + encoded.size() + " to " + content.length + " bytes"));
+    }
+
     @lombok.Value
     private static class Event {
 
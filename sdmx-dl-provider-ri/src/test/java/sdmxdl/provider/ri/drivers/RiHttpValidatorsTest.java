@@ -0,0 +1,145 @@
+package sdmxdl.provider.ri.drivers;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import nbbrd.io.http.DefaultHttpClient;
+import nbbrd.io.http.HttpContext;
+import nbbrd.io.http.URLConnectionFactory;
+import org.junit.jupiter.api.Test;
+import sdmxdl.Feature;
+import sdmxdl.Flow;
+import sdmxdl.Languages;
+import sdmxdl.format.ObsParser;
+import sdmxdl.provider.Conditional;
+import sdmxdl.provider.Marker;
+import tests.sdmxdl.format.xml.SdmxXmlSources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.EnumSet;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static sdmxdl.provider.ri.drivers.RiHttpValidators.*;
+
+public class RiHttpValidatorsTest {
+
+    @Test
+    public void testValidators() {
+        assertThat(Validators.parse(""))
+                .isEqualTo(Validators.NONE)
+                .returns(true, Validators::isEmpty)
+                .returns("", Validators::format);
+
+        Validators both = new Validators("\"abc\"", "Wed, 21 Oct 2015 07:28:00 GMT");
+        assertThat(Validators.parse(both.format())).isEqualTo(both);
+
+        Validators entityTagOnly = new Validators("\"abc\"", null);
+        assertThat(Validators.parse(entityTagOnly.format())).isEqualTo(entityTagOnly);
+
+        Validators lastModifiedOnly = new Validators(null, "Wed, 21 Oct 2015 07:28:00 GMT");
+        assertThat(Validators.parse(lastModifiedOnly.format())).isEqualTo(lastModifiedOnly);
+    }
+
+    @Test
+    public void testConditionalRequest() throws IOException {
+        WireMockServer server = new WireMockServer(options().dynamicPort().gzipDisabled(true));
+        server.stubFor(get(anyUrl())
+                .willReturn(aResponse()
+                        .withStatus(HTTP_OK)
+                        .withHeader("Content-Type", "application/xml")
+                        .withHeader(ETAG_HEADER, "\"v1\"")
+                        .withBody(readAllBytes(SdmxXmlSources.ECB_DATAFLOWS.openStream()))));
+        server.stubFor(get(anyUrl())
+                .withHeader(IF_NONE_MATCH_HEADER, equalTo("\"v1\""))
+                .willReturn(aResponse()
+                        .withStatus(HTTP_NOT_MODIFIED)));
+        server.start();
+        try {
+            RiRestClient client = of(new URL(server.baseUrl()));
+
+            Conditional<List<Flow>> first = client.getFlows("");
+            assertThat(first.isNotModified()).isFalse();
+            assertThat(first.getValue()).isNotEmpty();
+            assertThat(first.getValidators()).isEqualTo(new Validators("\"v1\"", null).format());
+
+            Conditional<List<Flow>> second = client.getFlows(first.getValidators());
+            assertThat(second.isNotModified()).isTrue();
+
+            Conditional<List<Flow>> third = client.getFlows(new Validators("\"v0\"", null).format());
+            assertThat(third.isNotModified()).isFalse();
+            assertThat(third.getValue()).isEqualTo(first.getValue());
+
+            server.verify(1, getRequestedFor(anyUrl()).withHeader(IF_NONE_MATCH_HEADER, equalTo("\"v1\"")));
+            server.verify(1, getRequestedFor(anyUrl()).withoutHeader(IF_NONE_MATCH_HEADER));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testConditionalRequestWithError() throws IOException {
+        WireMockServer server = new WireMockServer(options().dynamicPort().gzipDisabled(true));
+        server.stubFor(get(anyUrl())
+                .willReturn(aResponse()
+                        .withStatus(HTTP_OK)
+                        .withHeader("Content-Type", "application/xml")
+                        .withBody(readAllBytes(SdmxXmlSources.ECB_DATAFLOWS.openStream()))));
+        server.stubFor(get(anyUrl())
+                .withHeader(IF_NONE_MATCH_HEADER, equalTo("\"v1\""))
+                .willReturn(aResponse()
+                        .withStatus(HTTP_UNAVAILABLE)));
+        server.start();
+        try {
+            RiRestClient client = of(new URL(server.baseUrl()));
+
+            assertThatIOException()
+                    .as("Errors other than not-modified should not be reported as not modified")
+                    .isThrownBy(() -> client.getFlows(new Validators("\"v1\"", null).format()));
+
+            assertThat(client.getFlows("").isNotModified()).isFalse();
+
+            server.verify(1, getRequestedFor(anyUrl()).withHeader(IF_NONE_MATCH_HEADER, equalTo("\"v1\"")));
+            server.verify(1, getRequestedFor(anyUrl()).withoutHeader(IF_NONE_MATCH_HEADER));
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static RiRestClient of(URL endpoint) {
+        HttpContext context = HttpContext
+                .builder()
+                .urlConnectionFactory(() -> withValidators(URLConnectionFactory.getDefault()))
+                .build();
+        return new RiRestClient(
+                Marker.parse("abc"),
+                endpoint,
+                Languages.ANY,
+                ObsParser::newDefault,
+                new DefaultHttpClient(context),
+                Sdmx21RestQueries.DEFAULT,
+                Sdmx21RestParsers.DEFAULT,
+                Sdmx21RestErrors.DEFAULT,
+                EnumSet.of(Feature.DATA_QUERY_ALL_KEYWORD, Feature.DATA_QUERY_DETAIL)
+        );
+    }
+
+    private static byte[] readAllBytes(InputStream input) throws IOException {
+        try (InputStream stream = input) {
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = stream.read(buffer)) != -1) {
+                result.write(buffer, 0, n);
+            }
+            return result.toByteArray();
+        }
+    }
+}
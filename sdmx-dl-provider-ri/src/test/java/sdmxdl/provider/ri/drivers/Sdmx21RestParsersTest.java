@@ -13,16 +13,24 @@ import tests.sdmxdl.api.ByteSource;
 import tests.sdmxdl.api.RepoSamples;
 import tests.sdmxdl.format.xml.SdmxXmlSources;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
 import static nbbrd.io.net.MediaType.ANY_TYPE;
+import static nbbrd.io.xml.Xml.APPLICATION_XML_UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
 import static sdmxdl.Languages.ANY;
 import static sdmxdl.provider.ri.drivers.Sdmx21RestParsers.*;
@@ -66,6 +74,84 @@ public class Sdmx21RestParsersTest {
         testContent(extractor, XmlMediaTypes.GENERIC_DATA_21, SdmxXmlSources.ECB_DATA);
     }
 
+    @Test
+    public void testProbingDataParser() throws IOException {
+        Structure structure = SdmxXmlStreams.struct21(ANY).andThen(list -> list.get(0)).parseStream(SdmxXmlSources.ECB_DATA_STRUCTURE::openStream);
+        for (MediaType type : asList(APPLICATION_XML_UTF_8, XmlMediaTypes.GENERIC_DATA_21, XmlMediaTypes.STRUCTURE_SPECIFIC_DATA_21)) {
+            assertThat(Sdmx21RestParsers.DEFAULT.getDataParser(type.withoutParameters(), structure, ObsParser::newDefault))
+                    .isInstanceOf(ProbingDataParser.class);
+        }
+
+        Xml.Parser<DataCursor> generic = failingWithLength("generic");
+        Xml.Parser<DataCursor> structureSpecific = failingWithLength("structure-specific");
+        for (Xml.Parser<DataCursor> fallback : asList(generic, structureSpecific)) {
+            ProbingDataParser x = new ProbingDataParser(generic, structureSpecific, fallback);
+            assertThatIOException()
+                    .as("Generic content should be detected whatever the declared type")
+                    .isThrownBy(() -> x.parseStream(SdmxXmlSources.OTHER_GENERIC21::openStream))
+                    .withMessage("generic:" + lengthOf(SdmxXmlSources.OTHER_GENERIC21));
+            assertThatIOException()
+                    .as("Structure-specific content should be detected whatever the declared type")
+                    .isThrownBy(() -> x.parseStream(SdmxXmlSources.OTHER_COMPACT21::openStream))
+                    .withMessage("structure-specific:" + lengthOf(SdmxXmlSources.OTHER_COMPACT21));
+            assertThatIOException()
+                    .isThrownBy(() -> x.parseReader(() -> new InputStreamReader(SdmxXmlSources.OTHER_COMPACT21.openStream(), StandardCharsets.UTF_8)))
+                    .withMessageStartingWith("structure-specific:");
+            assertThatIOException()
+                    .isThrownBy(() -> x.parseStream(SdmxXmlSources.OTHER_GENERIC21::openStream, StandardCharsets.UTF_8))
+                    .withMessageStartingWith("generic:");
+        }
+
+        assertThatIOException()
+                .isThrownBy(() -> new ProbingDataParser(generic, structureSpecific, generic).parseStream(() -> new ByteArrayInputStream(new byte[0])))
+                .withMessage("generic:0");
+        assertThatIOException()
+                .isThrownBy(() -> new ProbingDataParser(generic, structureSpecific, structureSpecific).parseStream(() -> new ByteArrayInputStream(new byte[0])))
+                .withMessage("structure-specific:0");
+    }
+
+    private static Xml.Parser<DataCursor> failingWithLength(String name) {
+        return new Xml.Parser<DataCursor>() {
+            @Override
+            public boolean isIgnoreXXE() {
+                return false;
+            }
+
+            @Override
+            public DataCursor parseReader(Reader resource) throws IOException {
+                long result = 0;
+                while (resource.read() != -1) {
+                    result++;
+                }
+                throw new IOException(name + ":" + result);
+            }
+
+            @Override
+            public DataCursor parseStream(InputStream resource, Charset encoding) throws IOException {
+                return parseReader(new InputStreamReader(resource, encoding));
+            }
+
+            @Override
+            public DataCursor parseStream(InputStream resource) throws IOException {
+                throw new IOException(name + ":" + lengthOf(resource));
+            }
+        };
+    }
+
+    private static long lengthOf(ByteSource source) throws IOException {
+        try (InputStream stream = source.openStream()) {
+            return lengthOf(stream);
+        }
+    }
+
+    private static long lengthOf(InputStream stream) throws IOException {
+        long result = 0;
+        while (stream.read() != -1) {
+            result++;
+        }
+        return result;
+    }
+
     private static DataSet toDataSet(DataCursor cursor) throws IOException {
         try (Stream<Series> stream = cursor.asCloseableStream()) {
             return stream.collect(DataSet.toDataSet(FlowRef.parse("abc"), Query.ALL));
@@ -23,6 +23,8 @@ import sdmxdl.*;
 import sdmxdl.provider.DataRef;
 
 import java.net.URL;
+import java.time.Instant;
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
@@ -97,6 +99,27 @@ public class Sdmx21RestQueriesTest {
                 .hasToString("http://base/data/ECB%2CEXR%2C1.0/all/all/");
     }
 
+    @Test
+    public void testGetDataQueryWithObsRange() {
+        Assertions.assertThat(Sdmx21RestQueries.DEFAULT)
+                .satisfies(x -> {
+                    assertThat(x.getDataQuery(base, DataRef.of(specificFlow, newDataQuery(key, FULL).toBuilder().startPeriod(LocalDateTime.of(2020, 1, 1, 0, 0)).build()), ignoreDsdRef))
+                            .hasToString("http://base/data/ECB%2CEXR%2C1.0/D.NOK.EUR.SP00.A/all?startPeriod=2020-01-01");
+
+                    assertThat(x.getDataQuery(base, DataRef.of(specificFlow, newDataQuery(key, FULL).toBuilder().endPeriod(LocalDateTime.of(2020, 12, 31, 12, 30)).build()), ignoreDsdRef))
+                            .hasToString("http://base/data/ECB%2CEXR%2C1.0/D.NOK.EUR.SP00.A/all?endPeriod=2020-12-31T12%3A30");
+
+                    assertThat(x.getDataQuery(base, DataRef.of(specificFlow, newDataQuery(key, SERIES_KEYS_ONLY).toBuilder().firstNObservations(1).lastNObservations(12).build()), ignoreDsdRef))
+                            .hasToString("http://base/data/ECB%2CEXR%2C1.0/D.NOK.EUR.SP00.A/all?detail=serieskeysonly&firstNObservations=1&lastNObservations=12");
+                });
+    }
+
+    @Test
+    public void testGetDataQueryWithUpdatedAfter() {
+        assertThat(Sdmx21RestQueries.DEFAULT.getDataQuery(base, DataRef.of(specificFlow, newDataQuery(key, FULL).toBuilder().updatedAfter(Instant.parse("2020-01-02T03:04:05.678Z")).build()), ignoreDsdRef))
+                .hasToString("http://base/data/ECB%2CEXR%2C1.0/D.NOK.EUR.SP00.A/all?updatedAfter=2020-01-02T03%3A04%3A05Z");
+    }
+
     private final URL base = Parser.onURL().parseValue("http://base").orElseThrow(RuntimeException::new);
     private final FlowRef specificFlow = FlowRef.of("ECB", "EXR", "1.0");
     private final FlowRef genericFlow = FlowRef.of(null, "EXR", null);
@@ -19,7 +19,11 @@ package sdmxdl.provider.ri.readers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import sdmxdl.*;
+import sdmxdl.ext.Cache;
 import sdmxdl.file.FileSource;
+import sdmxdl.format.MemCache;
+import sdmxdl.format.ObsParser;
+import sdmxdl.format.xml.SdmxXmlStreams;
 import sdmxdl.format.xml.XmlMediaTypes;
 import sdmxdl.provider.DataRef;
 import sdmxdl.provider.file.FileClient;
@@ -35,8 +39,12 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIOException;
 import static sdmxdl.Languages.ANY;
@@ -95,6 +103,96 @@ public class XmlFileClientTest {
         );
     }
 
+    @Test
+    public void testSeriesIndex(@TempDir Path temp) throws IOException {
+        File ecb = temp.resolve("ecb.xml").toFile();
+        SdmxXmlSources.ECB_DATA.copyTo(ecb);
+
+        FileSource source = sourceOf(ecb);
+        List<String> events = new ArrayList<>();
+        Cache<DataRepository> cache = MemCache.<DataRepository>builder().build();
+        FileClient indexed = new XmlFileClient(source, ANY, DECODER, null, (marker, message) -> events.add(message.toString()), cache, false);
+        FileClient reference = new XmlFileClient(source, ANY, DECODER, null, null);
+
+        FileInfo info = reference.decode();
+
+        for (Key key : new Key[]{
+                Key.parse("A.DEU.1.0.319.0.UBLGE"),
+                Key.parse("A.DEU+FRA.1.0.319.0.UBLGE"),
+                Key.parse("A..1.0.319.0."),
+                Key.parse("A.BEL.1.0.319.0.UBLGE"),
+                Key.parse("Q..1.0.319.0."),
+                Key.parse("A.DEU")}) {
+            for (Detail detail : Detail.values()) {
+                Query query = Query.builder().key(key).detail(detail).build();
+                assertThat(loadAll(indexed, info, source, query))
+                        .describedAs("%s %s", key, detail)
+                        .containsExactlyElementsOf(loadAll(reference, info, source, query));
+            }
+        }
+
+        assertThat(loadAll(indexed, info, source, Query.builder().key(Key.parse("A.DEU.1.0.319.0.UBLGE")).build()))
+                .singleElement()
+                .extracting(series -> series.getObs().size())
+                .isEqualTo(loadAll(reference, info, source, Query.builder().key(Key.parse("A.DEU.1.0.319.0.UBLGE")).build()).get(0).getObs().size());
+
+        assertThat(events)
+                .filteredOn(event -> event.startsWith("Building series index"))
+                .hasSize(1);
+
+        assertThat(ecb.setLastModified(ecb.lastModified() - 60_000)).isTrue();
+        loadAll(indexed, info, source, Query.builder().key(Key.parse("A.DEU.1.0.319.0.UBLGE")).build());
+
+        assertThat(events)
+                .describedAs("Index must be rebuilt when the file is modified")
+                .filteredOn(event -> event.startsWith("Building series index"))
+                .hasSize(2);
+    }
+
+    @Test
+    public void testMappedInput(@TempDir Path temp) throws IOException {
+        File ecb = temp.resolve("ecb.xml").toFile();
+        SdmxXmlSources.ECB_DATA.copyTo(ecb);
+
+        FileSource source = sourceOf(ecb);
+        FileClient mapped = new XmlFileClient(source, ANY, DECODER, null, null, null, true);
+        FileClient reference = new XmlFileClient(source, ANY, DECODER, null, null);
+
+        FileInfo info = reference.decode();
+
+        for (Query query : new Query[]{Query.ALL, Query.builder().key(Key.parse("A.DEU.1.0.319.0.UBLGE")).build()}) {
+            assertThat(loadAll(mapped, info, source, query))
+                    .hasSize(loadAll(reference, info, source, query).size())
+                    .containsExactlyElementsOf(loadAll(reference, info, source, query));
+        }
+    }
+
+    @Test
+    public void testSeriesIndexLayout(@TempDir Path temp) throws IOException {
+        File compact20 = temp.resolve("compact20.xml").toFile();
+        SdmxXmlSources.OTHER_COMPACT20.copyTo(compact20);
+        Structure dsd = DECODER.decode(sourceOf(compact20), ANY).getStructure();
+
+        XmlSeriesIndex index = XmlSeriesIndex.build(compact20, SdmxXmlStreams.compactData20(dsd, ObsParser::newDefault));
+        assertThat(index.isUsable()).isTrue();
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.select(Key.ALL).cardinality()).isEqualTo(4);
+        assertThat(XmlSeriesIndex.fromDataSet(index.toDataSet()).toDataSet()).isEqualTo(index.toDataSet());
+
+        String content = new String(Files.readAllBytes(compact20.toPath()), UTF_8);
+        Files.write(compact20.toPath(), content.replace("</bisc:Series>\n\t\t<bisc:Series", "</bisc:Series><!-- series --><bisc:Series").getBytes(UTF_8));
+
+        assertThat(XmlSeriesIndex.build(compact20, SdmxXmlStreams.compactData20(dsd, ObsParser::newDefault)).isUsable())
+                .describedAs("Series separated by other content are not contiguous")
+                .isFalse();
+    }
+
+    private static List<Series> loadAll(FileClient client, FileInfo info, FileSource source, Query query) throws IOException {
+        try (Stream<Series> stream = client.loadData(info, DataRef.of(source.asDataflowRef(), query))) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
     @Test
     public void testTestClient(@TempDir Path temp) throws IOException {
         File compact21 = temp.resolve("compact21").toFile();
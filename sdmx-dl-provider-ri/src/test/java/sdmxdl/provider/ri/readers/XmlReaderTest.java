@@ -2,7 +2,10 @@ package sdmxdl.provider.ri.readers;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import sdmxdl.*;
 import sdmxdl.file.FileSource;
+import sdmxdl.file.spi.FileContext;
+import sdmxdl.format.MemCachingSupport;
 import sdmxdl.format.xml.XmlFileSource;
 import tests.sdmxdl.file.spi.ReaderAssert;
 import tests.sdmxdl.format.xml.SdmxXmlSources;
@@ -10,6 +13,11 @@ import tests.sdmxdl.format.xml.SdmxXmlSources;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class XmlReaderTest {
 
@@ -35,4 +43,76 @@ public class XmlReaderTest {
                         .build()
         );
     }
+
+    @Test
+    public void testConcurrentConnections(@TempDir Path temp) throws Exception {
+        File compact21 = temp.resolve("valid.xml").toFile();
+        SdmxXmlSources.OTHER_COMPACT21.copyTo(compact21);
+        FileSource source = FileSource.builder().data(compact21).build();
+
+        CountDownLatch missed = new CountDownLatch(2);
+        Map<String, DataRepository> repositories = new ConcurrentHashMap<String, DataRepository>() {
+            @Override
+            public DataRepository get(Object key) {
+                DataRepository result = super.get(key);
+                if (result == null) {
+                    missed.countDown();
+                }
+                return result;
+            }
+        };
+
+        AtomicInteger decodes = new AtomicInteger();
+        FileContext context = FileContext
+                .builder()
+                .caching(MemCachingSupport.builder().id("MEM").repositories(() -> repositories).build())
+                .onEvent(ignore -> (marker, message) -> {
+                    if (message.toString().startsWith("Probing data type")) {
+                        decodes.incrementAndGet();
+                        // lets the other connection miss the cache and wait for this decoding
+                        await(missed);
+                        sleep();
+                    }
+                })
+                .build();
+
+        assertThat(context.getReaderCache(source))
+                .isSameAs(context.getReaderCache(source));
+
+        XmlReader x = new XmlReader();
+        Callable<MetaSet> task = () -> {
+            try (Connection connection = x.read(source, Languages.ANY, context)) {
+                return connection.getMeta(DatabaseRef.NO_DATABASE, source.asDataflowRef());
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<MetaSet> first = executor.submit(task);
+            Future<MetaSet> second = executor.submit(task);
+            assertThat(first.get()).isEqualTo(second.get());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(decodes)
+                .describedAs("Concurrent connections on the same file should decode it once")
+                .hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(500);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -29,7 +29,8 @@ public class RuntimeDependenciesTest {
                 .satisfies(RuntimeDependenciesTest::checkJavaNetProxy)
                 .satisfies(RuntimeDependenciesTest::checkKryo5)
                 .satisfies(RuntimeDependenciesTest::checkMsal)
-                .hasSize(25);
+                .satisfies(RuntimeDependenciesTest::checkAircompressor)
+                .hasSize(26);
     }
 
     private static void checkJavaIoUtil(List<? extends DependencyResolver.GAV> coordinates) {
@@ -112,6 +113,12 @@ public class RuntimeDependenciesTest {
                 .containsExactlyInAnyOrder("slf4j-api", "slf4j-jdk14");
     }
 
+    private static void checkAircompressor(List<? extends DependencyResolver.GAV> coordinates) {
+        assertThatGroupId(coordinates, "io.airlift")
+                .extracting(DependencyResolver.GAV::getArtifactId)
+                .containsExactlyInAnyOrder("aircompressor");
+    }
+
     private static ListAssert<? extends DependencyResolver.GAV> assertThatGroupId(List<? extends DependencyResolver.GAV> coordinates, String groupId) {
         return assertThat(coordinates)
                 .describedAs("Check " + groupId)